@@ -54,4 +54,37 @@ public @interface ContainerCache {
      * @since 2.4.0
      */
     TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+
+    /**
+     * Whether to cache a sentinel value for the keys that have no data,
+     * so these keys will not be queried from the container again before the sentinel is expired.
+     *
+     * @return whether to cache null values
+     * @see #nullValueExpirationTime()
+     * @since 2.6.0
+     */
+    boolean cacheNullValue() default false;
+
+    /**
+     * The time to live of the cached null values, the time unit is same as {@link #timeUnit()},
+     * default to -1L, which means same as {@link #expirationTime()}.
+     *
+     * @return time to live of null values
+     * @see #cacheNullValue()
+     * @since 2.6.0
+     */
+    long nullValueExpirationTime() default -1L;
+
+    /**
+     * <p>The time after which the cached values will be refreshed,
+     * the time unit is same as {@link #timeUnit()},
+     * default to -1L, which means never refresh.<br />
+     * The values which are written longer than it will still be returned immediately,
+     * and reloaded from the container in background,
+     * only the values which are expired by {@link #expirationTime()} need to wait for loading.
+     *
+     * @return refresh time
+     * @since 2.6.0
+     */
+    long refreshAfterWriteTime() default -1L;
 }
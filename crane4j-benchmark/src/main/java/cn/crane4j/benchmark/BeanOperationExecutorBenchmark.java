@@ -0,0 +1,95 @@
+package cn.crane4j.benchmark;
+
+import cn.crane4j.core.executor.AsyncBeanOperationExecutor;
+import cn.crane4j.core.executor.BeanOperationExecutor;
+import cn.crane4j.core.executor.DisorderedBeanOperationExecutor;
+import cn.crane4j.core.executor.OrderedBeanOperationExecutor;
+import cn.crane4j.core.parser.BeanOperationParser;
+import cn.crane4j.core.parser.BeanOperations;
+import cn.crane4j.core.support.Crane4jGlobalSorter;
+import cn.crane4j.core.support.SimpleCrane4jGlobalConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Benchmarks of {@link BeanOperationExecutor}.<br />
+ * Each invocation fills all targets of the specified {@link BenchmarkFixtures.Scenario}
+ * through the specified executor, the result of benchmark includes the cost of
+ * disassembling, grouping, querying containers and mapping properties.
+ *
+ * @author huangchengxing
+ * @see BenchmarkFixtures.Scenario
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BeanOperationExecutorBenchmark {
+
+    @Param({"1", "100", "10000", "100000"})
+    private int size;
+
+    @Param({"ONE_TO_ONE", "ONE_TO_MANY", "MANY_TO_MANY", "NESTED", "CACHED"})
+    private BenchmarkFixtures.Scenario scenario;
+
+    @Param({"disordered", "ordered", "async"})
+    private String executorType;
+
+    private ExecutorService threadPool;
+    private BeanOperationExecutor executor;
+    private BeanOperations operations;
+    private List<Object> targets;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SimpleCrane4jGlobalConfiguration configuration = BenchmarkFixtures.createConfiguration();
+        BeanOperationParser parser = configuration.getBeanOperationsParser(null, BeanOperationParser.class);
+        operations = scenario.parse(parser);
+        targets = scenario.createTargets(size);
+        switch (executorType) {
+            case "ordered":
+                executor = new OrderedBeanOperationExecutor(configuration, Crane4jGlobalSorter.comparator());
+                break;
+            case "async":
+                threadPool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+                AsyncBeanOperationExecutor asyncExecutor = new AsyncBeanOperationExecutor(configuration, threadPool);
+                asyncExecutor.setBatchSize(1000);
+                executor = asyncExecutor;
+                break;
+            default:
+                executor = new DisorderedBeanOperationExecutor(configuration);
+                break;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (threadPool != null) {
+            threadPool.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public List<Object> execute() {
+        executor.execute(targets, operations);
+        return targets;
+    }
+}
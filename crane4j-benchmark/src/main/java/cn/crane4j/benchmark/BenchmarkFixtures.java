@@ -0,0 +1,220 @@
+package cn.crane4j.benchmark;
+
+import cn.crane4j.annotation.Assemble;
+import cn.crane4j.annotation.Disassemble;
+import cn.crane4j.annotation.Mapping;
+import cn.crane4j.core.cache.CacheDefinition;
+import cn.crane4j.core.cache.CacheableContainer;
+import cn.crane4j.core.cache.MapCacheManager;
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.Containers;
+import cn.crane4j.core.parser.BeanOperationParser;
+import cn.crane4j.core.parser.BeanOperations;
+import cn.crane4j.core.support.SimpleCrane4jGlobalConfiguration;
+import lombok.Data;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Accessors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * <p>Shared fixtures of benchmarks, including containers, beans and
+ * the scenarios which are used to create targets and resolve {@link BeanOperations}.
+ *
+ * <p>All containers create their data on demand according to the input keys,
+ * it's similar to a data source which always executes an {@code IN} query,
+ * so the cost of the container itself is proportional to the number of keys.
+ *
+ * @author huangchengxing
+ */
+public class BenchmarkFixtures {
+
+    /**
+     * namespace of the container which return a single source object for each key.
+     */
+    public static final String USER_CONTAINER = "user";
+
+    /**
+     * namespace of the container which return a list of source objects for each key.
+     */
+    public static final String ITEM_CONTAINER = "item";
+
+    /**
+     * namespace of the cached container which return a single source object for each key.
+     */
+    public static final String CACHED_USER_CONTAINER = "cached-user";
+
+    /**
+     * number of distinct keys, the key of target will be {@code index % KEY_RANGE}.
+     */
+    public static final int KEY_RANGE = 1024;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Create a configuration with containers required by benchmarks.
+     *
+     * @return configuration
+     */
+    public static SimpleCrane4jGlobalConfiguration createConfiguration() {
+        SimpleCrane4jGlobalConfiguration configuration = SimpleCrane4jGlobalConfiguration.create();
+        configuration.registerContainer(createUserContainer(USER_CONTAINER));
+        configuration.registerContainer(Containers.forLambda(ITEM_CONTAINER, keys -> {
+            Map<Object, Object> results = new HashMap<>(keys.size());
+            keys.forEach(k -> results.put(k, createItems(k)));
+            return results;
+        }));
+        Container<Object> cached = new CacheableContainer<>(
+            createUserContainer(CACHED_USER_CONTAINER),
+            new CacheDefinition.Impl(CACHED_USER_CONTAINER, null, -1L, TimeUnit.MILLISECONDS),
+            MapCacheManager.newConcurrentHashMapCacheManager()
+        );
+        configuration.registerContainer(cached);
+        return configuration;
+    }
+
+    private static Container<Object> createUserContainer(String namespace) {
+        return Containers.forLambda(namespace, keys -> {
+            Map<Object, Object> results = new HashMap<>(keys.size());
+            keys.forEach(k -> results.put(k, new Source(k, "name" + k)));
+            return results;
+        });
+    }
+
+    private static List<Source> createItems(Object key) {
+        List<Source> items = new ArrayList<>(3);
+        for (int i = 0; i < 3; i++) {
+            items.add(new Source(key, "item" + key + "-" + i));
+        }
+        return items;
+    }
+
+    /**
+     * Assembly scenarios.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Scenario {
+
+        /**
+         * one-to-one mapping by {@code OneToOneAssembleOperationHandler}.
+         */
+        ONE_TO_ONE(OneToOneBean.class, i -> new OneToOneBean().setId(i % KEY_RANGE)),
+
+        /**
+         * one-to-many mapping by {@code OneToManyAssembleOperationHandler}.
+         */
+        ONE_TO_MANY(OneToManyBean.class, i -> new OneToManyBean().setId(i % KEY_RANGE)),
+
+        /**
+         * many-to-many mapping by {@code ManyToManyAssembleOperationHandler}.
+         */
+        MANY_TO_MANY(ManyToManyBean.class, i -> new ManyToManyBean()
+            .setIds((i % KEY_RANGE) + "," + ((i + 1) % KEY_RANGE) + "," + ((i + 2) % KEY_RANGE))),
+
+        /**
+         * one-to-one mapping with two levels of nested objects declared by {@link Disassemble}.
+         */
+        NESTED(NestedBean.class, i -> {
+            List<OneToOneBean> children = new ArrayList<>(2);
+            children.add(new OneToOneBean().setId((i + 1) % KEY_RANGE));
+            children.add(new OneToOneBean().setId((i + 2) % KEY_RANGE));
+            return new NestedBean().setId(i % KEY_RANGE).setChildren(children);
+        }),
+
+        /**
+         * one-to-one mapping with a cached container.
+         */
+        CACHED(CachedBean.class, i -> new CachedBean().setId(i % KEY_RANGE));
+
+        private final Class<?> beanType;
+        private final IntFunction<Object> factory;
+
+        /**
+         * Create targets of this scenario.
+         *
+         * @param size size
+         * @return targets
+         */
+        public List<Object> createTargets(int size) {
+            List<Object> targets = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                targets.add(factory.apply(i));
+            }
+            return targets;
+        }
+
+        /**
+         * Parse operations of this scenario.
+         *
+         * @param parser parser
+         * @return operations
+         */
+        public BeanOperations parse(BeanOperationParser parser) {
+            return parser.parse(beanType);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Source {
+        private final Object id;
+        private final String name;
+    }
+
+    @Accessors(chain = true)
+    @Data
+    public static class OneToOneBean {
+        @Assemble(container = USER_CONTAINER, props = @Mapping(src = "name", ref = "name"))
+        private Integer id;
+        private String name;
+    }
+
+    @Accessors(chain = true)
+    @Data
+    public static class OneToManyBean {
+        @Assemble(
+            container = ITEM_CONTAINER, props = @Mapping(src = "name", ref = "names"),
+            handler = "OneToManyAssembleOperationHandler"
+        )
+        private Integer id;
+        private List<String> names;
+    }
+
+    @Accessors(chain = true)
+    @Data
+    public static class ManyToManyBean {
+        @Assemble(
+            container = USER_CONTAINER, props = @Mapping(src = "name", ref = "names"),
+            handler = "ManyToManyAssembleOperationHandler", keyType = Integer.class
+        )
+        private String ids;
+        private List<String> names;
+    }
+
+    @Accessors(chain = true)
+    @Data
+    public static class NestedBean {
+        @Assemble(container = USER_CONTAINER, props = @Mapping(src = "name", ref = "name"))
+        private Integer id;
+        private String name;
+        @Disassemble(type = OneToOneBean.class)
+        private List<OneToOneBean> children = Collections.emptyList();
+    }
+
+    @Accessors(chain = true)
+    @Data
+    public static class CachedBean {
+        @Assemble(container = CACHED_USER_CONTAINER, props = @Mapping(src = "name", ref = "name"))
+        private Integer id;
+        private String name;
+    }
+}
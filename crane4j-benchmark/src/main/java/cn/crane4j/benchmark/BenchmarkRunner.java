@@ -0,0 +1,40 @@
+package cn.crane4j.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>Entry of benchmarks.<br />
+ * It accepts all command line options of JMH, and always enables the {@link GCProfiler}
+ * to report the allocation rate, the results will be written to {@code crane4j-benchmark.json}
+ * unless another result file is specified by {@code -rff}.
+ *
+ * <p>for example:
+ * <pre>{@code
+ * java -jar crane4j-benchmark/target/benchmarks.jar BeanOperationExecutorBenchmark -p size=10000
+ * }</pre>
+ *
+ * @author huangchengxing
+ */
+public class BenchmarkRunner {
+
+    private static final String DEFAULT_RESULT_FILE = "crane4j-benchmark.json";
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder builder = new OptionsBuilder()
+            .parent(commandLineOptions)
+            .addProfiler(GCProfiler.class);
+        if (!commandLineOptions.getResult().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON)
+                .result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(builder.build()).run();
+    }
+}
@@ -0,0 +1,85 @@
+package cn.crane4j.benchmark;
+
+import cn.crane4j.core.support.converter.HutoolConverterManager;
+import cn.crane4j.core.support.reflect.AsmReflectivePropertyOperator;
+import cn.crane4j.core.support.reflect.MethodHandlePropertyOperator;
+import cn.crane4j.core.support.reflect.PropDesc;
+import cn.crane4j.core.support.reflect.PropertyOperator;
+import cn.crane4j.core.support.reflect.ReflectivePropertyOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Benchmarks of {@link PropertyOperator} implementations.<br />
+ * Both the path through {@link PropertyOperator} which resolve the {@link PropDesc} on each call,
+ * and the path through the {@link PropDesc} which has been resolved are measured.
+ *
+ * @author huangchengxing
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertyOperatorBenchmark {
+
+    @Param({"reflective", "asm", "methodHandle"})
+    private String operatorType;
+
+    private PropertyOperator operator;
+    private PropDesc propDesc;
+    private BenchmarkFixtures.OneToOneBean bean;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HutoolConverterManager converterManager = new HutoolConverterManager();
+        switch (operatorType) {
+            case "asm":
+                operator = new AsmReflectivePropertyOperator(converterManager);
+                break;
+            case "methodHandle":
+                operator = new MethodHandlePropertyOperator(converterManager);
+                break;
+            default:
+                operator = new ReflectivePropertyOperator(converterManager);
+                break;
+        }
+        propDesc = operator.getPropertyDescriptor(BenchmarkFixtures.OneToOneBean.class);
+        bean = new BenchmarkFixtures.OneToOneBean().setId(1).setName("name");
+    }
+
+    @Benchmark
+    public Object readByOperator() {
+        return operator.readProperty(BenchmarkFixtures.OneToOneBean.class, bean, "name");
+    }
+
+    @Benchmark
+    public BenchmarkFixtures.OneToOneBean writeByOperator() {
+        operator.writeProperty(BenchmarkFixtures.OneToOneBean.class, bean, "name", "name");
+        return bean;
+    }
+
+    @Benchmark
+    public Object readByPropDesc() {
+        return propDesc.readProperty(bean, "name");
+    }
+
+    @Benchmark
+    public BenchmarkFixtures.OneToOneBean writeByPropDesc() {
+        propDesc.writeProperty(bean, "name", "name");
+        return bean;
+    }
+}
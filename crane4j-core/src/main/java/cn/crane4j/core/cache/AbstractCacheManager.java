@@ -119,5 +119,40 @@ public abstract class AbstractCacheManager implements CacheManager {
         @Setter
         private volatile boolean invalid = false;
         private final String name;
+
+        /**
+         * Create a null value which will be stored in local cache.
+         *
+         * @param expireTime expire time of null value, non-positive value means never expire
+         * @param timeUnit time unit
+         * @return {@link CacheObject#NULL_VALUE} if never expire, otherwise an {@link ExpirableNullValue}
+         * @since 2.6.0
+         */
+        protected static Object createNullValue(long expireTime, TimeUnit timeUnit) {
+            return expireTime > 0 ?
+                new ExpirableNullValue(System.nanoTime() + timeUnit.toNanos(expireTime)) : NULL_VALUE;
+        }
+    }
+
+    /**
+     * A null value with separated expire time which is stored in local cache,
+     * it should be resolved to {@link CacheObject#NULL_VALUE} before return.
+     *
+     * @author huangchengxing
+     * @since 2.6.0
+     */
+    @RequiredArgsConstructor
+    protected static class ExpirableNullValue {
+
+        private final long deadline;
+
+        /**
+         * Whether the null value is expired.
+         *
+         * @return true if expired
+         */
+        public boolean isExpired() {
+            return System.nanoTime() - deadline >= 0;
+        }
     }
 }
@@ -0,0 +1,242 @@
+package cn.crane4j.core.cache;
+
+import cn.crane4j.core.util.Asserts;
+import cn.crane4j.core.util.CollectionUtils;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import lombok.Setter;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>An implementation of the {@link CacheManager} that
+ * creates size-bounded cache instances what store data in the {@link Cache}.<br />
+ * Unlike {@link GuavaCacheManager.DefaultCacheFactory}, the capacity of each cache is always limited,
+ * either by {@link #maximumSize} or by {@link #maximumWeight} with {@link #weigher},
+ * the least recently used entries will be evicted when the capacity is exceeded.
+ * And the expiry time of cache is always honored, it never switches to weak references.
+ *
+ * <p>The {@link CacheObject#getAll}, {@link CacheObject#putAll} and {@link CacheObject#removeAll}
+ * are implemented by the bulk operations of {@link Cache}.
+ *
+ * @author huangchengxing
+ * @see GuavaCacheManager
+ * @since 2.6.0
+ */
+@Setter
+public class BoundedCacheManager extends AbstractCacheManager {
+
+    /**
+     * default maximum number of entries in each cache
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 10000L;
+
+    /**
+     * Maximum number of entries in each cache,
+     * it's ignored if {@link #maximumWeight} is positive.
+     */
+    private long maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+    /**
+     * Maximum weight of entries in each cache,
+     * non-positive value means the cache is limited by {@link #maximumSize}.
+     */
+    private long maximumWeight = -1L;
+
+    /**
+     * Weigher of entries, it's required if {@link #maximumWeight} is positive,
+     * the null values cached by {@link CacheObject#putNullValues} are always weighted as 1.
+     */
+    @Nullable
+    private Weigher<Object, Object> weigher;
+
+    /**
+     * Create cache instance.
+     *
+     * @param name       cache name
+     * @param expireTime expire time, non-positive value means never expire
+     * @param timeUnit   time unit
+     * @return cache instance
+     */
+    @NonNull
+    @Override
+    protected <K> BoundedCacheObject<K> doCreateCache(String name, Long expireTime, TimeUnit timeUnit) {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder();
+        if (maximumWeight > 0) {
+            Weigher<Object, Object> entryWeigher = weigher;
+            Asserts.isNotNull(entryWeigher, "weigher must not be null when maximum weight is set");
+            builder.maximumWeight(maximumWeight)
+                .weigher((k, v) -> isNullValue(v) ? 1 : entryWeigher.weigh(k, v));
+        } else {
+            Asserts.isTrue(maximumSize > 0, "maximum size must be positive");
+            builder.maximumSize(maximumSize);
+        }
+        if (Objects.nonNull(expireTime) && expireTime > 0) {
+            builder.expireAfterWrite(expireTime, timeUnit);
+        }
+        return new BoundedCacheObject<>(name, builder.build());
+    }
+
+    private static boolean isNullValue(Object value) {
+        return value instanceof ExpirableNullValue || CacheObject.isNullValue(value);
+    }
+
+    /**
+     * A {@link CacheObject} implementation that stores data in the size-bounded {@link Cache}.
+     *
+     * @author huangchengxing
+     * @since 2.6.0
+     */
+    protected static class BoundedCacheObject<K> extends AbstractCacheObject<K> {
+
+        private final Cache<Object, Object> cache;
+
+        public BoundedCacheObject(String name, Cache<Object, Object> cache) {
+            super(name);
+            this.cache = cache;
+        }
+
+        /**
+         * Get the cache according to the key value.
+         *
+         * @param key key
+         * @return cache value
+         */
+        @Nullable
+        @Override
+        public Object get(K key) {
+            return resolveValue(key, cache.getIfPresent(key));
+        }
+
+        /**
+         * Get all cache according to the key values.
+         *
+         * @param keys keys
+         * @return cache value
+         */
+        @SuppressWarnings("unchecked")
+        @Override
+        public Map<K, Object> getAll(Iterable<K> keys) {
+            if (CollectionUtils.isEmpty(keys)) {
+                return Collections.emptyMap();
+            }
+            Map<Object, Object> values = cache.getAllPresent(keys);
+            Map<K, Object> results = new HashMap<>(values.size());
+            values.forEach((key, value) -> {
+                Object resolved = resolveValue(key, value);
+                if (Objects.nonNull(resolved)) {
+                    results.put((K)key, resolved);
+                }
+            });
+            return results;
+        }
+
+        /**
+         * Add cache value.
+         *
+         * @param key   key
+         * @param value value
+         */
+        @Override
+        public void put(K key, Object value) {
+            cache.put(key, value);
+        }
+
+        /**
+         * Add all cache value.
+         *
+         * @param caches caches
+         */
+        @Override
+        public void putAll(Map<K, Object> caches) {
+            if (CollectionUtils.isEmpty(caches)) {
+                return;
+            }
+            cache.putAll(caches);
+        }
+
+        /**
+         * Cache {@link #NULL_VALUE} for the keys that have no data.
+         *
+         * @param keys       keys
+         * @param expireTime expire time of null values, non-positive value means same as other values
+         * @param timeUnit   time unit
+         */
+        @Override
+        public void putNullValues(Collection<K> keys, long expireTime, TimeUnit timeUnit) {
+            Object nullValue = createNullValue(expireTime, timeUnit);
+            keys.forEach(key -> cache.put(key, nullValue));
+        }
+
+        /**
+         * Add cache value if it does not exist.
+         *
+         * @param key   key
+         * @param value cache value
+         */
+        @Override
+        public void putIfAbsent(K key, Object value) {
+            cache.asMap().putIfAbsent(key, value);
+        }
+
+        /**
+         * Remove cache value.
+         *
+         * @param key key
+         */
+        @Override
+        public void remove(K key) {
+            cache.invalidate(key);
+        }
+
+        /**
+         * Remove all cache value.
+         *
+         * @param keys keys
+         */
+        @Override
+        public void removeAll(Iterable<K> keys) {
+            if (CollectionUtils.isEmpty(keys)) {
+                return;
+            }
+            cache.invalidateAll(keys);
+        }
+
+        /**
+         * Clear all cache value.
+         */
+        @Override
+        public void clear() {
+            cache.invalidateAll();
+        }
+
+        /**
+         * Get the number of entries in the cache.
+         *
+         * @return number of entries
+         */
+        public long size() {
+            return cache.size();
+        }
+
+        @Nullable
+        private Object resolveValue(Object key, @Nullable Object value) {
+            if (value instanceof ExpirableNullValue) {
+                if (((ExpirableNullValue)value).isExpired()) {
+                    cache.asMap().remove(key, value);
+                    return null;
+                }
+                return NULL_VALUE;
+            }
+            return value;
+        }
+    }
+}
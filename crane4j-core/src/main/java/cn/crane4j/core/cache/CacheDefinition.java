@@ -44,6 +44,41 @@ public interface CacheDefinition {
      */
     TimeUnit getTimeUnit();
 
+    /**
+     * Whether to cache {@link CacheObject#NULL_VALUE} for the keys that have no data.
+     *
+     * @return true if null values should be cached
+     * @see CacheObject#putNullValues
+     * @since 2.6.0
+     */
+    default boolean isCacheNullValue() {
+        return false;
+    }
+
+    /**
+     * Get the expiry time of null values,
+     * non-positive value means same as other values.
+     *
+     * @return expire time of null values
+     * @since 2.6.0
+     */
+    default Long getNullValueExpireTime() {
+        return -1L;
+    }
+
+    /**
+     * <p>Get the refresh time of this cache, the time unit is same as {@link #getTimeUnit()}.<br />
+     * The cached values which are written longer than it will be returned directly,
+     * and reloaded from container in background,
+     * non-positive value means never refresh.
+     *
+     * @return refresh time
+     * @since 2.6.0
+     */
+    default Long getRefreshAfterWriteTime() {
+        return -1L;
+    }
+
     /**
      * <p>Implementation of {@link CacheDefinition}.
      *
@@ -57,5 +92,12 @@ public interface CacheDefinition {
         private final String cacheManager;
         private final Long expireTime;
         private final TimeUnit timeUnit;
+        private final boolean cacheNullValue;
+        private final Long nullValueExpireTime;
+        private final Long refreshAfterWriteTime;
+
+        public Impl(String name, String cacheManager, Long expireTime, TimeUnit timeUnit) {
+            this(name, cacheManager, expireTime, timeUnit, false, -1L, -1L);
+        }
     }
 }
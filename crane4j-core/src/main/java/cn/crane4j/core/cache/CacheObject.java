@@ -3,10 +3,12 @@ package cn.crane4j.core.cache;
 import cn.crane4j.core.util.CollectionUtils;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A cache object that provides basic cache operations.
@@ -19,6 +21,27 @@ import java.util.Objects;
  */
 public interface CacheObject<K> {
 
+    /**
+     * <p>Sentinel value which is cached for the keys that have no data.<br />
+     * It's a string, so it can be serialized and deserialized by remote cache,
+     * and be recognized by {@link #isNullValue(Object)} after that.
+     *
+     * @see #putNullValues
+     * @since 2.6.0
+     */
+    Object NULL_VALUE = "crane4j:cache:null-value";
+
+    /**
+     * Whether the cache value is {@link #NULL_VALUE}.
+     *
+     * @param value cache value
+     * @return true if the value is {@link #NULL_VALUE}
+     * @since 2.6.0
+     */
+    static boolean isNullValue(@Nullable Object value) {
+        return NULL_VALUE.equals(value);
+    }
+
     /**
      * Get the name of this cache.
      *
@@ -84,6 +107,21 @@ public interface CacheObject<K> {
         caches.forEach(this::put);
     }
 
+    /**
+     * <p>Cache {@link #NULL_VALUE} for the keys that have no data,
+     * so the keys will not be queried again before the null values are expired.<br />
+     * By default, the null values are put by {@link #put} and expire with other values,
+     * the implementations which support separated expire time should override this method.
+     *
+     * @param keys keys
+     * @param expireTime expire time of null values, non-positive value means same as other values
+     * @param timeUnit time unit
+     * @since 2.6.0
+     */
+    default void putNullValues(Collection<K> keys, long expireTime, TimeUnit timeUnit) {
+        keys.forEach(key -> put(key, NULL_VALUE));
+    }
+
     /**
      * Add cache value if it does not exist.
      *
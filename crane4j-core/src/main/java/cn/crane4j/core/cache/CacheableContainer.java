@@ -2,12 +2,30 @@ package cn.crane4j.core.cache;
 
 import cn.crane4j.core.container.Container;
 import cn.crane4j.core.container.ContainerDelegate;
+import cn.crane4j.core.util.ExecutorUtils;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
@@ -17,6 +35,14 @@ import java.util.stream.Collectors;
  * If some key sets do not exist in the cache,
  * it will be obtained from the original container and added to the cache for this batch of keys.
  *
+ * <p>If the same keys are missed by concurrent requests,
+ * only one of them will load the keys from the original container,
+ * and the others will wait for it and share its results.
+ *
+ * <p>If {@link CacheDefinition#getRefreshAfterWriteTime()} is positive,
+ * the cached values which are written longer than it will be returned directly,
+ * and all of them will be reloaded from the original container in batch by a background task.
+ *
  * @author huangchengxing
  * @param <K> key type
  * @see CacheObject
@@ -33,15 +59,62 @@ public class CacheableContainer<K> implements ContainerDelegate<K> {
     private final CacheManager cacheManager;
     private volatile CacheObject<K> currentCache;
 
+    /**
+     * max number of recorded write times,
+     * all records will be discarded when it is exceeded,
+     * and the cached values will be treated as written at the time they are next read
+     */
+    static final int MAX_WRITE_TIME_RECORDS = 1 << 16;
+
+    /**
+     * keys which are being loaded from container
+     *
+     * @since 2.6.0
+     */
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentMap<K, CompletableFuture<Object>> inflightLoadings = new ConcurrentHashMap<>();
+
+    /**
+     * executor used to refresh the cached values in background,
+     * if null, the default executor of {@link ExecutorUtils#getDefaultExecutor()} will be used
+     *
+     * @see CacheDefinition#getRefreshAfterWriteTime()
+     * @since 2.6.0
+     */
+    @Setter
+    @Nullable
+    private Executor refreshExecutor;
+
+    /**
+     * write times of cached values based on {@link System#nanoTime()},
+     * only recorded when refresh is enabled,
+     * the records are discarded when the cache object is recreated
+     * or the number of them exceeds {@link #MAX_WRITE_TIME_RECORDS}
+     */
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentMap<K, Long> writeTimes = new ConcurrentHashMap<>();
+
+    /**
+     * keys which are waiting for or being refreshed
+     */
+    @Getter(AccessLevel.NONE)
+    private final Set<K> refreshingKeys = ConcurrentHashMap.newKeySet();
+    @Getter(AccessLevel.NONE)
+    private final Queue<K> pendingRefreshKeys = new ConcurrentLinkedQueue<>();
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean(false);
+
     /**
      * <p>Enter a batch of key values to return data source objects grouped by key values.
      * If part of the key value entered has been cached,
-     * the data corresponding to that part of the key value will be obtained from the cache first.
+     * the data corresponding to that part of the key value will be obtained from the cache first.<br />
+     * If {@link CacheDefinition#isCacheNullValue()} is true,
+     * the keys which have no data will be cached as {@link CacheObject#NULL_VALUE},
+     * and they will not be queried from the container again before the null values are expired.
      *
      * @param keys keys
      * @return data source objects grouped by key value
      */
-    @SuppressWarnings("unchecked")
     @Override
     public Map<K, ?> get(Collection<K> keys) {
         CacheObject<K> current = getCurrentCache();
@@ -52,24 +125,216 @@ public class CacheableContainer<K> implements ContainerDelegate<K> {
             if (log.isDebugEnabled()) {
                 log.debug("get none cached keys [{}] from container [{}]", keys, container.getNamespace());
             }
-            Map<K, Object> values = (Map<K, Object>)container.get(keys);
-            current.putAll(values);
-            return values;
+            return loadAndCache(current, keys);
         }
 
-        // some keys are cached?
+        // some keys are cached, refresh the stale ones in background
+        refreshStaleKeys(caches.keySet());
         keys = keys.stream()
             .filter(k -> !caches.containsKey(k)).collect(Collectors.toSet());
+        if (cacheDefinition.isCacheNullValue()) {
+            caches.values().removeIf(CacheObject::isNullValue);
+        }
+        if (keys.isEmpty()) {
+            return caches;
+        }
         if (log.isDebugEnabled()) {
             log.debug("get none cached keys [{}] from container [{}]", keys, container.getNamespace());
         }
-        Map<K, Object> values = (Map<K, Object>)container.get(keys);
-        current.putAll(values);
+        Map<K, ?> values = loadAndCache(current, keys);
         // merge cached values and none cached values
         caches.putAll(values);
         return caches;
     }
 
+    /**
+     * Load the keys from container and put them into cache.
+     * If some keys are being loaded by other threads,
+     * wait for them and share their results instead of loading them again.
+     */
+    private Map<K, ?> loadAndCache(CacheObject<K> current, Collection<K> keys) {
+        List<K> ownedKeys = new ArrayList<>(keys.size());
+        Map<K, CompletableFuture<Object>> ownedLoadings = new HashMap<>(keys.size());
+        Map<K, CompletableFuture<Object>> waitedLoadings = new HashMap<>(4);
+        for (K key : keys) {
+            CompletableFuture<Object> loading = new CompletableFuture<>();
+            CompletableFuture<Object> existing = inflightLoadings.putIfAbsent(key, loading);
+            if (Objects.isNull(existing)) {
+                ownedKeys.add(key);
+                ownedLoadings.put(key, loading);
+            } else {
+                waitedLoadings.put(key, existing);
+            }
+        }
+
+        Map<K, ?> values = ownedKeys.isEmpty() ?
+            Collections.emptyMap() : loadOwnedKeys(current, ownedKeys, ownedLoadings);
+        if (waitedLoadings.isEmpty()) {
+            return values;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("wait for keys [{}] which are being loaded from container [{}]", waitedLoadings.keySet(), container.getNamespace());
+        }
+        Map<K, Object> results = new HashMap<>(values);
+        waitedLoadings.forEach((key, loading) -> {
+            Object value = waitFor(loading);
+            if (Objects.nonNull(value)) {
+                results.put(key, value);
+            }
+        });
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<K, ?> loadOwnedKeys(
+        CacheObject<K> current, List<K> keys, Map<K, CompletableFuture<Object>> loadings) {
+        Map<K, Object> values;
+        try {
+            values = (Map<K, Object>)container.get(keys);
+            putIntoCache(current, keys, values);
+        } catch (Throwable ex) {
+            // errors and sneaky thrown checked exceptions must also release the waiting requests
+            loadings.forEach((key, loading) -> {
+                inflightLoadings.remove(key, loading);
+                loading.completeExceptionally(ex);
+            });
+            throw ex;
+        }
+        // the values have been cached, so the later requests can get them from cache
+        loadings.forEach((key, loading) -> {
+            inflightLoadings.remove(key, loading);
+            loading.complete(Objects.isNull(values) ? null : values.get(key));
+        });
+        return values;
+    }
+
+    private void putIntoCache(CacheObject<K> current, Collection<K> keys, @Nullable Map<K, Object> values) {
+        current.putAll(values);
+        if (cacheDefinition.isCacheNullValue() && Objects.nonNull(values)) {
+            List<K> absentKeys = keys.stream()
+                .filter(k -> Objects.isNull(values.get(k)))
+                .collect(Collectors.toList());
+            if (!absentKeys.isEmpty()) {
+                current.putNullValues(absentKeys, cacheDefinition.getNullValueExpireTime(), cacheDefinition.getTimeUnit());
+            }
+        }
+        if (getRefreshAfterWriteNanos() > 0) {
+            long now = System.nanoTime();
+            ensureWriteTimeCapacity(keys.size());
+            keys.forEach(key -> writeTimes.put(key, now));
+        }
+    }
+
+    private void ensureWriteTimeCapacity(int required) {
+        if (writeTimes.size() + required > MAX_WRITE_TIME_RECORDS) {
+            log.debug("discard write times of container [{}] because there are too many records", container.getNamespace());
+            writeTimes.clear();
+        }
+    }
+
+    private long getRefreshAfterWriteNanos() {
+        Long refreshAfterWriteTime = cacheDefinition.getRefreshAfterWriteTime();
+        return Objects.isNull(refreshAfterWriteTime) || refreshAfterWriteTime <= 0 ?
+            -1L : cacheDefinition.getTimeUnit().toNanos(refreshAfterWriteTime);
+    }
+
+    /**
+     * Find the cached keys which are written longer than refresh time,
+     * and schedule a background task to reload them.
+     */
+    private void refreshStaleKeys(Collection<K> cachedKeys) {
+        long refreshAfterWriteNanos = getRefreshAfterWriteNanos();
+        if (refreshAfterWriteNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        boolean hasStaleKeys = false;
+        ensureWriteTimeCapacity(cachedKeys.size());
+        for (K key : cachedKeys) {
+            // the value may be written by other instances, treat it as written now
+            long writeTime = writeTimes.computeIfAbsent(key, k -> now);
+            if (now - writeTime >= refreshAfterWriteNanos && refreshingKeys.add(key)) {
+                pendingRefreshKeys.add(key);
+                hasStaleKeys = true;
+            }
+        }
+        if (hasStaleKeys && refreshScheduled.compareAndSet(false, true)) {
+            Executor executor = Objects.isNull(refreshExecutor) ? ExecutorUtils.getDefaultExecutor() : refreshExecutor;
+            try {
+                executor.execute(this::refreshPendingKeys);
+            } catch (RuntimeException ex) {
+                log.warn("cannot schedule refresh task for container [{}]", container.getNamespace(), ex);
+                refreshScheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * Reload all pending keys in batch until there is no pending key.
+     */
+    @SuppressWarnings("unchecked")
+    private void refreshPendingKeys() {
+        do {
+            List<K> keys = new ArrayList<>();
+            for (K key = pendingRefreshKeys.poll(); Objects.nonNull(key); key = pendingRefreshKeys.poll()) {
+                keys.add(key);
+            }
+            if (!keys.isEmpty()) {
+                if (log.isDebugEnabled()) {
+                    log.debug("refresh stale keys [{}] from container [{}]", keys, container.getNamespace());
+                }
+                try {
+                    CacheObject<K> current = getCurrentCache();
+                    Map<K, Object> values = (Map<K, Object>)container.get(keys);
+                    putIntoCache(current, keys, values);
+                    // the data of absent keys may be deleted, so the stale values should not be returned anymore
+                    List<K> absentKeys = cacheDefinition.isCacheNullValue() ? Collections.emptyList() : keys.stream()
+                        .filter(k -> Objects.isNull(values) || Objects.isNull(values.get(k)))
+                        .collect(Collectors.toList());
+                    if (!absentKeys.isEmpty()) {
+                        current.removeAll(absentKeys);
+                        absentKeys.forEach(writeTimes::remove);
+                    }
+                } catch (RuntimeException ex) {
+                    // the stale values will be returned until they are expired
+                    log.warn("cannot refresh keys [{}] from container [{}]", keys, container.getNamespace(), ex);
+                } catch (Throwable ex) {
+                    // allow the later requests to schedule refresh task again
+                    refreshScheduled.set(false);
+                    throw ex;
+                } finally {
+                    refreshingKeys.removeAll(keys);
+                }
+            }
+            refreshScheduled.set(false);
+        } while (!pendingRefreshKeys.isEmpty() && refreshScheduled.compareAndSet(false, true));
+    }
+
+    /**
+     * Get the values of keys which have been cached,
+     * the keys cached as {@link CacheObject#NULL_VALUE} are not included.<br />
+     * Unlike {@link #get}, the missing keys will not be loaded from container,
+     * and the stale values will not be refreshed.
+     *
+     * @param keys keys
+     * @return cached values grouped by key
+     * @since 2.6.0
+     */
+    public Map<K, Object> getCachedValues(Collection<K> keys) {
+        Map<K, Object> caches = getCurrentCache().getAll(keys);
+        caches.values().removeIf(CacheObject::isNullValue);
+        return caches;
+    }
+
+    private static Object waitFor(CompletableFuture<Object> loading) {
+        try {
+            return loading.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException)cause : ex;
+        }
+    }
+
     /**
      * Get current cache object, if current cache object is null or invalid,
      * recreate it by cache manager which is specified in cache definition.
@@ -86,6 +351,8 @@ public class CacheableContainer<K> implements ContainerDelegate<K> {
                     currentCache = cacheManager.createCache(
                         cacheDefinition.getName(), cacheDefinition.getExpireTime(), cacheDefinition.getTimeUnit()
                     );
+                    // the write times of previous cache object are meaningless
+                    writeTimes.clear();
                 }
             }
         }
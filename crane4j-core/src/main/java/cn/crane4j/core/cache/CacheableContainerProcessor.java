@@ -85,7 +85,8 @@ public class CacheableContainerProcessor implements ContainerLifecycleProcessor
         ContainerCache annotation = container.getClass().getAnnotation(ContainerCache.class);
         return Objects.isNull(annotation) ? null : new CacheDefinition.Impl(
             container.getNamespace(), annotation.cacheManager(),
-            annotation.expirationTime(), annotation.timeUnit()
+            annotation.expirationTime(), annotation.timeUnit(),
+            annotation.cacheNullValue(), annotation.nullValueExpirationTime(), annotation.refreshAfterWriteTime()
         );
     }
 
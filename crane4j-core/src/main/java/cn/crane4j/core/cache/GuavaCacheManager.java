@@ -9,6 +9,9 @@ import lombok.SneakyThrows;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -115,6 +118,14 @@ public class GuavaCacheManager extends AbstractCacheManager {
 
         private final Cache<Object, Object> cache;
 
+        /**
+         * <p>The null values with expire time which have not expired.<br />
+         * They are strongly referenced here, so they will not be collected
+         * when the cache uses weak values, such as the cache created by {@link DefaultCacheFactory}
+         * when the expire time is less than 0.
+         */
+        private final Queue<ExpirableNullValue> expirableNullValues = new ConcurrentLinkedQueue<>();
+
         public GuavaCacheObject(String name, Cache<Object, Object> cache) {
             super(name);
             this.cache = cache;
@@ -129,7 +140,15 @@ public class GuavaCacheManager extends AbstractCacheManager {
         @Nullable
         @Override
         public Object get(K key) {
-            return cache.getIfPresent(key);
+            Object value = cache.getIfPresent(key);
+            if (value instanceof ExpirableNullValue) {
+                if (((ExpirableNullValue)value).isExpired()) {
+                    cache.asMap().remove(key, value);
+                    return null;
+                }
+                return NULL_VALUE;
+            }
+            return value;
         }
 
         /**
@@ -143,6 +162,27 @@ public class GuavaCacheManager extends AbstractCacheManager {
             cache.put(key, value);
         }
 
+        /**
+         * Cache {@link #NULL_VALUE} for the keys that have no data,
+         * if the cache has expire time, the null values will also be evicted with it.
+         * The null values with expire time are strongly referenced until they are expired,
+         * so they are still available when the cache uses weak values.
+         *
+         * @param keys keys
+         * @param expireTime expire time of null values, non-positive value means same as other values
+         * @param timeUnit time unit
+         * @since 2.6.0
+         */
+        @Override
+        public void putNullValues(Collection<K> keys, long expireTime, TimeUnit timeUnit) {
+            Object nullValue = createNullValue(expireTime, timeUnit);
+            if (nullValue instanceof ExpirableNullValue) {
+                expirableNullValues.removeIf(ExpirableNullValue::isExpired);
+                expirableNullValues.add((ExpirableNullValue)nullValue);
+            }
+            keys.forEach(key -> cache.put(key, nullValue));
+        }
+
         /**
          * Add cache value if it does not exist.
          *
@@ -171,6 +211,7 @@ public class GuavaCacheManager extends AbstractCacheManager {
         @Override
         public void clear() {
             cache.invalidateAll();
+            expirableNullValues.clear();
         }
     }
 }
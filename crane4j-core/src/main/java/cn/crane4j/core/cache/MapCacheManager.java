@@ -4,6 +4,7 @@ import cn.crane4j.core.util.CollectionUtils;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -81,7 +82,15 @@ public abstract class MapCacheManager extends AbstractCacheManager {
         @Nullable
         @Override
         public Object get(K key) {
-            return map.get(key);
+            Object value = map.get(key);
+            if (value instanceof ExpirableNullValue) {
+                if (((ExpirableNullValue)value).isExpired()) {
+                    map.remove(key, value);
+                    return null;
+                }
+                return NULL_VALUE;
+            }
+            return value;
         }
 
         /**
@@ -95,6 +104,20 @@ public abstract class MapCacheManager extends AbstractCacheManager {
             map.put(key, value);
         }
 
+        /**
+         * Cache {@link #NULL_VALUE} for the keys that have no data.
+         *
+         * @param keys keys
+         * @param expireTime expire time of null values, non-positive value means never expire
+         * @param timeUnit time unit
+         * @since 2.6.0
+         */
+        @Override
+        public void putNullValues(Collection<K> keys, long expireTime, TimeUnit timeUnit) {
+            Object nullValue = createNullValue(expireTime, timeUnit);
+            keys.forEach(key -> map.put(key, nullValue));
+        }
+
         /**
          * Add cache value if it does not exist.
          *
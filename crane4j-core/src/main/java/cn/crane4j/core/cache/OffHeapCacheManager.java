@@ -0,0 +1,537 @@
+package cn.crane4j.core.cache;
+
+import cn.crane4j.core.exception.Crane4jException;
+import cn.crane4j.core.util.Asserts;
+import cn.crane4j.core.util.CollectionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <p>An implementation of the {@link CacheManager} that
+ * creates cache instances what store serialized values in direct {@link ByteBuffer}.<br />
+ * Only the keys and the positions of values are kept in heap,
+ * so a large number of cached values will not increase the pressure of garbage collection.
+ *
+ * <p>Each cache has a buffer which is used as a ring log,
+ * the values are appended to the buffer in order,
+ * and the oldest values will be evicted when the buffer is full.
+ * The capacity of buffer can be specified for each cache by {@link #setCapacity(String, int)},
+ * otherwise {@link #defaultCapacity} is used.
+ * The buffer is allocated when the first value is written,
+ * and grows by doubling its size until it reaches the capacity.
+ * When the cache is cleared or removed from manager, the buffer will be released,
+ * and the direct memory is reclaimed after the buffer is garbage collected.
+ *
+ * <p>Values are serialized by {@link Codec}, default to java serialization,
+ * and only the values of requested keys are deserialized when getting them.
+ * Therefore, the returned values are always copies of the cached values.
+ *
+ * @author huangchengxing
+ * @see Codec
+ * @since 2.6.0
+ */
+@Slf4j
+public class OffHeapCacheManager extends AbstractCacheManager {
+
+    /**
+     * default capacity in bytes of each cache
+     */
+    public static final int DEFAULT_CAPACITY = 64 * 1024 * 1024;
+
+    /**
+     * size in bytes of the buffer allocated at first
+     */
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * capacity in bytes of the caches whose capacity is not specified
+     */
+    @Setter
+    private int defaultCapacity = DEFAULT_CAPACITY;
+
+    /**
+     * codec of values
+     */
+    @NonNull
+    @Setter
+    private Codec codec = SerializableCodec.INSTANCE;
+
+    private final Map<String, Integer> capacities = new ConcurrentHashMap<>();
+
+    /**
+     * Specify the capacity in bytes of the cache with the specified name,
+     * it takes effect when the cache is created next time.
+     *
+     * @param name cache name
+     * @param capacity capacity in bytes
+     */
+    public void setCapacity(String name, int capacity) {
+        Asserts.isTrue(capacity > 0, "capacity must be positive");
+        capacities.put(name, capacity);
+    }
+
+    /**
+     * Create cache instance.
+     *
+     * @param name       cache name
+     * @param expireTime expire time, non-positive value means never expire
+     * @param timeUnit   time unit
+     * @return cache instance
+     */
+    @NonNull
+    @Override
+    protected <K> OffHeapCacheObject<K> doCreateCache(String name, Long expireTime, TimeUnit timeUnit) {
+        int capacity = capacities.getOrDefault(name, defaultCapacity);
+        Asserts.isTrue(capacity > 0, "capacity must be positive");
+        long expireNanos = Objects.nonNull(expireTime) && expireTime > 0 ? timeUnit.toNanos(expireTime) : -1L;
+        return new OffHeapCacheObject<>(name, capacity, codec, expireNanos);
+    }
+
+    /**
+     * Codec used to serialize and deserialize the cached values.
+     *
+     * @author huangchengxing
+     * @since 2.6.0
+     */
+    public interface Codec {
+
+        /**
+         * Serialize value.
+         *
+         * @param value value
+         * @return bytes
+         */
+        byte[] encode(Object value);
+
+        /**
+         * Deserialize value.
+         *
+         * @param bytes bytes
+         * @return value
+         */
+        Object decode(byte[] bytes);
+    }
+
+    /**
+     * A {@link Codec} based on java serialization, the values must be {@link java.io.Serializable}.
+     *
+     * @author huangchengxing
+     * @since 2.6.0
+     */
+    public static class SerializableCodec implements Codec {
+
+        public static final SerializableCodec INSTANCE = new SerializableCodec();
+
+        @Override
+        public byte[] encode(Object value) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+            try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+                output.writeObject(value);
+            } catch (IOException ex) {
+                throw new Crane4jException(ex);
+            }
+            return bytes.toByteArray();
+        }
+
+        @Override
+        public Object decode(byte[] bytes) {
+            try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                return input.readObject();
+            } catch (IOException | ClassNotFoundException ex) {
+                throw new Crane4jException(ex);
+            }
+        }
+    }
+
+    /**
+     * Position of a value in buffer,
+     * it's also a node of the linked list of records in the order of writing.
+     */
+    @RequiredArgsConstructor
+    private static class Record {
+        private final Object key;
+        private final int offset;
+        private final int length;
+        /**
+         * deadline based on {@link System#nanoTime()}, only valid when {@link #expirable} is true
+         */
+        private final long deadline;
+        private final boolean expirable;
+        private Record prev;
+        private Record next;
+
+        boolean isExpired(long now) {
+            return expirable && now - deadline >= 0;
+        }
+    }
+
+    /**
+     * A {@link CacheObject} implementation that stores serialized values in a direct {@link ByteBuffer}.
+     *
+     * @author huangchengxing
+     * @since 2.6.0
+     */
+    protected static class OffHeapCacheObject<K> extends AbstractCacheObject<K> {
+
+        private final int capacity;
+        private final Codec codec;
+        private final long expireNanos;
+        private final Map<Object, Record> index = new HashMap<>(16);
+
+        /**
+         * allocated lazily, and released when the cache is cleared
+         */
+        @Nullable
+        private ByteBuffer buffer;
+
+        /**
+         * head and tail of the records in the order of writing, the head is the oldest one
+         */
+        private Record head;
+        private Record tail;
+        private final Lock readLock;
+        private final Lock writeLock;
+        private int writePosition = 0;
+
+        public OffHeapCacheObject(String name, int capacity, Codec codec, long expireNanos) {
+            super(name);
+            this.capacity = capacity;
+            this.codec = codec;
+            this.expireNanos = expireNanos;
+            ReadWriteLock lock = new ReentrantReadWriteLock();
+            this.readLock = lock.readLock();
+            this.writeLock = lock.writeLock();
+        }
+
+        /**
+         * Get the cache according to the key value.
+         *
+         * @param key key
+         * @return cache value
+         */
+        @Nullable
+        @Override
+        public Object get(K key) {
+            byte[] bytes = read(key, System.nanoTime());
+            return Objects.isNull(bytes) ? null : codec.decode(bytes);
+        }
+
+        /**
+         * Get all cache according to the key values,
+         * only the values of requested keys will be deserialized.
+         *
+         * @param keys keys
+         * @return cache value
+         */
+        @Override
+        public Map<K, Object> getAll(Iterable<K> keys) {
+            if (CollectionUtils.isEmpty(keys)) {
+                return Collections.emptyMap();
+            }
+            long now = System.nanoTime();
+            Map<K, byte[]> values = new HashMap<>(16);
+            readLock.lock();
+            try {
+                for (K key : keys) {
+                    byte[] bytes = readLocked(key, now);
+                    if (Objects.nonNull(bytes)) {
+                        values.put(key, bytes);
+                    }
+                }
+            } finally {
+                readLock.unlock();
+            }
+            // deserialize outside the lock
+            Map<K, Object> results = new HashMap<>(values.size());
+            values.forEach((key, bytes) -> results.put(key, codec.decode(bytes)));
+            return results;
+        }
+
+        /**
+         * Add cache value.
+         *
+         * @param key   key
+         * @param value value
+         */
+        @Override
+        public void put(K key, Object value) {
+            write(key, codec.encode(value), expireNanos, false);
+        }
+
+        /**
+         * Add all cache value.
+         *
+         * @param caches caches
+         */
+        @Override
+        public void putAll(Map<K, Object> caches) {
+            if (CollectionUtils.isEmpty(caches)) {
+                return;
+            }
+            // serialize outside the lock
+            Map<K, byte[]> values = new HashMap<>(caches.size());
+            caches.forEach((key, value) -> values.put(key, codec.encode(value)));
+            writeLock.lock();
+            try {
+                long now = System.nanoTime();
+                values.forEach((key, bytes) -> writeLocked(key, bytes, now, expireNanos));
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        /**
+         * Cache {@link #NULL_VALUE} for the keys that have no data.
+         *
+         * @param keys       keys
+         * @param expireTime expire time of null values, non-positive value means same as other values
+         * @param timeUnit   time unit
+         */
+        @Override
+        public void putNullValues(Collection<K> keys, long expireTime, TimeUnit timeUnit) {
+            if (CollectionUtils.isEmpty(keys)) {
+                return;
+            }
+            byte[] bytes = codec.encode(NULL_VALUE);
+            long nullValueExpireNanos = expireTime > 0 ? timeUnit.toNanos(expireTime) : expireNanos;
+            writeLock.lock();
+            try {
+                long now = System.nanoTime();
+                keys.forEach(key -> writeLocked(key, bytes, now, nullValueExpireNanos));
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        /**
+         * Add cache value if it does not exist.
+         *
+         * @param key   key
+         * @param value cache value
+         */
+        @Override
+        public void putIfAbsent(K key, Object value) {
+            write(key, codec.encode(value), expireNanos, true);
+        }
+
+        /**
+         * Remove cache value.
+         *
+         * @param key key
+         */
+        @Override
+        public void remove(K key) {
+            writeLock.lock();
+            try {
+                unlink(index.remove(key));
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        /**
+         * Remove all cache value.
+         *
+         * @param keys keys
+         */
+        @Override
+        public void removeAll(Iterable<K> keys) {
+            if (CollectionUtils.isEmpty(keys)) {
+                return;
+            }
+            writeLock.lock();
+            try {
+                keys.forEach(key -> unlink(index.remove(key)));
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        /**
+         * Clear all cache value and release the buffer.
+         */
+        @Override
+        public void clear() {
+            writeLock.lock();
+            try {
+                index.clear();
+                head = null;
+                tail = null;
+                buffer = null;
+                writePosition = 0;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        /**
+         * Get the number of cached values, including the expired values which are not evicted yet.
+         * Expired values are evicted from the oldest one when writing.
+         *
+         * @return number of cached values
+         */
+        public int size() {
+            readLock.lock();
+            try {
+                return index.size();
+            } finally {
+                readLock.unlock();
+            }
+        }
+
+        @Nullable
+        private byte[] read(Object key, long now) {
+            readLock.lock();
+            try {
+                return readLocked(key, now);
+            } finally {
+                readLock.unlock();
+            }
+        }
+
+        @Nullable
+        private byte[] readLocked(Object key, long now) {
+            Record record = index.get(key);
+            // expired records will be evicted when writing
+            if (Objects.isNull(record) || record.isExpired(now)) {
+                return null;
+            }
+            byte[] bytes = new byte[record.length];
+            ByteBuffer view = Objects.requireNonNull(buffer).duplicate();
+            view.position(record.offset);
+            view.get(bytes);
+            return bytes;
+        }
+
+        private void write(Object key, byte[] bytes, long expire, boolean onlyIfAbsent) {
+            writeLock.lock();
+            try {
+                long now = System.nanoTime();
+                Record existing = index.get(key);
+                if (onlyIfAbsent && Objects.nonNull(existing) && !existing.isExpired(now)) {
+                    return;
+                }
+                writeLocked(key, bytes, now, expire);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        private void writeLocked(Object key, byte[] bytes, long now, long expire) {
+            // the overwritten or too large value is no longer reachable
+            unlink(index.remove(key));
+            if (bytes.length > capacity) {
+                log.warn("value of key [{}] is too large to be cached in [{}], {} bytes required but capacity is {}",
+                    key, getName(), bytes.length, capacity);
+                return;
+            }
+            evictExpired(now);
+            int position = writePosition;
+            if (position + bytes.length > capacity) {
+                // skip the tail of buffer and write from the beginning
+                evictFrom(position, capacity);
+                position = 0;
+            }
+            evictFrom(position, position + bytes.length);
+            ByteBuffer view = ensureBuffer(position + bytes.length).duplicate();
+            view.position(position);
+            view.put(bytes);
+            Record record = new Record(key, position, bytes.length, now + expire, expire > 0);
+            link(record);
+            index.put(key, record);
+            writePosition = position + bytes.length;
+        }
+
+        /**
+         * Get the buffer which can hold {@code required} bytes,
+         * a larger buffer will be allocated and the written bytes will be copied to it if necessary.
+         */
+        private ByteBuffer ensureBuffer(int required) {
+            ByteBuffer current = buffer;
+            int size = Objects.isNull(current) ? 0 : current.capacity();
+            if (size >= required) {
+                return current;
+            }
+            int newSize = Math.max(required, Math.min(capacity, Math.max(size * 2, INITIAL_BUFFER_SIZE)));
+            ByteBuffer allocated = ByteBuffer.allocateDirect(newSize);
+            if (Objects.nonNull(current)) {
+                ByteBuffer written = current.duplicate();
+                written.clear();
+                allocated.put(written);
+            }
+            buffer = allocated;
+            return allocated;
+        }
+
+        /**
+         * Evict the oldest records which are located in the region {@code [from, to)}.
+         */
+        private void evictFrom(int from, int to) {
+            while (Objects.nonNull(head) && head.offset >= from && head.offset < to) {
+                evict(head);
+            }
+        }
+
+        /**
+         * Evict the oldest records which are expired.
+         */
+        private void evictExpired(long now) {
+            while (Objects.nonNull(head) && head.isExpired(now)) {
+                evict(head);
+            }
+        }
+
+        private void evict(Record record) {
+            unlink(record);
+            index.remove(record.key, record);
+        }
+
+        private void link(Record record) {
+            record.prev = tail;
+            if (Objects.isNull(tail)) {
+                head = record;
+            } else {
+                tail.next = record;
+            }
+            tail = record;
+        }
+
+        private void unlink(@Nullable Record record) {
+            if (Objects.isNull(record)) {
+                return;
+            }
+            if (Objects.isNull(record.prev)) {
+                head = record.next;
+            } else {
+                record.prev.next = record.next;
+            }
+            if (Objects.isNull(record.next)) {
+                tail = record.prev;
+            } else {
+                record.next.prev = record.prev;
+            }
+            record.prev = null;
+            record.next = null;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package cn.crane4j.core.container;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <p>A non-blocking data source container.<br />
+ * The data source objects are obtained asynchronously through {@link #getAsync},
+ * and the synchronous {@link #get} method will wait for the result of it.
+ *
+ * <p>When the container used by an assembly operation is an {@link AsyncContainer},
+ * and the operation is performed through {@link cn.crane4j.core.executor.BeanOperationExecutor#executeAsync},
+ * the thread will not be blocked while waiting for the data source objects.
+ * Other synchronous containers will be adapted automatically,
+ * in this case, {@link Container#get} will be called directly and its result is treated as completed.
+ *
+ * <p>If the implementation may still block the calling thread in {@link #getAsync} in some cases,
+ * such as a wrapper of synchronous container, it should return false in {@link #isNonBlocking()},
+ * then the executor will call it in another thread just like a synchronous container.
+ *
+ * @author huangchengxing
+ * @param <K> key type
+ * @see cn.crane4j.core.executor.BeanOperationExecutor#executeAsync
+ * @see cn.crane4j.core.executor.handler.AssembleOperationHandler#processAsync
+ * @since 2.6.0
+ */
+public interface AsyncContainer<K> extends Container<K> {
+
+    /**
+     * Enter a batch of key values to asynchronously return data source objects grouped by key values.
+     *
+     * @param keys keys
+     * @return completion stage of data source objects grouped by key value
+     */
+    CompletionStage<Map<K, ?>> getAsync(Collection<K> keys);
+
+    /**
+     * Whether {@link #getAsync} returns without blocking the calling thread.
+     *
+     * @return true if the calling thread will not be blocked, false otherwise
+     */
+    default boolean isNonBlocking() {
+        return true;
+    }
+
+    /**
+     * Enter a batch of key values to return data source objects grouped by key values,
+     * the current thread will be blocked until the result of {@link #getAsync} is completed.
+     *
+     * @param keys keys
+     * @return data source objects grouped by key value
+     */
+    @Override
+    default Map<K, ?> get(Collection<K> keys) {
+        return getAsync(keys).toCompletableFuture().join();
+    }
+
+    /**
+     * Asynchronously get data source objects from the specified container.
+     * If the container is not an {@link AsyncContainer},
+     * {@link Container#get} will be called directly and its result is treated as completed.
+     *
+     * @param container container
+     * @param keys keys
+     * @param <K> key type
+     * @return completion stage of data source objects grouped by key value
+     */
+    static <K> CompletionStage<Map<K, ?>> getAsync(Container<K> container, Collection<K> keys) {
+        if (container instanceof AsyncContainer) {
+            return ((AsyncContainer<K>)container).getAsync(keys);
+        }
+        return CompletableFuture.completedFuture(container.get(keys));
+    }
+
+    /**
+     * Whether the specified container is an {@link AsyncContainer}
+     * and its {@link #getAsync} returns without blocking the calling thread.
+     *
+     * @param container container
+     * @return true if the container is non-blocking, false otherwise
+     * @see #isNonBlocking()
+     */
+    static boolean isNonBlocking(Container<?> container) {
+        return container instanceof AsyncContainer && ((AsyncContainer<?>)container).isNonBlocking();
+    }
+}
@@ -0,0 +1,230 @@
+package cn.crane4j.core.container;
+
+import cn.crane4j.core.util.Asserts;
+import cn.crane4j.core.util.ExecutorUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>Data source container wrapper class with micro-batching function.<br />
+ * The keys requested by different threads within a short window will be collected into a batch,
+ * and the original container will be called only once with the merged keys of the batch,
+ * then each caller will receive the data source objects of its own keys.
+ *
+ * <p>A batch will be dispatched when the window has elapsed since the first request of it was received,
+ * or when the number of keys in it reaches the max batch size.
+ * The {@link ScheduledExecutorService} is only used to dispatch batches,
+ * if the original container is not a non-blocking {@link AsyncContainer},
+ * the merged call will be performed in the worker executor,
+ * so a slow call will not delay the windows of other batches.
+ *
+ * @author huangchengxing
+ * @param <K> key type
+ * @see cn.crane4j.core.container.lifecycle.BatchingContainerProcessor
+ * @since 2.6.0
+ */
+@Slf4j
+public class BatchingContainer<K> implements ContainerDelegate<K>, AsyncContainer<K> {
+
+    @Getter
+    private final Container<K> container;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+    private final long window;
+    private final TimeUnit timeUnit;
+    private final int maxBatchSize;
+    private final Object lock = new Object();
+    private Batch<K> currentBatch;
+
+    /**
+     * Create an instance of {@link BatchingContainer},
+     * the merged calls of the synchronous original container will be performed in the default executor.
+     *
+     * @param container original container
+     * @param scheduler scheduler used to dispatch batches
+     * @param window time window for collecting requests of a batch
+     * @param timeUnit time unit of window
+     * @param maxBatchSize max number of keys in a batch, must be greater than 0
+     * @see ExecutorUtils#getDefaultExecutor()
+     */
+    public BatchingContainer(
+        Container<K> container, ScheduledExecutorService scheduler, long window, TimeUnit timeUnit, int maxBatchSize) {
+        this(container, scheduler, ExecutorUtils.getDefaultExecutor(), window, timeUnit, maxBatchSize);
+    }
+
+    /**
+     * Create an instance of {@link BatchingContainer}.
+     *
+     * @param container original container
+     * @param scheduler scheduler used to dispatch batches
+     * @param executor worker executor used to perform the merged calls of the synchronous original container
+     * @param window time window for collecting requests of a batch
+     * @param timeUnit time unit of window
+     * @param maxBatchSize max number of keys in a batch, must be greater than 0
+     */
+    public BatchingContainer(
+        Container<K> container, ScheduledExecutorService scheduler, Executor executor,
+        long window, TimeUnit timeUnit, int maxBatchSize) {
+        Asserts.isTrue(maxBatchSize > 0, "max batch size must be greater than 0, but got [{}]", maxBatchSize);
+        this.container = container;
+        this.scheduler = scheduler;
+        this.executor = executor;
+        this.window = window;
+        this.timeUnit = timeUnit;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Enter a batch of key values to asynchronously return data source objects grouped by key values,
+     * the keys will be merged with keys requested by other callers in the same batch.
+     *
+     * @param keys keys
+     * @return completion stage of data source objects grouped by key value
+     */
+    @Override
+    public CompletionStage<Map<K, ?>> getAsync(Collection<K> keys) {
+        if (keys.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        Request<K> request = new Request<>(keys);
+        Batch<K> batch;
+        boolean isNewBatch = false;
+        boolean isFull = false;
+        synchronized (lock) {
+            if (Objects.isNull(currentBatch)) {
+                currentBatch = new Batch<>();
+                isNewBatch = true;
+            }
+            batch = currentBatch;
+            batch.add(request);
+            if (batch.keys.size() >= maxBatchSize) {
+                currentBatch = null;
+                isFull = true;
+            }
+        }
+        if (isFull) {
+            scheduler.execute(() -> dispatch(batch));
+        } else if (isNewBatch) {
+            scheduler.schedule(() -> dispatch(batch), window, timeUnit);
+        }
+        return request.future;
+    }
+
+    /**
+     * Enter a batch of key values to return data source objects grouped by key values,
+     * the current thread will be blocked until the batch is completed.
+     *
+     * @param keys keys
+     * @return data source objects grouped by key value
+     */
+    @Override
+    public Map<K, ?> get(Collection<K> keys) {
+        try {
+            return getAsync(keys).toCompletableFuture().join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException)cause : ex;
+        }
+    }
+
+    /**
+     * Perform the merged call of the batch and complete the requests in it.
+     *
+     * @param batch batch
+     */
+    private void dispatch(Batch<K> batch) {
+        // a batch may be dispatched by both the window and the max batch size
+        if (!batch.dispatched.compareAndSet(false, true)) {
+            return;
+        }
+        synchronized (lock) {
+            if (currentBatch == batch) {
+                currentBatch = null;
+            }
+        }
+        log.debug("dispatch batch of [{}] requests with [{}] keys for container [{}]",
+            batch.requests.size(), batch.keys.size(), getNamespace());
+        CompletionStage<Map<K, ?>> stage;
+        try {
+            stage = AsyncContainer.isNonBlocking(container) ?
+                ((AsyncContainer<K>)container).getAsync(batch.keys) :
+                CompletableFuture.supplyAsync(() -> container.get(batch.keys), executor);
+        } catch (Exception ex) {
+            batch.requests.forEach(r -> r.future.completeExceptionally(ex));
+            return;
+        }
+        stage.whenComplete((sources, ex) -> {
+            if (Objects.nonNull(ex)) {
+                Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+                batch.requests.forEach(r -> r.future.completeExceptionally(cause));
+            } else {
+                batch.requests.forEach(r -> r.complete(sources));
+            }
+        });
+    }
+
+    @NonNull
+    @Override
+    public String getNamespace() {
+        return container.getNamespace();
+    }
+
+    /**
+     * A batch of requests.
+     *
+     * @param <K> key type
+     */
+    private static class Batch<K> {
+        private final List<Request<K>> requests = new ArrayList<>();
+        private final Set<K> keys = new LinkedHashSet<>();
+        private final AtomicBoolean dispatched = new AtomicBoolean(false);
+
+        void add(Request<K> request) {
+            requests.add(request);
+            keys.addAll(request.keys);
+        }
+    }
+
+    /**
+     * A request of a caller.
+     *
+     * @param <K> key type
+     */
+    @RequiredArgsConstructor
+    private static class Request<K> {
+        private final Collection<K> keys;
+        private final CompletableFuture<Map<K, ?>> future = new CompletableFuture<>();
+
+        void complete(Map<K, ?> sources) {
+            Map<K, Object> results = new HashMap<>(keys.size());
+            if (Objects.nonNull(sources)) {
+                for (K key : keys) {
+                    Object value = sources.get(key);
+                    if (Objects.nonNull(value)) {
+                        results.put(key, value);
+                    }
+                }
+            }
+            future.complete(results);
+        }
+    }
+}
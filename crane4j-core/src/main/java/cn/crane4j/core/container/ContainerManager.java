@@ -147,6 +147,18 @@ public interface ContainerManager extends ConfigurableContainerProvider {
      */
     Collection<Container<Object>> getAllLimitedContainers();
 
+    /**
+     * <p>Get the modification count of the manager.<br />
+     * The count will be increased when the registered containers or providers are changed,
+     * so the component which caches the resolved containers can know when to resolve them again.
+     *
+     * @return modification count, negative if the manager does not support it
+     * @since 2.6.0
+     */
+    default long getModificationCount() {
+        return -1L;
+    }
+
     /**
      * Obtaining and caching container instances from the specified container provider..
      *
@@ -9,9 +9,11 @@ import cn.crane4j.core.support.reflect.ReflectivePropertyOperator;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * A utility class for creating containers from various data sources.
@@ -59,6 +61,38 @@ public class Containers {
         return ImmutableMapContainer.forMap(namespace, data);
     }
 
+    /**
+     * Create a container whose keys are integral numbers,
+     * the key-value pairs are stored in primitive arrays.
+     *
+     * @param namespace namespace
+     * @param data      data source objects grouped by key value
+     * @param <K>       key type
+     * @return container
+     * @see PrimitiveKeyMapContainer
+     * @since 2.6.0
+     */
+    public static <K extends Number> PrimitiveKeyMapContainer<K> forPrimitiveKeyMap(String namespace, Map<K, ?> data) {
+        return PrimitiveKeyMapContainer.forMap(namespace, data);
+    }
+
+    /**
+     * Create a container which persists the data of loaded container to snapshot file,
+     * and serves lookups from the snapshot while loading when it's initialized next time.
+     *
+     * @param namespace    namespace
+     * @param snapshotFile path of snapshot file
+     * @param loader       loader of the actual container
+     * @param <K>          key type
+     * @return container
+     * @see SnapshotContainer
+     * @since 2.6.0
+     */
+    public static <K> SnapshotContainer<K> forSnapshot(
+        String namespace, Path snapshotFile, Supplier<? extends LimitedContainer<K>> loader) {
+        return new SnapshotContainer<>(namespace, snapshotFile, loader);
+    }
+
     /**
      * Build a data source container based on an input key set
      * and an expression that returns data sources grouped by key.
@@ -18,6 +18,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -43,6 +44,13 @@ public class DefaultContainerManager implements ContainerManager {
      */
     protected final Map<String, ContainerProvider> containerProviderMap = new LinkedHashMap<>();
 
+    /**
+     * Modification count of registered containers and providers.
+     *
+     * @since 2.6.0
+     */
+    private final AtomicLong modificationCount = new AtomicLong(0L);
+
     // =============== lifecycle lifecycle  ===============
 
     /**
@@ -80,6 +88,7 @@ public class DefaultContainerManager implements ContainerManager {
     @Override
     public void registerContainerProvider(String name, ContainerProvider containerProvider) {
         containerProviderMap.put(name, containerProvider);
+        modificationCount.incrementAndGet();
     }
 
     /**
@@ -125,6 +134,7 @@ public class DefaultContainerManager implements ContainerManager {
             // register new definition
             return definition;
         });
+        modificationCount.incrementAndGet();
         return definition;
     }
 
@@ -216,6 +226,19 @@ public class DefaultContainerManager implements ContainerManager {
         containerMap.clear();
         containerProviderMap.clear();
         containerLifecycleProcessorList.clear();
+        modificationCount.incrementAndGet();
+    }
+
+    /**
+     * Get the modification count of the manager,
+     * it will be increased when a container or provider is registered, or the manager is cleared.
+     *
+     * @return modification count
+     * @since 2.6.0
+     */
+    @Override
+    public long getModificationCount() {
+        return modificationCount.get();
     }
 
     // ================ product methods ================
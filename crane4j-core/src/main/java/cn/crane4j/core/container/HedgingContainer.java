@@ -0,0 +1,233 @@
+package cn.crane4j.core.container;
+
+import cn.crane4j.core.util.Asserts;
+import cn.crane4j.core.util.ExecutorUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>Data source container wrapper class with hedged requests.<br />
+ * The wrapper records the latency of recent calls to the original container,
+ * when a call has not been completed after the latency of the specified percentile,
+ * a second call with the same keys will be sent, and the result of the first completed one will be used.
+ *
+ * <p>If the original container is not a non-blocking {@link AsyncContainer},
+ * the calls will be performed in the worker executor instead of the scheduler,
+ * so a slow call will not prevent the scheduler from sending the hedged request.
+ * The result is failed only if all sent requests are failed,
+ * so a failed call will not discard the other one which is still in flight.
+ * And only the latency of the call whose result is used will be recorded.
+ *
+ * <p>Hedged requests will not be sent
+ * until the number of recorded calls reaches {@link #MIN_SAMPLE_SIZE}.
+ * Since each hedged request is an extra call to the original container,
+ * it's only suitable for idempotent data sources whose latency has a long tail.
+ *
+ * @author huangchengxing
+ * @param <K> key type
+ * @since 2.6.0
+ */
+@Slf4j
+public class HedgingContainer<K> implements ContainerDelegate<K>, AsyncContainer<K> {
+
+    /**
+     * number of recent calls used to calculate the latency percentile
+     */
+    public static final int SAMPLE_SIZE = 128;
+
+    /**
+     * minimum number of recorded calls before sending hedged requests
+     */
+    public static final int MIN_SAMPLE_SIZE = 16;
+
+    @Getter
+    private final Container<K> container;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+    private final double percentile;
+    private final long[] latencies = new long[SAMPLE_SIZE];
+    private int sampleCount = 0;
+
+    /**
+     * number of hedged requests which have been sent
+     */
+    private final AtomicLong hedgedCount = new AtomicLong(0);
+
+    /**
+     * Create an instance of {@link HedgingContainer},
+     * the synchronous original container will be called in the default executor.
+     *
+     * @param container original container
+     * @param scheduler scheduler used to send hedged requests
+     * @param percentile latency percentile for sending hedged requests, such as 0.95
+     * @see ExecutorUtils#getDefaultExecutor()
+     */
+    public HedgingContainer(Container<K> container, ScheduledExecutorService scheduler, double percentile) {
+        this(container, scheduler, ExecutorUtils.getDefaultExecutor(), percentile);
+    }
+
+    /**
+     * Create an instance of {@link HedgingContainer}.
+     *
+     * @param container original container
+     * @param scheduler scheduler used to send hedged requests
+     * @param executor worker executor used to call the synchronous original container
+     * @param percentile latency percentile for sending hedged requests, such as 0.95
+     * @since 2.6.0
+     */
+    public HedgingContainer(
+        Container<K> container, ScheduledExecutorService scheduler, Executor executor, double percentile) {
+        Asserts.isTrue(percentile > 0 && percentile < 1, "percentile must be between 0 and 1, but got [{}]", percentile);
+        this.container = container;
+        this.scheduler = scheduler;
+        this.executor = executor;
+        this.percentile = percentile;
+    }
+
+    /**
+     * Enter a batch of key values to asynchronously return data source objects grouped by key values,
+     * if the call is too slow, a hedged request will be sent.
+     *
+     * @param keys keys
+     * @return completion stage of data source objects grouped by key value
+     */
+    @Override
+    public CompletionStage<Map<K, ?>> getAsync(Collection<K> keys) {
+        HedgedCall hedgedCall = new HedgedCall(keys);
+        long threshold = getHedgingThreshold();
+        hedgedCall.attempt();
+        if (threshold > 0) {
+            scheduler.schedule(() -> {
+                if (hedgedCall.result.isDone()) {
+                    return;
+                }
+                hedgedCount.incrementAndGet();
+                log.debug("send hedged request to container [{}] after [{}] ns", getNamespace(), threshold);
+                hedgedCall.attempt();
+            }, threshold, TimeUnit.NANOSECONDS);
+        }
+        return hedgedCall.result;
+    }
+
+    /**
+     * Enter a batch of key values to return data source objects grouped by key values,
+     * the current thread will be blocked until the result is completed.
+     *
+     * @param keys keys
+     * @return data source objects grouped by key value
+     */
+    @Override
+    public Map<K, ?> get(Collection<K> keys) {
+        try {
+            return getAsync(keys).toCompletableFuture().join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException)cause : ex;
+        }
+    }
+
+    @NonNull
+    @Override
+    public String getNamespace() {
+        return container.getNamespace();
+    }
+
+    /**
+     * Get the number of hedged requests which have been sent.
+     *
+     * @return number of hedged requests
+     */
+    public long getHedgedCount() {
+        return hedgedCount.get();
+    }
+
+    /**
+     * Get the latency threshold for sending hedged requests.
+     *
+     * @return threshold in nanoseconds, -1 if there are not enough samples
+     */
+    public long getHedgingThreshold() {
+        long[] samples;
+        synchronized (latencies) {
+            if (sampleCount < MIN_SAMPLE_SIZE) {
+                return -1L;
+            }
+            samples = Arrays.copyOf(latencies, Math.min(sampleCount, SAMPLE_SIZE));
+        }
+        Arrays.sort(samples);
+        int index = (int)Math.ceil(percentile * samples.length) - 1;
+        return samples[Math.max(index, 0)];
+    }
+
+    private void recordLatency(long latency) {
+        synchronized (latencies) {
+            latencies[sampleCount % SAMPLE_SIZE] = latency;
+            // avoid overflow while keeping the position of ring buffer
+            sampleCount = sampleCount >= SAMPLE_SIZE * 2 ? sampleCount - SAMPLE_SIZE + 1 : sampleCount + 1;
+        }
+    }
+
+    private CompletableFuture<Map<K, ?>> call(Collection<K> keys) {
+        try {
+            return AsyncContainer.isNonBlocking(container) ?
+                ((AsyncContainer<K>)container).getAsync(keys).toCompletableFuture() :
+                CompletableFuture.supplyAsync(() -> container.get(keys), executor);
+        } catch (Exception ex) {
+            CompletableFuture<Map<K, ?>> future = new CompletableFuture<>();
+            future.completeExceptionally(ex);
+            return future;
+        }
+    }
+
+    /**
+     * A call which may be sent more than once,
+     * the result is completed by the first successful attempt, or failed after all attempts are failed.
+     */
+    @RequiredArgsConstructor
+    private class HedgedCall {
+
+        private final Collection<K> keys;
+        private final CompletableFuture<Map<K, ?>> result = new CompletableFuture<>();
+        private final AtomicInteger outstanding = new AtomicInteger(0);
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final AtomicBoolean succeeded = new AtomicBoolean(false);
+
+        void attempt() {
+            outstanding.incrementAndGet();
+            long start = System.nanoTime();
+            call(keys).whenComplete((r, ex) -> {
+                if (Objects.isNull(ex)) {
+                    // record the latency before completing, so it can be seen by the next call of caller
+                    if (succeeded.compareAndSet(false, true)) {
+                        recordLatency(System.nanoTime() - start);
+                        result.complete(r);
+                    }
+                    return;
+                }
+                failure.compareAndSet(null, ex instanceof CompletionException ? ex.getCause() : ex);
+                if (outstanding.decrementAndGet() == 0) {
+                    result.completeExceptionally(failure.get());
+                } else {
+                    log.debug("request to container [{}] is failed, wait for the other one", getNamespace(), ex);
+                }
+            });
+        }
+    }
+}
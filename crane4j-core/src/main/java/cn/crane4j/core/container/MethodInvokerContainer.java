@@ -6,6 +6,7 @@ import cn.crane4j.core.support.MethodInvoker;
 import cn.crane4j.core.util.CollectionUtils;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Collection;
@@ -14,6 +15,8 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 
 /**
@@ -27,6 +30,13 @@ import java.util.stream.Collectors;
  * according to annotations or specific configurations,
  * automatically adapt them to data source containers and register them.
  *
+ * <p>If the method returns a {@link CompletionStage},
+ * the data source objects will be resolved after it is completed,
+ * and the container should be marked as non-blocking by {@link #setNonBlocking},
+ * then it can be used as an {@link AsyncContainer} without blocking the thread.
+ * Otherwise, the method will be invoked in the calling thread of {@link #getAsync},
+ * and the executor will call it in another thread just like a synchronous container.
+ *
  * <p>If only a few known methods need to be used as data sources,
  * you can directly use {@link LambdaContainer}.
  *
@@ -36,7 +46,7 @@ import java.util.stream.Collectors;
  * @see MappingType
  */
 @RequiredArgsConstructor
-public abstract class MethodInvokerContainer implements Container<Object> {
+public abstract class MethodInvokerContainer implements AsyncContainer<Object> {
 
     /**
      * Namespace of method.
@@ -56,6 +66,16 @@ public abstract class MethodInvokerContainer implements Container<Object> {
     @Nullable
     protected final Object target;
 
+    /**
+     * Whether the method returns a {@link CompletionStage},
+     * if true, {@link #getAsync} will not block the calling thread.
+     *
+     * @since 2.6.0
+     */
+    @Getter
+    @Setter
+    private boolean nonBlocking = false;
+
     /**
      * Create a standard method data source container.
      *
@@ -119,6 +139,30 @@ public abstract class MethodInvokerContainer implements Container<Object> {
         return new MethodInvokerContainer.OneToMany(namespace, methodInvoker, target, keyExtractor);
     }
 
+    /**
+     * Wait for the result if it is a {@link CompletionStage}.
+     *
+     * @param result result of method invocation
+     * @return result
+     */
+    @Nullable
+    protected static Object join(@Nullable Object result) {
+        return result instanceof CompletionStage ?
+            ((CompletionStage<?>)result).toCompletableFuture().join() : result;
+    }
+
+    /**
+     * Adapt the result of method invocation to {@link CompletableFuture}.
+     *
+     * @param result result of method invocation
+     * @return completable future
+     */
+    @SuppressWarnings("unchecked")
+    protected static CompletableFuture<Object> toCompletableFuture(@Nullable Object result) {
+        return result instanceof CompletionStage ?
+            ((CompletionStage<Object>)result).toCompletableFuture() : CompletableFuture.completedFuture(result);
+    }
+
     /**
      * The container for method with single parameter.
      *
@@ -141,10 +185,31 @@ public abstract class MethodInvokerContainer implements Container<Object> {
             Map<Object, Object> results = new HashMap<>(keys.size());
             keys.forEach(key -> {
                 Object result = methodInvoker.invoke(target, key);
-                results.put(key, result);
+                results.put(key, join(result));
             });
             return results;
         }
+
+        /**
+         * Enter a batch of key values to asynchronously return data source objects grouped by key values.
+         *
+         * @param keys keys
+         * @return completion stage of data source objects grouped by key value
+         * @since 2.6.0
+         */
+        @Override
+        public CompletionStage<Map<Object, ?>> getAsync(Collection<Object> keys) {
+            Map<Object, Object> results = new HashMap<>(keys.size());
+            CompletableFuture<?>[] futures = keys.stream()
+                .map(key -> toCompletableFuture(methodInvoker.invoke(target, key))
+                    .thenAccept(result -> {
+                        synchronized (results) {
+                            results.put(key, result);
+                        }
+                    }))
+                .toArray(CompletableFuture[]::new);
+            return CompletableFuture.allOf(futures).thenApply(v -> results);
+        }
     }
 
     /**
@@ -167,7 +232,25 @@ public abstract class MethodInvokerContainer implements Container<Object> {
         @Override
         public Map<Object, ?> get(Collection<Object> keys) {
             Object[] arguments = resolveArguments(keys);
-            Object result = methodInvoker.invoke(target, arguments);
+            Object result = join(methodInvoker.invoke(target, arguments));
+            return resolveResultIfNecessary(keys, result);
+        }
+
+        /**
+         * Enter a batch of key values to asynchronously return data source objects grouped by key values.
+         *
+         * @param keys keys
+         * @return completion stage of data source objects grouped by key value
+         * @since 2.6.0
+         */
+        @Override
+        public CompletionStage<Map<Object, ?>> getAsync(Collection<Object> keys) {
+            Object[] arguments = resolveArguments(keys);
+            return toCompletableFuture(methodInvoker.invoke(target, arguments))
+                .thenApply(result -> resolveResultIfNecessary(keys, result));
+        }
+
+        private Map<Object, ?> resolveResultIfNecessary(Collection<Object> keys, @Nullable Object result) {
             if (Objects.isNull(result)) {
                 return Collections.emptyMap();
             }
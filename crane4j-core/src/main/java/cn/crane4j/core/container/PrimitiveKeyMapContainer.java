@@ -0,0 +1,395 @@
+package cn.crane4j.core.container;
+
+import cn.crane4j.core.exception.Crane4jException;
+import cn.crane4j.core.util.Asserts;
+import lombok.Getter;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>An immutable container whose keys are integral numbers.<br />
+ * The key-value pairs are stored in open-addressing {@code long[]} and {@code Object[]} arrays
+ * instead of a {@link java.util.HashMap}, so there is no boxed key and entry object for each pair.
+ * It's suitable for large dictionaries keyed by {@code long} or {@code int},
+ * such as the names of products or the codes of regions.
+ *
+ * <p>The key type of container must be one of {@link Long}, {@link Integer}, {@link Short} and {@link Byte},
+ * and the keys of entries in the returned map are boxed as the key type.
+ * But keys of any integral wrapper type can be used to look up the same entry,
+ * so the key type of operation does not need to be converted.
+ * Null values are not stored.
+ *
+ * <p>Like {@link ImmutableMapContainer}, it always returns all data when getting data from container,
+ * the returned map is a read-only view of the arrays.
+ *
+ * @param <K> key type
+ * @author huangchengxing
+ * @see ImmutableMapContainer
+ * @since 2.6.0
+ */
+public class PrimitiveKeyMapContainer<K extends Number> implements LimitedContainer<K>, Container.Lifecycle {
+
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /**
+     * namespace of the data source container
+     */
+    @Getter
+    private final String namespace;
+    private final IntegralType keyType;
+    private final long[] keys;
+
+    /**
+     * values of slots, null means the slot is empty
+     */
+    private final Object[] values;
+    private int size;
+    private final Map<K, Object> view = new MapView();
+
+    private PrimitiveKeyMapContainer(String namespace, IntegralType keyType, long[] keys, Object[] values, int size) {
+        this.namespace = namespace;
+        this.keyType = keyType;
+        this.keys = keys;
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * Create a container based on the specified {@link Map} instance,
+     * the entries with null key or null value will be ignored.
+     * All keys must be the same integral wrapper type, and the key type is {@link Long} if the map is empty.
+     *
+     * @param namespace namespace
+     * @param data data source objects grouped by key value
+     * @param <K> key type
+     * @return container
+     */
+    @SuppressWarnings("unchecked")
+    public static <K extends Number> PrimitiveKeyMapContainer<K> forMap(String namespace, @NonNull Map<K, ?> data) {
+        Objects.requireNonNull(data, "data must not null");
+        Class<K> keyType = (Class<K>)data.keySet().stream()
+            .filter(Objects::nonNull)
+            .findFirst()
+            .map(Object::getClass)
+            .orElse(Long.class);
+        Builder<K> builder = builder(namespace, keyType, data.size());
+        data.forEach((k, v) -> {
+            Asserts.isTrue(Objects.isNull(k) || k.getClass() == keyType,
+                "all keys must be type of [{}], but got [{}]", keyType.getName(), k);
+            if (Objects.nonNull(k) && Objects.nonNull(v)) {
+                builder.put(k.longValue(), v);
+            }
+        });
+        return builder.build();
+    }
+
+    /**
+     * Create a builder of container whose key type is {@link Long},
+     * it can be used to put a large number of entries without boxing keys.
+     *
+     * @param namespace namespace
+     * @param expectedSize expected number of entries
+     * @return builder
+     */
+    public static Builder<Long> builder(String namespace, int expectedSize) {
+        return builder(namespace, Long.class, expectedSize);
+    }
+
+    /**
+     * Create a builder of container with the specified key type,
+     * it can be used to put a large number of entries without boxing keys.
+     *
+     * @param namespace namespace
+     * @param keyType key type, must be one of {@link Long}, {@link Integer}, {@link Short} and {@link Byte}
+     * @param expectedSize expected number of entries
+     * @param <K> key type
+     * @return builder
+     */
+    public static <K extends Number> Builder<K> builder(String namespace, Class<K> keyType, int expectedSize) {
+        Objects.requireNonNull(namespace, "namespace must not null");
+        return new Builder<>(namespace, IntegralType.of(keyType), expectedSize);
+    }
+
+    /**
+     * Get the data source object of the specified key.
+     *
+     * @param key key
+     * @return data source object, null if not found
+     */
+    @Nullable
+    public Object get(long key) {
+        int mask = keys.length - 1;
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            Object value = values[i];
+            if (Objects.isNull(value)) {
+                return null;
+            }
+            if (keys[i] == key) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Get the number of entries in the container.
+     *
+     * @return number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Enter a batch of key values to return data source objects grouped by key values.
+     *
+     * @param keys keys
+     * @return read-only view of all data source objects
+     */
+    @Override
+    public Map<K, ?> get(Collection<K> keys) {
+        return view;
+    }
+
+    /**
+     * Get all data source objects in the container.
+     *
+     * @return read-only view of all data source objects
+     */
+    @Override
+    public Map<K, ?> getAll() {
+        return view;
+    }
+
+    /**
+     * Destroy the container
+     */
+    @Override
+    public void destroy() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int)(h ^ (h >>> 32));
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long required = (long)Math.ceil(Math.max(expectedSize, 1) / (double)LOAD_FACTOR) + 1;
+        Asserts.isTrue(required <= MAXIMUM_CAPACITY, "too many entries: {}", expectedSize);
+        return Integer.highestOneBit((int)required - 1) << 1;
+    }
+
+    /**
+     * Put the entry into the slots.
+     *
+     * @return true if the key is absent before
+     */
+    private static boolean insert(long[] keys, Object[] values, long key, Object value) {
+        int mask = keys.length - 1;
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            if (Objects.isNull(values[i])) {
+                keys[i] = key;
+                values[i] = value;
+                return true;
+            }
+            if (keys[i] == key) {
+                values[i] = value;
+                return false;
+            }
+        }
+    }
+
+    private static boolean isIntegral(Object key) {
+        return key instanceof Long || key instanceof Integer
+            || key instanceof Short || key instanceof Byte;
+    }
+
+    /**
+     * Supported key types, and the range of their values.
+     */
+    private enum IntegralType {
+
+        LONG(Long.class, Long.MIN_VALUE, Long.MAX_VALUE),
+        INTEGER(Integer.class, Integer.MIN_VALUE, Integer.MAX_VALUE),
+        SHORT(Short.class, Short.MIN_VALUE, Short.MAX_VALUE),
+        BYTE(Byte.class, Byte.MIN_VALUE, Byte.MAX_VALUE);
+
+        private final Class<?> type;
+        private final long min;
+        private final long max;
+
+        IntegralType(Class<?> type, long min, long max) {
+            this.type = type;
+            this.min = min;
+            this.max = max;
+        }
+
+        static IntegralType of(Class<?> type) {
+            return Arrays.stream(values())
+                .filter(t -> t.type == type)
+                .findFirst()
+                .orElseThrow(() -> new Crane4jException(
+                    "key type must be one of Long, Integer, Short and Byte, but got [{}]", type
+                ));
+        }
+
+        boolean isInRange(long key) {
+            return key >= min && key <= max;
+        }
+
+        Number box(long key) {
+            switch (this) {
+                case INTEGER:
+                    return (int)key;
+                case SHORT:
+                    return (short)key;
+                case BYTE:
+                    return (byte)key;
+                default:
+                    return key;
+            }
+        }
+    }
+
+    /**
+     * Builder of {@link PrimitiveKeyMapContainer}.
+     *
+     * @param <K> key type
+     */
+    public static class Builder<K extends Number> {
+
+        private final String namespace;
+        private final IntegralType keyType;
+        private long[] keys;
+        private Object[] values;
+        private int size;
+        private int threshold;
+
+        private Builder(String namespace, IntegralType keyType, int expectedSize) {
+            this.namespace = namespace;
+            this.keyType = keyType;
+            int capacity = capacityFor(expectedSize);
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+            this.threshold = (int)(capacity * LOAD_FACTOR);
+        }
+
+        /**
+         * Put an entry, if the key already exists, the value will be replaced.
+         *
+         * @param key key, must be in the range of key type
+         * @param value value, must not null
+         * @return builder
+         */
+        public Builder<K> put(long key, @NonNull Object value) {
+            Objects.requireNonNull(value, "value must not null");
+            Asserts.isTrue(keyType.isInRange(key), "key [{}] is out of range of [{}]", key, keyType.type.getName());
+            if (size >= threshold) {
+                resize();
+            }
+            if (insert(keys, values, key, value)) {
+                size++;
+            }
+            return this;
+        }
+
+        /**
+         * Build the container.
+         *
+         * @return container
+         */
+        public PrimitiveKeyMapContainer<K> build() {
+            return new PrimitiveKeyMapContainer<>(namespace, keyType, keys, values, size);
+        }
+
+        private void resize() {
+            int capacity = capacityFor(size * 2);
+            long[] newKeys = new long[capacity];
+            Object[] newValues = new Object[capacity];
+            for (int i = 0; i < values.length; i++) {
+                if (Objects.nonNull(values[i])) {
+                    insert(newKeys, newValues, keys[i], values[i]);
+                }
+            }
+            keys = newKeys;
+            values = newValues;
+            threshold = (int)(capacity * LOAD_FACTOR);
+        }
+    }
+
+    /**
+     * A read-only map view of the container, the keys of entries are boxed as the key type.
+     */
+    private class MapView extends AbstractMap<K, Object> {
+
+        @Override
+        public Object get(Object key) {
+            return isIntegral(key) ? PrimitiveKeyMapContainer.this.get(((Number)key).longValue()) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return Objects.nonNull(get(key));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Set<Entry<K, Object>> entrySet() {
+            return new AbstractSet<Entry<K, Object>>() {
+                @Override
+                public Iterator<Entry<K, Object>> iterator() {
+                    return new EntryIterator();
+                }
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<K, Object>> {
+
+        private int next = advance(0);
+
+        @Override
+        public boolean hasNext() {
+            return next < values.length;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Map.Entry<K, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int current = next;
+            next = advance(current + 1);
+            return new AbstractMap.SimpleImmutableEntry<>((K)keyType.box(keys[current]), values[current]);
+        }
+
+        private int advance(int from) {
+            int index = from;
+            while (index < values.length && Objects.isNull(values[index])) {
+                index++;
+            }
+            return index;
+        }
+    }
+}
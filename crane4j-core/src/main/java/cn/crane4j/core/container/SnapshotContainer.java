@@ -0,0 +1,531 @@
+package cn.crane4j.core.container;
+
+import cn.crane4j.core.cache.OffHeapCacheManager;
+import cn.crane4j.core.cache.OffHeapCacheManager.Codec;
+import cn.crane4j.core.util.Asserts;
+import cn.crane4j.core.util.ExecutorUtils;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+/**
+ * <p>A container which persists the data of a {@link LimitedContainer} to a snapshot file,
+ * and serves lookups from the memory-mapped snapshot when the application is started next time.<br />
+ * It's suitable for large dictionaries which take a long time to load, such as loading from database.
+ *
+ * <p>When the container is initialized:
+ * <ul>
+ *     <li>
+ *         if the snapshot file exists, it will be mapped into memory and used to serve lookups immediately,
+ *         and the loader will be called in background, when it's completed,
+ *         the lookups will be served by the loaded container and the snapshot will be rewritten;
+ *     </li>
+ *     <li>if the snapshot file does not exist or is broken, the loader will be called synchronously;</li>
+ * </ul>
+ * The keys and values in snapshot are serialized by {@link Codec},
+ * only the values of requested keys are deserialized from snapshot,
+ * and the keys are compared by their serialized bytes.
+ * The snapshot is verified by checksum and the bounds of its entries when it's mapped,
+ * if a value still cannot be decoded in lookup, the snapshot will be discarded
+ * and the loader will be called synchronously.
+ *
+ * <p>Before the snapshot is mapped, it will be renamed to a live file with suffix {@code .live},
+ * and the new snapshot is always written to the snapshot file,
+ * so the snapshot file can be replaced even if the live file is still mapped.
+ * The mapping cannot be released explicitly because the view of snapshot may be still held by callers,
+ * it will be released when the buffer is garbage collected. Therefore, on Windows,
+ * the live file cannot be deleted after loading, and it will be replaced when the container is initialized next time.
+ * If the snapshot file does not exist, such as the application exits before the snapshot is rewritten,
+ * the live file will be mapped instead.
+ *
+ * <p>Like {@link ImmutableMapContainer}, it always returns all data when getting data from container.
+ *
+ * @param <K> key type
+ * @author huangchengxing
+ * @see LimitedContainer
+ * @since 2.6.0
+ */
+@Slf4j
+public class SnapshotContainer<K> implements LimitedContainer<K>, Container.Lifecycle {
+
+    private static final int MAGIC = 0x43524A53;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 20;
+    private static final int SLOT_SIZE = 8;
+
+    @Getter
+    private final String namespace;
+    private final Path snapshotFile;
+    private final Path liveFile;
+    private final Supplier<? extends LimitedContainer<K>> loader;
+
+    /**
+     * codec of keys and values in snapshot, the keys and values must be supported by it
+     */
+    @NonNull
+    @Setter
+    private Codec codec = OffHeapCacheManager.SerializableCodec.INSTANCE;
+
+    /**
+     * executor used to load data in background when the snapshot is available,
+     * if null, the default executor of {@link ExecutorUtils#getDefaultExecutor()} will be used
+     */
+    @Nullable
+    @Setter
+    private Executor executor;
+
+    @Nullable
+    private volatile LimitedContainer<K> loaded;
+    @Nullable
+    private volatile SnapshotView snapshot;
+
+    /**
+     * Create a snapshot container.
+     *
+     * @param namespace namespace
+     * @param snapshotFile path of snapshot file
+     * @param loader loader of the actual container, it may be called in background
+     */
+    public SnapshotContainer(
+        @NonNull String namespace, @NonNull Path snapshotFile, @NonNull Supplier<? extends LimitedContainer<K>> loader) {
+        this.namespace = namespace;
+        this.snapshotFile = snapshotFile;
+        this.liveFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".live");
+        this.loader = loader;
+    }
+
+    /**
+     * Whether the lookups are served by snapshot currently.
+     *
+     * @return true if the actual container is still loading
+     */
+    public boolean isServingSnapshot() {
+        return Objects.isNull(loaded) && Objects.nonNull(snapshot);
+    }
+
+    /**
+     * Map the snapshot if it exists, and load the actual container.
+     */
+    @Override
+    public void init() {
+        Path file = prepareLiveFile();
+        SnapshotView view = Objects.isNull(file) ? null : mapSnapshot(file);
+        if (Objects.isNull(view)) {
+            load();
+            return;
+        }
+        snapshot = view;
+        log.info("container [{}] is served by snapshot [{}] with {} entries while loading", namespace, file, view.size());
+        Executor current = Objects.isNull(executor) ? ExecutorUtils.getDefaultExecutor() : executor;
+        try {
+            current.execute(() -> {
+                try {
+                    load();
+                } catch (RuntimeException ex) {
+                    // the snapshot will be used until the container is loaded successfully
+                    log.warn("cannot load container [{}], it is still served by snapshot", namespace, ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            log.warn("cannot load container [{}] in background, it will be loaded synchronously", namespace, ex);
+            load();
+        }
+    }
+
+    /**
+     * Destroy the loaded container and release the snapshot.
+     */
+    @Override
+    public void destroy() {
+        LimitedContainer<K> current = loaded;
+        if (current instanceof Container.Lifecycle) {
+            ((Container.Lifecycle)current).destroy();
+        }
+        loaded = null;
+        snapshot = null;
+    }
+
+    /**
+     * Enter a batch of key values to return data source objects grouped by key values.
+     *
+     * @param keys keys
+     * @return data source objects grouped by key value
+     */
+    @Override
+    public Map<K, ?> get(Collection<K> keys) {
+        LimitedContainer<K> current = loaded;
+        if (Objects.nonNull(current)) {
+            return current.get(keys);
+        }
+        return getAll();
+    }
+
+    /**
+     * Get all data source objects in the container,
+     * if the container is still loading, a read-only view of snapshot is returned.
+     *
+     * @return all data source objects
+     */
+    @Override
+    public Map<K, ?> getAll() {
+        LimitedContainer<K> current = loaded;
+        if (Objects.nonNull(current)) {
+            return current.getAll();
+        }
+        SnapshotView view = snapshot;
+        if (Objects.nonNull(view)) {
+            return view;
+        }
+        // not initialized yet
+        return load().getAll();
+    }
+
+    private synchronized LimitedContainer<K> load() {
+        LimitedContainer<K> current = loaded;
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+        current = loader.get();
+        Asserts.isNotNull(current, "loader of container [{}] returned null", namespace);
+        if (current instanceof Container.Lifecycle) {
+            ((Container.Lifecycle)current).init();
+        }
+        loaded = current;
+        snapshot = null;
+        try {
+            writeSnapshot(current.getAll());
+        } catch (IOException | RuntimeException ex) {
+            // keep the live file, it will be mapped when the container is initialized next time
+            log.warn("cannot write snapshot [{}] of container [{}]", snapshotFile, namespace, ex);
+            return current;
+        }
+        deleteLiveFile();
+        return current;
+    }
+
+    /**
+     * Rename the snapshot file to the live file which will be mapped,
+     * if the snapshot file does not exist, the live file left by last run will be used.
+     *
+     * @return the file to be mapped, null if no snapshot is available
+     */
+    @Nullable
+    private Path prepareLiveFile() {
+        if (Files.isRegularFile(snapshotFile)) {
+            try {
+                moveFile(snapshotFile, liveFile);
+            } catch (IOException ex) {
+                log.warn("cannot rename snapshot [{}] to [{}], it will be mapped directly", snapshotFile, liveFile, ex);
+                return snapshotFile;
+            }
+        }
+        return Files.isRegularFile(liveFile) ? liveFile : null;
+    }
+
+    private void deleteLiveFile() {
+        try {
+            Files.deleteIfExists(liveFile);
+        } catch (IOException ex) {
+            // the file may be still mapped on some platforms such as Windows
+            log.debug(
+                "cannot delete [{}], it will be replaced when container [{}] is initialized next time", liveFile, namespace, ex
+            );
+        }
+    }
+
+    /**
+     * Map the snapshot file and validate it,
+     * if the snapshot is broken or cannot be decoded by codec, null will be returned.
+     */
+    @Nullable
+    private SnapshotView mapSnapshot(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            Asserts.isTrue(size >= HEADER_SIZE && size <= Integer.MAX_VALUE, "invalid size of snapshot: {}", size);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            Asserts.isTrue(buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION, "invalid header of snapshot");
+            int count = buffer.getInt(8);
+            int slots = buffer.getInt(12);
+            Asserts.isTrue(
+                count >= 0 && slots > 0 && Integer.bitCount(slots) == 1
+                    && HEADER_SIZE + (long)slots * SLOT_SIZE <= size,
+                "invalid table of snapshot"
+            );
+            Asserts.isTrue(buffer.getInt(16) == checksum(buffer, (int)size), "checksum of snapshot is mismatched");
+            validateEntries(buffer, count, slots, (int)size);
+            return new SnapshotView(buffer, count, slots);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("cannot read snapshot [{}] of container [{}], it will be ignored", file, namespace, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Check that the slots and entries are all in the bounds of snapshot,
+     * and the first entry can be decoded by the codec,
+     * so a broken snapshot is found once here instead of failing in each lookup.
+     */
+    private void validateEntries(ByteBuffer buffer, int count, int slots, int size) {
+        int entriesStart = HEADER_SIZE + slots * SLOT_SIZE;
+        int usedSlots = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            int offset = buffer.getInt(slotPosition(slot) + 4);
+            if (offset != 0) {
+                Asserts.isTrue(offset >= entriesStart && offset <= size - 8, "invalid offset of slot: {}", offset);
+                usedSlots++;
+            }
+        }
+        Asserts.isTrue(usedSlots == count && count < slots, "invalid number of slots: {}", usedSlots);
+        long offset = entriesStart;
+        for (int i = 0; i < count; i++) {
+            Asserts.isTrue(offset <= size - 8L, "invalid offset of entry: {}", offset);
+            int keyLength = buffer.getInt((int)offset);
+            Asserts.isTrue(keyLength >= 0 && offset + 8L + keyLength <= size, "invalid length of key: {}", keyLength);
+            int valueLength = buffer.getInt((int)offset + 4 + keyLength);
+            Asserts.isTrue(
+                valueLength >= 0 && offset + 8L + keyLength + valueLength <= size, "invalid length of value: {}", valueLength
+            );
+            if (i == 0) {
+                ByteBuffer view = buffer.duplicate();
+                byte[] key = new byte[keyLength];
+                byte[] value = new byte[valueLength];
+                view.position((int)offset + 4);
+                view.get(key);
+                view.position((int)offset + 8 + keyLength);
+                view.get(value);
+                codec.decode(key);
+                codec.decode(value);
+            }
+            offset += 8L + keyLength + valueLength;
+        }
+        Asserts.isTrue(offset == size, "unexpected data at the end of snapshot: {}", offset);
+    }
+
+    /**
+     * Checksum of the slots and entries of snapshot.
+     */
+    private static int checksum(ByteBuffer buffer, int size) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(HEADER_SIZE);
+        view.limit(size);
+        CRC32 crc = new CRC32();
+        byte[] chunk = new byte[8192];
+        while (view.hasRemaining()) {
+            int length = Math.min(chunk.length, view.remaining());
+            view.get(chunk, 0, length);
+            crc.update(chunk, 0, length);
+        }
+        return (int)crc.getValue();
+    }
+
+    /**
+     * Write snapshot to a temporary file and then move it to the snapshot file.
+     */
+    private void writeSnapshot(Map<K, ?> data) throws IOException {
+        List<byte[]> keys = new ArrayList<>(data.size());
+        List<byte[]> values = new ArrayList<>(data.size());
+        long entriesSize = 0;
+        for (Map.Entry<K, ?> entry : data.entrySet()) {
+            if (Objects.isNull(entry.getKey()) || Objects.isNull(entry.getValue())) {
+                continue;
+            }
+            byte[] key = codec.encode(entry.getKey());
+            byte[] value = codec.encode(entry.getValue());
+            keys.add(key);
+            values.add(value);
+            entriesSize += 8L + key.length + value.length;
+        }
+        int slots = Integer.highestOneBit(Math.max(keys.size() * 2, 2) - 1) << 1;
+        long size = HEADER_SIZE + (long)slots * SLOT_SIZE + entriesSize;
+        Asserts.isTrue(size <= Integer.MAX_VALUE, "snapshot of container [{}] is too large", namespace);
+
+        ByteBuffer buffer = ByteBuffer.allocate((int)size);
+        // the checksum is written after all entries are written
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(keys.size()).putInt(slots).putInt(0);
+        int offset = HEADER_SIZE + slots * SLOT_SIZE;
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] key = keys.get(i);
+            byte[] value = values.get(i);
+            int hash = hash(key);
+            int slot = hash & (slots - 1);
+            while (buffer.getInt(slotPosition(slot) + 4) != 0) {
+                slot = (slot + 1) & (slots - 1);
+            }
+            buffer.putInt(slotPosition(slot), hash);
+            buffer.putInt(slotPosition(slot) + 4, offset);
+            buffer.position(offset);
+            buffer.putInt(key.length).put(key).putInt(value.length).put(value);
+            offset = buffer.position();
+        }
+        buffer.putInt(16, checksum(buffer, (int)size));
+        buffer.rewind();
+
+        Path directory = snapshotFile.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, snapshotFile.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            moveFile(temp, snapshotFile);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        log.info("write snapshot [{}] of container [{}] with {} entries", snapshotFile, namespace, keys.size());
+    }
+
+    private static void moveFile(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static int slotPosition(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    private static int hash(byte[] bytes) {
+        int h = Arrays.hashCode(bytes);
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * A read-only map view of the memory-mapped snapshot.
+     */
+    private class SnapshotView extends AbstractMap<K, Object> {
+
+        private final ByteBuffer buffer;
+        private final int count;
+        private final int slots;
+
+        SnapshotView(ByteBuffer buffer, int count, int slots) {
+            this.buffer = buffer;
+            this.count = count;
+            this.slots = slots;
+        }
+
+        @Override
+        public Object get(Object key) {
+            if (Objects.isNull(key)) {
+                return null;
+            }
+            byte[] expected = codec.encode(key);
+            int hash = hash(expected);
+            for (int slot = hash & (slots - 1); ; slot = (slot + 1) & (slots - 1)) {
+                int offset = buffer.getInt(slotPosition(slot) + 4);
+                if (offset == 0) {
+                    return null;
+                }
+                if (buffer.getInt(slotPosition(slot)) == hash && Arrays.equals(expected, readBytes(offset))) {
+                    return decode(readBytes(offset + 4 + expected.length), key);
+                }
+            }
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return Objects.nonNull(get(key));
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+
+        @Override
+        public Set<Entry<K, Object>> entrySet() {
+            return new AbstractSet<Entry<K, Object>>() {
+                @Override
+                public Iterator<Entry<K, Object>> iterator() {
+                    return new EntryIterator();
+                }
+                @Override
+                public int size() {
+                    return count;
+                }
+            };
+        }
+
+        /**
+         * Decode the value, if it fails, the snapshot will be discarded
+         * and the value will be obtained from the container loaded synchronously.
+         */
+        private Object decode(byte[] value, Object key) {
+            try {
+                return codec.decode(value);
+            } catch (RuntimeException ex) {
+                log.warn(
+                    "cannot decode value from snapshot [{}] of container [{}], it will be discarded", snapshotFile, namespace, ex
+                );
+                snapshot = null;
+                return load().getAll().get(key);
+            }
+        }
+
+        private byte[] readBytes(int offset) {
+            byte[] bytes = new byte[buffer.getInt(offset)];
+            ByteBuffer view = buffer.duplicate();
+            view.position(offset + 4);
+            view.get(bytes);
+            return bytes;
+        }
+
+        /**
+         * Iterate entries in the order of writing, all keys and values will be deserialized.
+         */
+        private class EntryIterator implements Iterator<Entry<K, Object>> {
+
+            private int offset = HEADER_SIZE + slots * SLOT_SIZE;
+            private int remaining = count;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public Entry<K, Object> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                byte[] key = readBytes(offset);
+                byte[] value = readBytes(offset + 4 + key.length);
+                offset += 8 + key.length + value.length;
+                remaining--;
+                return new AbstractMap.SimpleImmutableEntry<>((K)codec.decode(key), codec.decode(value));
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package cn.crane4j.core.container.lifecycle;
+
+import cn.crane4j.core.container.BatchingContainer;
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ContainerDefinition;
+import cn.crane4j.core.util.ExecutorUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Processor for wrap the container as a {@link BatchingContainer}
+ * according to batching configuration before registering it.<br />
+ * The processor is not registered by default, you need to register it manually
+ * and specify which containers should be batched by {@link #setBatchingDefinitionRetriever}.
+ *
+ * @author huangchengxing
+ * @see BatchingContainer
+ * @since 2.6.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BatchingContainerProcessor implements ContainerLifecycleProcessor {
+
+    /**
+     * scheduler used to dispatch batches
+     */
+    protected final ScheduledExecutorService scheduler;
+
+    /**
+     * <p>Worker executor used to perform the merged calls of synchronous containers.<br />
+     * If null, the default executor of {@link ExecutorUtils#getDefaultExecutor()} will be used.
+     */
+    @Nullable
+    @Setter
+    private Executor executor;
+
+    /**
+     * <p>Batching definition retriever.<br/>
+     * If the obtained definition is null, the container will not be wrapped.
+     */
+    @NonNull
+    @Setter
+    private BatchingDefinitionRetriever batchingDefinitionRetriever = (definition, container) -> null;
+
+    /**
+     * Callback when the container is created.
+     *
+     * @param definition definition of container
+     * @param container  container
+     * @return final effective container instance
+     */
+    @Nullable
+    @Override
+    public Container<Object> whenCreated(ContainerDefinition definition, Container<Object> container) {
+        if (Objects.isNull(container) || container instanceof BatchingContainer) {
+            return container;
+        }
+        BatchingDefinition batchingDefinition = batchingDefinitionRetriever.retrieve(definition, container);
+        if (Objects.isNull(batchingDefinition)) {
+            return container;
+        }
+        log.info("apply batching to container [{}], window is [{}] {}, max batch size is [{}]",
+            container.getNamespace(), batchingDefinition.getWindow(),
+            batchingDefinition.getTimeUnit().name().toLowerCase(), batchingDefinition.getMaxBatchSize());
+        Executor worker = Objects.isNull(executor) ? ExecutorUtils.getDefaultExecutor() : executor;
+        return new BatchingContainer<>(
+            container, scheduler, worker, batchingDefinition.getWindow(),
+            batchingDefinition.getTimeUnit(), batchingDefinition.getMaxBatchSize()
+        );
+    }
+
+    /**
+     * Configuration of batching.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class BatchingDefinition {
+
+        /**
+         * time window for collecting requests of a batch
+         */
+        private final long window;
+
+        /**
+         * time unit of window
+         */
+        private final TimeUnit timeUnit;
+
+        /**
+         * max number of keys in a batch
+         */
+        private final int maxBatchSize;
+    }
+
+    /**
+     * Retriever for batching definition.
+     */
+    @FunctionalInterface
+    public interface BatchingDefinitionRetriever {
+
+        /**
+         * Retrieve batching definition.
+         *
+         * @param containerDefinition container definition
+         * @param container container
+         * @return batching definition, null if the container should not be batched
+         */
+        @Nullable
+        BatchingDefinition retrieve(ContainerDefinition containerDefinition, Container<Object> container);
+    }
+}
@@ -0,0 +1,22 @@
+package cn.crane4j.core.exception;
+
+/**
+ * A runtime exception that thrown when the data source objects
+ * of an operation are not obtained within the time limit.
+ *
+ * @author huangchengxing
+ * @see cn.crane4j.core.executor.DegradePolicy#FAIL
+ * @since 2.6.0
+ */
+public class OperationTimeoutException extends OperationExecuteException {
+
+    /**
+     * Constructs a new runtime exception with the specified detail message.
+     *
+     * @param messageTemplate the detail message
+     * @param args            args of message template
+     */
+    public OperationTimeoutException(String messageTemplate, Object... args) {
+        super(messageTemplate, args);
+    }
+}
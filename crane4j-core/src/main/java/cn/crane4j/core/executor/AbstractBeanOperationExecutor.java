@@ -2,7 +2,9 @@ package cn.crane4j.core.executor;
 
 import cn.crane4j.core.container.Container;
 import cn.crane4j.core.container.ContainerManager;
+import cn.crane4j.core.container.EmptyContainer;
 import cn.crane4j.core.exception.OperationExecuteException;
+import cn.crane4j.core.exception.OperationTimeoutException;
 import cn.crane4j.core.executor.handler.AssembleOperationHandler;
 import cn.crane4j.core.executor.handler.DisassembleOperationHandler;
 import cn.crane4j.core.parser.BeanOperations;
@@ -11,18 +13,33 @@ import cn.crane4j.core.parser.operation.DisassembleOperation;
 import cn.crane4j.core.parser.operation.KeyTriggerOperation;
 import cn.crane4j.core.util.Asserts;
 import cn.crane4j.core.util.CollectionUtils;
+import cn.crane4j.core.util.ExecutorUtils;
 import cn.crane4j.core.util.MultiMap;
+import cn.crane4j.core.util.ReflectUtils;
 import cn.crane4j.core.util.TimerUtil;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -90,6 +107,79 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
     @Setter
     private int batchSize = -1;
 
+    /**
+     * <p>Whether to cache the execution plan of {@link BeanOperations}.<br />
+     * If true, the containers of assembly operations will be resolved only once when they are used,
+     * and resolved again after the containers in {@link ContainerManager} or the assembly operations are changed.
+     *
+     * @see ContainerManager#getModificationCount
+     * @since 2.6.0
+     */
+    @Setter
+    private boolean enableExecutionPlanCache = true;
+
+    /**
+     * <p>Executor used to call the synchronous containers when a timeout or deadline is specified in options.<br />
+     * If null, the bounded default executor of {@link ExecutorUtils#getDefaultExecutor()} will be used.
+     * The calls which exceed the time limit will be cancelled and interrupted.
+     *
+     * @see Options#getTimeout
+     * @see Options#getDeadline
+     * @since 2.6.0
+     */
+    @Setter
+    @Nullable
+    private Executor timeLimitedExecutor;
+
+    /**
+     * <p>Policy for determining the number of keys in each call to a container.<br />
+     * If not null, the keys obtained from a container in an execution will be split into chunks
+     * according to the batch size of the container,
+     * the chunks will be obtained concurrently if {@link #getChunkExecutor()} is not null.
+     *
+     * @see AdaptiveBatchSizePolicy
+     * @since 2.6.0
+     */
+    @Setter
+    @Nullable
+    private BatchSizePolicy batchSizePolicy;
+
+    /**
+     * <p>Max depth of nested objects to be disassembled, non-positive value means no limit.<br />
+     * Whatever the value is, an object instance will be collected only once
+     * for the same operations in an execution,
+     * so the shared or cyclic references will not be processed repeatedly.
+     *
+     * @since 2.6.0
+     */
+    @Setter
+    private int maxDisassembleDepth = -1;
+
+    /**
+     * <p>Whether to skip the targets which have been assembled by the same operations
+     * in the current {@link ExecutionScope}.<br />
+     * It's useful when the same object is processed repeatedly in a call chain,
+     * for example, it is returned by a service method and then returned by a controller method,
+     * and both methods are annotated with {@code @AutoOperate}.
+     * If no scope is opened, it does not take effect.
+     *
+     * @see ExecutionScope#isAssembled
+     * @since 2.6.0
+     */
+    @Setter
+    private boolean skipAssembledTargets = false;
+
+    /**
+     * Cached execution plans.
+     */
+    private final Map<BeanOperations, ExecutionPlan> executionPlans = CollectionUtils.newWeakKeyConcurrentMap();
+
+    /**
+     * Whether {@link #createAssembleExecution(BeanOperations, AssembleOperation, Collection, Options)}
+     * is overridden by subclass, if so, the execution plan will not be used.
+     */
+    private final boolean createAssembleExecutionOverridden = isCreateAssembleExecutionOverridden(getClass());
+
     /**
      * Complete operations on all objects in {@code targets} according to the specified {@link BeanOperations} and {@link Options}.
      *
@@ -102,9 +192,59 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
      */
     @Override
     public void execute(Collection<?> targets, BeanOperations operations, Options options) {
-        if (CollectionUtils.isEmpty(targets) || Objects.isNull(operations)) {
+        if (!isExecutable(targets, operations)) {
             return;
         }
+        MultiMap<BeanOperations, Object> targetWithOperations = disassemble(targets, operations, options);
+        ExecutionScope scope = getScopeForSkippingAssembledTargets();
+        List<AssembleExecution> executions = combineExecutions(targetWithOperations, options, scope);
+
+        // complete assembly operation
+        TimerUtil.getExecutionTime(
+            log.isDebugEnabled(),
+            time -> log.debug("assemble operations completed in {} ms", time),
+            () -> executeOperations(executions, options)
+        );
+        markAssembled(executions, scope);
+        afterOperationsCompletion(targetWithOperations);
+    }
+
+    /**
+     * <p>Asynchronously complete operations on all objects in {@code targets}
+     * according to the specified {@link BeanOperations} and {@link Options}.<br />
+     * The disassembly operations are still completed in the current thread,
+     * and the assembly operations will be completed through {@link #executeOperationsAsync}.
+     *
+     * @param targets targets
+     * @param operations operations to be performed
+     * @param options options for execution
+     * @return completion stage of the operations
+     * @see #executeOperationsAsync
+     * @since 2.6.0
+     */
+    @Override
+    public CompletionStage<Void> executeAsync(Collection<?> targets, BeanOperations operations, Options options) {
+        try {
+            if (!isExecutable(targets, operations)) {
+                return CompletableFuture.completedFuture(null);
+            }
+            MultiMap<BeanOperations, Object> targetWithOperations = disassemble(targets, operations, options);
+            ExecutionScope scope = getScopeForSkippingAssembledTargets();
+            List<AssembleExecution> executions = combineExecutions(targetWithOperations, options, scope);
+            return executeOperationsAsync(executions, options)
+                .thenRun(() -> markAssembled(executions, scope))
+                .thenRun(() -> afterOperationsCompletion(targetWithOperations));
+        } catch (Exception ex) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            future.completeExceptionally(ex);
+            return future;
+        }
+    }
+
+    private boolean isExecutable(Collection<?> targets, BeanOperations operations) {
+        if (CollectionUtils.isEmpty(targets) || Objects.isNull(operations)) {
+            return false;
+        }
 
         // When the following all conditions are met, the operation will be abandoned:
         // 1. The operation is not active;
@@ -112,22 +252,30 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
         // 3. The execution of non-active operations is not enabled.
         if (!operations.isActive() && !enableExecuteNotActiveOperation) {
             log.warn("bean operation of [{}] is still not ready, abort execution of the operation", operations.getSource());
-            return;
+            return false;
         }
+        return true;
+    }
 
+    private MultiMap<BeanOperations, Object> disassemble(
+        Collection<?> targets, BeanOperations operations, Options options) {
         // complete the disassembly first if necessary
         beforeDisassembleOperation(targets, operations, options);
-        MultiMap<BeanOperations, Object> targetWithOperations = MultiMap.linkedListMultimap();
-        targetWithOperations.putAll(operations, targets);
-        Predicate<? super KeyTriggerOperation> filter = options.getFilter();
+        DisassembleContext context = new DisassembleContext(options.getFilter());
+        Collection<Object> roots = context.collect(operations, targets);
         TimerUtil.getExecutionTime(
             log.isDebugEnabled(),
             time -> log.debug("disassemble operations completed in {} ms", time),
-            () -> disassembleIfNecessary(targets, operations, filter, targetWithOperations)
+            () -> disassembleIfNecessary(roots, operations, context, 0)
         );
+        return context.collector;
+    }
 
+    private List<AssembleExecution> combineExecutions(
+        MultiMap<BeanOperations, Object> targetWithOperations, Options options, @Nullable ExecutionScope scope) {
         // flattened objects are grouped according to assembly operations, then encapsulated as execution objects
         beforeAssembleOperation(targetWithOperations);
+        Predicate<? super KeyTriggerOperation> filter = options.getFilter();
         List<AssembleExecution> executions = new ArrayList<>();
         targetWithOperations.asMap().forEach((op, ts) -> {
             List<AssembleExecution> executionsOfOp = combineExecutions(options, filter, op, ts);
@@ -135,14 +283,167 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
                 executions.addAll(executionsOfOp);
             }
         });
+        // keys are split into chunks inside the scope,
+        // so only the keys which are not memoized will be obtained and recorded by the batch size policy
+        List<AssembleExecution> chunkedExecutions = applyBatchSizePolicy(skipAssembledTargets(executions, scope));
+        return applyTimeLimit(applyExecutionScope(chunkedExecutions, options), options);
+    }
 
-        // complete assembly operation
-        TimerUtil.getExecutionTime(
-            log.isDebugEnabled(),
-            time -> log.debug("assemble operations completed in {} ms", time),
-            () -> executeOperations(executions, options)
-        );
-        afterOperationsCompletion(targetWithOperations);
+    @Nullable
+    private ExecutionScope getScopeForSkippingAssembledTargets() {
+        return skipAssembledTargets ? ExecutionScope.current() : null;
+    }
+
+    /**
+     * Remove the targets which have been assembled by the same operation in the scope.
+     *
+     * @param executions executions
+     * @param scope scope, null if the assembled targets should not be skipped
+     * @return executions
+     * @see #skipAssembledTargets
+     */
+    private static List<AssembleExecution> skipAssembledTargets(
+        List<AssembleExecution> executions, @Nullable ExecutionScope scope) {
+        if (Objects.isNull(scope)) {
+            return executions;
+        }
+        List<AssembleExecution> results = new ArrayList<>(executions.size());
+        for (AssembleExecution execution : executions) {
+            AssembleOperation operation = execution.getOperation();
+            Collection<Object> targets = execution.getTargets();
+            List<Object> unassembled = targets.stream()
+                .filter(t -> !scope.isAssembled(t, operation))
+                .collect(Collectors.toList());
+            if (unassembled.size() == targets.size()) {
+                results.add(execution);
+            } else if (!unassembled.isEmpty()) {
+                results.add(AssembleExecution.create(
+                    execution.getBeanOperations(), operation, execution.getContainer(), unassembled
+                ));
+            } else {
+                log.debug("skip operation [{}] for all targets which have been assembled", operation.getKey());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Mark the targets of executions as assembled in the scope,
+     * the failed executions and the executions degraded by the time limit are excluded,
+     * so their targets can be assembled again in the scope.
+     *
+     * @param executions executions
+     * @param scope scope, null if the assembled targets should not be skipped
+     * @see AssembleExecution#isFailed()
+     * @see TimeLimitedContainer#isDegraded()
+     */
+    private static void markAssembled(List<AssembleExecution> executions, @Nullable ExecutionScope scope) {
+        if (Objects.isNull(scope)) {
+            return;
+        }
+        executions.stream()
+            .filter(e -> !e.isFailed() && !isDegraded(e.getContainer()))
+            .forEach(e -> scope.markAssembled(e.getTargets(), e.getOperation()));
+    }
+
+    private static boolean isDegraded(Container<?> container) {
+        return container instanceof TimeLimitedContainer && ((TimeLimitedContainer<?>)container).isDegraded();
+    }
+
+    /**
+     * If the timeout or deadline is specified in options,
+     * replace the containers of executions with the time-limited containers.
+     *
+     * @param executions executions
+     * @param options options for execution
+     * @return executions
+     * @see DegradePolicy
+     */
+    private List<AssembleExecution> applyTimeLimit(List<AssembleExecution> executions, Options options) {
+        long deadline = options.getDeadline();
+        long deadlineNanos = deadline > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadline) : -1L;
+        Map<Container<?>, List<AssembleOperation>> operationsOfContainers = new LinkedHashMap<>();
+        executions.stream()
+            .filter(e -> !(e.getContainer() instanceof EmptyContainer))
+            .forEach(e -> operationsOfContainers.computeIfAbsent(e.getContainer(), c -> new ArrayList<>()).add(e.getOperation()));
+        Map<Container<?>, Container<?>> timeLimitedContainers = new HashMap<>(operationsOfContainers.size());
+        operationsOfContainers.forEach((container, operations) -> {
+            String namespace = container.getNamespace();
+            long timeout = options.getTimeout(namespace);
+            if (timeout > 0 || deadlineNanos >= 0) {
+                timeLimitedContainers.put(container, new TimeLimitedContainer<>(
+                    container, TimeUnit.MILLISECONDS.toNanos(timeout), deadlineNanos,
+                    options.getDegradePolicy(namespace), operations, options,
+                    Objects.isNull(timeLimitedExecutor) ? ExecutorUtils.getDefaultExecutor() : timeLimitedExecutor
+                ));
+            }
+        });
+        if (timeLimitedContainers.isEmpty()) {
+            return executions;
+        }
+        return executions.stream()
+            .map(e -> timeLimitedContainers.containsKey(e.getContainer()) ?
+                AssembleExecution.create(e.getBeanOperations(), e.getOperation(), timeLimitedContainers.get(e.getContainer()), e.getTargets()) : e
+            )
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * If there is an open {@link ExecutionScope} in the current thread,
+     * replace the containers of executions with the scoped containers.
+     *
+     * @param executions executions
+     * @param options options for execution
+     * @return executions
+     * @see ExecutionScope
+     */
+    private static List<AssembleExecution> applyExecutionScope(List<AssembleExecution> executions, Options options) {
+        ExecutionScope scope = ExecutionScope.current();
+        // dynamic containers are not registered in the container manager, so they are not memoized
+        if (Objects.isNull(scope) || !options.isContainerCacheable()) {
+            return executions;
+        }
+        return executions.stream()
+            .map(e -> AssembleExecution.create(
+                e.getBeanOperations(), e.getOperation(), scope.getScopedContainer(e.getContainer()), e.getTargets()
+            ))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * If the {@link #batchSizePolicy} is specified,
+     * replace the containers of executions with the containers which split keys into chunks.
+     *
+     * @param executions executions
+     * @return executions
+     * @see BatchSizePolicy
+     */
+    private List<AssembleExecution> applyBatchSizePolicy(List<AssembleExecution> executions) {
+        BatchSizePolicy policy = batchSizePolicy;
+        if (Objects.isNull(policy)) {
+            return executions;
+        }
+        Executor executor = getChunkExecutor();
+        Map<Container<?>, Container<?>> chunkedContainers = new HashMap<>(8);
+        return executions.stream()
+            .map(e -> e.getContainer() instanceof EmptyContainer ? e : AssembleExecution.create(
+                e.getBeanOperations(), e.getOperation(),
+                chunkedContainers.computeIfAbsent(e.getContainer(), c -> new ChunkedContainer<>(c, policy, executor)),
+                e.getTargets()
+            ))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the executor used to obtain the chunks of keys concurrently.
+     *
+     * @return executor, null if the chunks should be obtained in the current thread
+     * @see #setBatchSizePolicy
+     * @since 2.6.0
+     */
+    @Nullable
+    protected Executor getChunkExecutor() {
+        return null;
     }
 
     @NonNull
@@ -168,15 +469,30 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
     @NonNull
     protected List<AssembleExecution> doCombineExecutions(
         Options options, Predicate<? super KeyTriggerOperation> filter, BeanOperations beanOperations, Collection<Object> targets) {
-        return beanOperations.getAssembleOperations()
-            .stream()
-            .filter(filter)
-            .map(p -> createAssembleExecution(beanOperations, p, targets, options))
-            .collect(Collectors.toList());
+        ExecutionPlan plan = getExecutionPlan(beanOperations, options);
+        if (Objects.isNull(plan)) {
+            return beanOperations.getAssembleOperations()
+                .stream()
+                .filter(filter)
+                .map(p -> createAssembleExecution(beanOperations, p, targets, options))
+                .collect(Collectors.toList());
+        }
+        List<ExecutionPlan.AssembleStep> steps = plan.getAssembleSteps();
+        List<AssembleExecution> executions = new ArrayList<>(steps.size());
+        for (ExecutionPlan.AssembleStep step : steps) {
+            AssembleOperation operation = step.getOperation();
+            if (filter.test(operation)) {
+                Container<?> container = step.getContainer(namespace -> options.getContainer(containerManager, namespace));
+                executions.add(createAssembleExecution(beanOperations, operation, container, targets));
+            }
+        }
+        return executions;
     }
 
     /**
-     * Create a {@link AssembleExecution}.
+     * <p>Create a {@link AssembleExecution}.<br />
+     * If this method is overridden, the execution plan will not be used,
+     * so it will always be called when combining the executions.
      *
      * @param beanOperations bean operations
      * @param operation operation
@@ -186,12 +502,64 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
      */
     protected AssembleExecution createAssembleExecution(
         BeanOperations beanOperations, AssembleOperation operation, Collection<Object> targets, Options options) {
+        Container<?> container = options.getContainer(containerManager, operation.getContainer());
+        return createAssembleExecution(beanOperations, operation, container, targets);
+    }
+
+    /**
+     * Create a {@link AssembleExecution} with the resolved container.
+     *
+     * @param beanOperations bean operations
+     * @param operation operation
+     * @param container container of operation
+     * @param targets targets
+     * @return {@link AssembleExecution}
+     * @since 2.6.0
+     */
+    protected AssembleExecution createAssembleExecution(
+        BeanOperations beanOperations, AssembleOperation operation, @Nullable Container<?> container, Collection<Object> targets) {
+        Asserts.isNotNull(container, "container [{}] not found", operation.getContainer());
         targets = filterTargetsForSupportedOperation(targets, operation);
-        String namespace = operation.getContainer();
-        Container<?> container = options.getContainer(containerManager, namespace);
-        Asserts.isNotNull(container, "container [{}] not found", namespace);
         return AssembleExecution.create(beanOperations, operation, container, targets);
     }
+
+    /**
+     * Get the cached execution plan of the specified {@link BeanOperations},
+     * if the plan is not available, compile a new one.
+     *
+     * @param beanOperations bean operations
+     * @param options options for execution
+     * @return execution plan, null if the plan can not be cached
+     */
+    @Nullable
+    private ExecutionPlan getExecutionPlan(BeanOperations beanOperations, Options options) {
+        long modificationCount = containerManager.getModificationCount();
+        if (!enableExecutionPlanCache || createAssembleExecutionOverridden
+            || modificationCount < 0 || !options.isContainerCacheable()) {
+            return null;
+        }
+        ExecutionPlan plan = executionPlans.get(beanOperations);
+        if (Objects.nonNull(plan) && plan.isAvailable(beanOperations, modificationCount)) {
+            return plan;
+        }
+        plan = ExecutionPlan.compile(beanOperations, modificationCount);
+        executionPlans.put(beanOperations, plan);
+        return plan;
+    }
+
+    private static boolean isCreateAssembleExecutionOverridden(Class<?> type) {
+        Class<?> curr = type;
+        while (curr != AbstractBeanOperationExecutor.class) {
+            Method method = ReflectUtils.getDeclaredMethod(
+                curr, "createAssembleExecution", BeanOperations.class, AssembleOperation.class, Collection.class, Options.class
+            );
+            if (Objects.nonNull(method)) {
+                return true;
+            }
+            curr = curr.getSuperclass();
+        }
+        return false;
+    }
     
     /**
      * <p>Complete the assembly operation.<br />
@@ -214,6 +582,28 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
      */
     protected abstract void executeOperations(List<AssembleExecution> executions, Options options) throws OperationExecuteException;
 
+    /**
+     * <p>Asynchronously complete the assembly operation.<br />
+     * By default, the operations are completed synchronously through {@link #executeOperations},
+     * subclasses can override it to avoid blocking the current thread
+     * while waiting for the data sources of {@link cn.crane4j.core.container.AsyncContainer}.
+     *
+     * @param executions assembly operations to be completed
+     * @param options options for execution
+     * @return completion stage of the operations
+     * @since 2.6.0
+     */
+    protected CompletionStage<Void> executeOperationsAsync(List<AssembleExecution> executions, Options options) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            executeOperations(executions, options);
+            future.complete(null);
+        } catch (Exception ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
     /**
      * Do something before the assembly operation begin.
      *
@@ -262,34 +652,134 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
     }
 
     private <T> void disassembleIfNecessary(
-        Collection<T> targets, BeanOperations operations,
-        Predicate<? super KeyTriggerOperation> filter, MultiMap<BeanOperations, Object> collector) {
+        Collection<T> targets, BeanOperations operations, DisassembleContext context, int depth) {
         Collection<DisassembleOperation> internalOperations = operations.getDisassembleOperations();
-        if (CollectionUtils.isEmpty(internalOperations)) {
+        if (CollectionUtils.isEmpty(targets) || CollectionUtils.isEmpty(internalOperations)) {
+            return;
+        }
+        if (maxDisassembleDepth > 0 && depth >= maxDisassembleDepth) {
+            log.warn("nested objects of [{}] are ignored, because the max disassemble depth [{}] is reached",
+                operations.getSource(), maxDisassembleDepth);
             return;
         }
         internalOperations.stream()
-            .filter(filter)
-            .forEach(internal -> doDisassembleAndCollect(targets, internal, filter, collector));
+            .filter(context.filter)
+            .forEach(internal -> doDisassembleAndCollect(targets, internal, context, depth));
     }
 
     private <T> void doDisassembleAndCollect(
-        Collection<T> targets, DisassembleOperation disassembleOperation, Predicate<? super KeyTriggerOperation> filter, MultiMap<BeanOperations, Object> collector) {
+        Collection<T> targets, DisassembleOperation disassembleOperation, DisassembleContext context, int depth) {
         DisassembleOperationHandler handler = disassembleOperation.getDisassembleOperationHandler();
         targets = filterTargetsForSupportedOperation(targets, disassembleOperation);
         Collection<?> internalTargets = handler.process(disassembleOperation, targets);
         if (CollectionUtils.isEmpty(internalTargets)) {
             return;
         }
-        BeanOperations internalOperations = disassembleOperation.getInternalBeanOperations(internalTargets);
-        collector.putAll(internalOperations, internalTargets);
-        // recurse process if still have nested objects
-        disassembleIfNecessary(internalTargets, internalOperations, filter, collector);
+        // nested objects may have different types, so they are grouped by their operations
+        disassembleOperation.groupByInternalBeanOperations(internalTargets).asMap().forEach((internalOperations, objects) -> {
+            Collection<Object> unvisited = context.collect(internalOperations, objects);
+            // recurse process if still have nested objects
+            disassembleIfNecessary(unvisited, internalOperations, context, depth + 1);
+        });
+    }
+
+    /**
+     * Context of disassembly in an execution,
+     * which records the objects have been collected by their identity.
+     */
+    @RequiredArgsConstructor
+    private static class DisassembleContext {
+        private final Predicate<? super KeyTriggerOperation> filter;
+        private final MultiMap<BeanOperations, Object> collector = MultiMap.linkedListMultimap();
+        private final Map<BeanOperations, Set<Object>> visited = new HashMap<>(8);
+
+        /**
+         * Collect the objects which have not been collected for the operations.
+         *
+         * @param operations operations
+         * @param objects objects
+         * @return objects which are collected for the first time
+         */
+        Collection<Object> collect(BeanOperations operations, Collection<?> objects) {
+            Set<Object> visitedObjects = visited.computeIfAbsent(
+                operations, op -> Collections.newSetFromMap(new IdentityHashMap<>(objects.size()))
+            );
+            List<Object> unvisited = new ArrayList<>(objects.size());
+            for (Object object : objects) {
+                if (visitedObjects.add(object)) {
+                    unvisited.add(object);
+                }
+            }
+            collector.putAll(operations, unvisited);
+            return unvisited;
+        }
+    }
+
+    /**
+     * Group the executions according to the container and handler.
+     *
+     * @param executions executions
+     * @return grouped executions
+     * @since 2.6.0
+     */
+    protected static Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> groupExecutions(
+        Collection<AssembleExecution> executions) {
+        Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> operations = new LinkedHashMap<>();
+        executions.forEach(e -> {
+            Container<?> container = e.getContainer();
+            Map<AssembleOperationHandler, List<AssembleExecution>> he = operations.computeIfAbsent(container, c -> new HashMap<>(8));
+            List<AssembleExecution> es = he.computeIfAbsent(e.getHandler(), h -> new ArrayList<>());
+            es.add(e);
+        });
+        return operations;
+    }
+
+    /**
+     * <p>Split the executions into levels according to the dependencies of their operations.<br />
+     * The executions in the same level do not depend on each other,
+     * and the executions of a level only depend on the executions of the previous levels.
+     * If there is no dependency between operations, only one level will be returned.
+     *
+     * @param executions executions
+     * @return executions of each level, in topological order
+     * @see BeanOperations#getDependencies
+     * @since 2.6.0
+     */
+    protected static List<List<AssembleExecution>> splitByDependencies(List<AssembleExecution> executions) {
+        boolean hasDependencies = executions.stream()
+            .anyMatch(e -> !e.getBeanOperations().getDependencies(e.getOperation()).isEmpty());
+        if (!hasDependencies) {
+            return Collections.singletonList(executions);
+        }
+        Map<BeanOperations, Map<AssembleOperation, Integer>> levelCaches = new HashMap<>(4);
+        Map<Integer, List<AssembleExecution>> levels = new TreeMap<>();
+        for (AssembleExecution execution : executions) {
+            Map<AssembleOperation, Integer> cache = levelCaches.computeIfAbsent(execution.getBeanOperations(), op -> new HashMap<>(8));
+            int level = getDependencyLevel(execution.getBeanOperations(), execution.getOperation(), cache);
+            levels.computeIfAbsent(level, l -> new ArrayList<>()).add(execution);
+        }
+        return levels.size() < 2 ?
+            Collections.singletonList(executions) : new ArrayList<>(levels.values());
+    }
+
+    private static int getDependencyLevel(
+        BeanOperations beanOperations, AssembleOperation operation, Map<AssembleOperation, Integer> cache) {
+        Integer level = cache.get(operation);
+        if (Objects.nonNull(level)) {
+            return level;
+        }
+        level = 0;
+        for (AssembleOperation dependency : beanOperations.getDependencies(operation)) {
+            level = Math.max(level, getDependencyLevel(beanOperations, dependency, cache) + 1);
+        }
+        cache.put(operation, level);
+        return level;
     }
 
     /**
      * <p>Try to execute the operation.<br />
-     * If necessary, output the log when throwing an exception.
+     * If necessary, output the log and mark the executions as failed when throwing an exception,
+     * but the {@link OperationTimeoutException} will be thrown directly.
      *
      * @param handler handler
      * @param executions executions
@@ -299,8 +789,47 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
         AssembleOperationHandler handler, Container<?> container, Collection<AssembleExecution> executions) {
         try {
             handler.process(container, executions);
+        } catch (OperationTimeoutException ex) {
+            throw ex;
         } catch(Exception ex) {
             log.warn("execute operation fail: {}", ex.getMessage(), ex);
+            executions.forEach(AssembleExecution::markFailed);
         }
     }
+
+    /**
+     * <p>Try to execute the operation asynchronously.<br />
+     * If necessary, output the log and mark the executions as failed when the operation completed exceptionally.
+     *
+     * @param handler handler
+     * @param executions executions
+     * @param container container
+     * @return completion stage of the operation,
+     * it only completes exceptionally when an {@link OperationTimeoutException} is thrown
+     * @since 2.6.0
+     */
+    protected static CompletionStage<Void> doExecuteAsync(
+        AssembleOperationHandler handler, Container<?> container, Collection<AssembleExecution> executions) {
+        CompletionStage<Void> stage;
+        try {
+            stage = handler.processAsync(container, executions);
+        } catch (OperationTimeoutException ex) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            future.completeExceptionally(ex);
+            return future;
+        } catch (Exception ex) {
+            log.warn("execute operation fail: {}", ex.getMessage(), ex);
+            executions.forEach(AssembleExecution::markFailed);
+            return CompletableFuture.completedFuture(null);
+        }
+        return stage.exceptionally(ex -> {
+            Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+            if (cause instanceof OperationTimeoutException) {
+                throw (OperationTimeoutException)cause;
+            }
+            log.warn("execute operation fail: {}", ex.getMessage(), ex);
+            executions.forEach(AssembleExecution::markFailed);
+            return null;
+        });
+    }
 }
@@ -0,0 +1,129 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.core.util.Asserts;
+import lombok.Setter;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>An implementation of {@link BatchSizePolicy} which adjusts the batch size
+ * according to the latency of container calls.<br />
+ * The policy estimates the latency of each key of a container
+ * by the exponentially weighted moving average of the recorded calls,
+ * and picks the batch size which makes the latency of a call close to the target latency,
+ * but the batch size will never exceed the max batch size of the container.
+ *
+ * <p>For example, the batch size of a container based on in-memory data will be large,
+ * and a container based on database will be limited to the max length of IN clause.
+ *
+ * @author huangchengxing
+ * @since 2.6.0
+ */
+public class AdaptiveBatchSizePolicy implements BatchSizePolicy {
+
+    /**
+     * target latency of a call in nanoseconds
+     */
+    private final long targetLatency;
+
+    /**
+     * default max batch size, non-positive value means no limit
+     */
+    private final int defaultMaxBatchSize;
+
+    /**
+     * max batch sizes of containers
+     */
+    private final Map<String, Integer> maxBatchSizes = new ConcurrentHashMap<>();
+
+    /**
+     * estimated latency of each key of containers
+     */
+    private final Map<String, double[]> keyLatencies = new ConcurrentHashMap<>();
+
+    /**
+     * min batch size
+     */
+    @Setter
+    private int minBatchSize = 1;
+
+    /**
+     * weight of the latest call when calculating the moving average
+     */
+    @Setter
+    private double smoothingFactor = 0.2D;
+
+    /**
+     * Create an instance of {@link AdaptiveBatchSizePolicy}.
+     *
+     * @param targetLatency target latency of a call
+     * @param timeUnit time unit of target latency
+     * @param defaultMaxBatchSize default max batch size, non-positive value means no limit
+     */
+    public AdaptiveBatchSizePolicy(long targetLatency, TimeUnit timeUnit, int defaultMaxBatchSize) {
+        Asserts.isTrue(targetLatency > 0, "target latency must be greater than 0, but got [{}]", targetLatency);
+        this.targetLatency = timeUnit.toNanos(targetLatency);
+        this.defaultMaxBatchSize = defaultMaxBatchSize;
+    }
+
+    /**
+     * Set the max batch size of the container, such as the max length of IN clause of database.
+     *
+     * @param namespace namespace of container
+     * @param maxBatchSize max batch size, non-positive value means no limit
+     * @return this policy
+     */
+    public AdaptiveBatchSizePolicy setMaxBatchSize(String namespace, int maxBatchSize) {
+        maxBatchSizes.put(namespace, maxBatchSize);
+        return this;
+    }
+
+    /**
+     * Get the max number of keys in each call to the container of the namespace.
+     * If no call of the container has been recorded, the max batch size will be returned.
+     *
+     * @param namespace namespace of container
+     * @return batch size, non-positive value means no limit
+     */
+    @Override
+    public int getBatchSize(String namespace) {
+        int maxBatchSize = maxBatchSizes.getOrDefault(namespace, defaultMaxBatchSize);
+        double[] keyLatency = keyLatencies.get(namespace);
+        if (Objects.isNull(keyLatency)) {
+            return maxBatchSize;
+        }
+        double latency;
+        synchronized (keyLatency) {
+            latency = keyLatency[0];
+        }
+        long batchSize = latency <= 0 ? Long.MAX_VALUE : (long)(targetLatency / latency);
+        if (maxBatchSize > 0) {
+            batchSize = Math.min(batchSize, maxBatchSize);
+        } else if (batchSize >= Integer.MAX_VALUE) {
+            return -1;
+        }
+        return (int)Math.max(batchSize, minBatchSize);
+    }
+
+    /**
+     * Record the latency of a call to the container of the namespace.
+     *
+     * @param namespace namespace of container
+     * @param keyCount number of keys in the call
+     * @param latency latency in nanoseconds
+     */
+    @Override
+    public void recordLatency(String namespace, int keyCount, long latency) {
+        if (keyCount <= 0) {
+            return;
+        }
+        double current = (double)latency / keyCount;
+        double[] keyLatency = keyLatencies.computeIfAbsent(namespace, ns -> new double[]{ current });
+        synchronized (keyLatency) {
+            keyLatency[0] = smoothingFactor * current + (1 - smoothingFactor) * keyLatency[0];
+        }
+    }
+}
@@ -85,6 +85,26 @@ public interface AssembleExecution {
      */
     Collection<Object> getTargets();
 
+    /**
+     * Whether the execution is failed.
+     * The targets of a failed execution will not be marked as assembled in {@link ExecutionScope}.
+     *
+     * @return boolean
+     * @since 2.6.0
+     */
+    default boolean isFailed() {
+        return false;
+    }
+
+    /**
+     * Mark the execution as failed.
+     *
+     * @since 2.6.0
+     */
+    default void markFailed() {
+        // do nothing
+    }
+
     /**
      * Simple implementation of {@link AssembleExecution}.
      *
@@ -97,5 +117,11 @@ public interface AssembleExecution {
         private final AssembleOperation operation;
         private final Container<?> container;
         private final Collection<Object> targets;
+        private volatile boolean failed = false;
+
+        @Override
+        public void markFailed() {
+            failed = true;
+        }
     }
 }
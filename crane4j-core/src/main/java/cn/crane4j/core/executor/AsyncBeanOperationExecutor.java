@@ -1,23 +1,35 @@
 package cn.crane4j.core.executor;
 
+import cn.crane4j.core.container.AsyncContainer;
 import cn.crane4j.core.container.Container;
 import cn.crane4j.core.container.ContainerManager;
 import cn.crane4j.core.exception.OperationExecuteException;
 import cn.crane4j.core.executor.handler.AssembleOperationHandler;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 /**
  * <p>The asynchronous implementation of {@link BeanOperationExecutor}.<br />
- * It will group the operations to be executed according to the data source container,
- * then submit them to the executor in turn, and finally complete them asynchronously.
+ * By default, each {@link AssembleExecution} will be submitted to the executor as a separate task,
+ * and finally complete them asynchronously.
+ *
+ * <p>When {@link #groupByContainer} is enabled,
+ * the executions will be grouped according to the data source container first,
+ * the executions of the same container and handler will be processed in one batch,
+ * so the keys of them will be merged and the container will be called only once,
+ * and then the groups of different containers will be submitted to the executor concurrently.
+ *
+ * <p>When the operations are performed through {@link #executeAsync},
+ * the operations of non-blocking {@link AsyncContainer} will not be submitted to the executor,
+ * they will be completed after the data sources of the container are ready.
  *
  * @author huangchengxing
  */
@@ -29,6 +41,16 @@ public class AsyncBeanOperationExecutor extends DisorderedBeanOperationExecutor
      */
     private final Executor executor;
 
+    /**
+     * <p>Whether to group the executions by container before submitting them to the executor.<br />
+     * If true, each container will only be called once by the same handler in an execution,
+     * it's useful when the container is a remote service or database.
+     *
+     * @since 2.6.0
+     */
+    @Setter
+    private boolean groupByContainer = false;
+
     /**
      * Create an instance of {@link AsyncBeanOperationExecutor}.
      *
@@ -41,6 +63,17 @@ public class AsyncBeanOperationExecutor extends DisorderedBeanOperationExecutor
         this.executor = executor;
     }
 
+    /**
+     * Get the executor used to obtain the chunks of keys concurrently.
+     *
+     * @return executor
+     * @since 2.6.0
+     */
+    @Override
+    protected Executor getChunkExecutor() {
+        return executor;
+    }
+
     /**
      * <p>Complete the assembly operation.<br />
      * All operations of input parameters ensure their orderliness in the same class.
@@ -63,14 +96,21 @@ public class AsyncBeanOperationExecutor extends DisorderedBeanOperationExecutor
     @SuppressWarnings("unchecked")
     @Override
     protected void executeOperations(List<AssembleExecution> executions, Options options) throws OperationExecuteException {
-        CompletableFuture<Void>[] tasks = executions.stream()
-            .map(execution -> (Runnable)() -> doExecuteOperations(execution))
-            .map(task -> CompletableFuture.runAsync(task, executor))
-            .toArray(CompletableFuture[]::new);
-        try {
-            CompletableFuture.allOf(tasks).join();
-        } catch (Exception e) {
-            throw new OperationExecuteException(e);
+        if (groupByContainer) {
+            super.executeOperations(executions, options);
+            return;
+        }
+        // executions which depend on others will be executed after their dependencies
+        for (List<AssembleExecution> level : splitByDependencies(executions)) {
+            CompletableFuture<Void>[] tasks = level.stream()
+                .map(execution -> (Runnable)() -> doExecuteOperations(execution))
+                .map(task -> CompletableFuture.runAsync(task, executor))
+                .toArray(CompletableFuture[]::new);
+            try {
+                CompletableFuture.allOf(tasks).join();
+            } catch (Exception e) {
+                throw new OperationExecuteException(e);
+            }
         }
     }
 
@@ -80,20 +120,65 @@ public class AsyncBeanOperationExecutor extends DisorderedBeanOperationExecutor
     }
 
     /**
-     * <p>Execute the assembly operation.
+     * <p>Execute the assembly operation.<br />
+     * Each container group will be submitted to the executor as a separate task,
+     * and the executions of the same handler in the group will be processed in one batch.
      *
      * @param executionGroups grouped assembly operations
      */
+    @SuppressWarnings("unchecked")
     @Override
     protected void doExecuteOperations(Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> executionGroups) {
-        List<Runnable> tasks = new ArrayList<>(executionGroups.size());
-        executionGroups.forEach((c, he) ->
-            he.forEach((h, es) -> tasks.add(() -> h.process(c, es))));
-        tasks.stream()
-            .map(t -> CompletableFuture.runAsync(t, executor))
-            .collect(Collectors.collectingAndThen(
-                Collectors.toList(), ts -> CompletableFuture.allOf(ts.toArray(new CompletableFuture[0]))
-            ))
-            .join();
+        CompletableFuture<Void>[] tasks = executionGroups.entrySet().stream()
+            .map(group -> (Runnable)() -> group.getValue()
+                .forEach((handler, executions) -> doExecute(handler, group.getKey(), executions)))
+            .map(task -> CompletableFuture.runAsync(task, executor))
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(tasks).join();
+    }
+
+    /**
+     * <p>Asynchronously complete the assembly operation.<br />
+     * Just like {@link #executeOperations}, each {@link AssembleExecution}
+     * will be completed separately unless {@link #groupByContainer} is enabled.
+     *
+     * @param executions assembly operations to be completed
+     * @param options options for execution
+     * @return completion stage of the operations
+     * @since 2.6.0
+     */
+    @Override
+    protected CompletionStage<Void> executeOperationsAsync(List<AssembleExecution> executions, Options options) {
+        if (groupByContainer) {
+            return super.executeOperationsAsync(executions, options);
+        }
+        return executeLevelsAsync(splitByDependencies(executions), level -> {
+            CompletableFuture<?>[] tasks = level.stream()
+                .map(e -> executeGroupAsync(e.getHandler(), e.getContainer(), Collections.singletonList(e)))
+                .map(CompletionStage::toCompletableFuture)
+                .toArray(CompletableFuture[]::new);
+            return CompletableFuture.allOf(tasks);
+        });
+    }
+
+    /**
+     * <p>Asynchronously execute the assembly operations of the same container and handler.<br />
+     * If the container is not a non-blocking {@link AsyncContainer},
+     * the operations will be submitted to the executor to avoid blocking the current thread.
+     *
+     * @param handler handler
+     * @param container container
+     * @param executions executions
+     * @return completion stage of the operations
+     * @since 2.6.0
+     */
+    @Override
+    protected CompletionStage<Void> executeGroupAsync(
+        AssembleOperationHandler handler, Container<?> container, List<AssembleExecution> executions) {
+        if (AsyncContainer.isNonBlocking(container)) {
+            return doExecuteAsync(handler, container, executions);
+        }
+        return CompletableFuture.supplyAsync(() -> doExecuteAsync(handler, container, executions), executor)
+            .thenCompose(Function.identity());
     }
 }
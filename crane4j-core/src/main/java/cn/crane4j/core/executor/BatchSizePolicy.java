@@ -0,0 +1,34 @@
+package cn.crane4j.core.executor;
+
+/**
+ * <p>Policy for determining the number of keys in each call to a container.<br />
+ * When the policy is specified, the keys obtained from the container
+ * in an execution will be split into chunks according to the batch size,
+ * and the latency of each call will be reported to the policy.
+ *
+ * @author huangchengxing
+ * @see AdaptiveBatchSizePolicy
+ * @see AbstractBeanOperationExecutor#setBatchSizePolicy
+ * @since 2.6.0
+ */
+public interface BatchSizePolicy {
+
+    /**
+     * Get the max number of keys in each call to the container of the namespace.
+     *
+     * @param namespace namespace of container
+     * @return batch size, non-positive value means no limit
+     */
+    int getBatchSize(String namespace);
+
+    /**
+     * Record the latency of a call to the container of the namespace.
+     *
+     * @param namespace namespace of container
+     * @param keyCount number of keys in the call
+     * @param latency latency in nanoseconds
+     */
+    default void recordLatency(String namespace, int keyCount, long latency) {
+        // do nothing
+    }
+}
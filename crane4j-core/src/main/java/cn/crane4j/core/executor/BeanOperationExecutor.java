@@ -4,14 +4,28 @@ import cn.crane4j.core.container.Container;
 import cn.crane4j.core.container.ContainerManager;
 import cn.crane4j.core.executor.handler.AssembleOperationHandler;
 import cn.crane4j.core.parser.BeanOperations;
+import cn.crane4j.core.parser.operation.AssembleOperation;
 import cn.crane4j.core.parser.operation.KeyTriggerOperation;
 import cn.crane4j.core.support.NamedComponent;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <p>Bean operation executor, used to perform disassembly operations,
@@ -57,6 +71,115 @@ public interface BeanOperationExecutor extends NamedComponent {
         execute(targets, operations, t -> true);
     }
 
+    /**
+     * <p>Asynchronously complete operations on all objects in {@code targets}
+     * according to the specified {@link BeanOperations} and {@link Options}.<br />
+     * By default, the operations are performed synchronously through {@link #execute},
+     * and the returned stage is already completed when this method returns.
+     *
+     * @param targets targets
+     * @param operations operations to be performed
+     * @param options options for execution
+     * @return completion stage of the operations
+     * @see cn.crane4j.core.container.AsyncContainer
+     * @since 2.6.0
+     */
+    default CompletionStage<Void> executeAsync(Collection<?> targets, BeanOperations operations, Options options) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            execute(targets, operations, options);
+            future.complete(null);
+        } catch (Exception ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    /**
+     * Asynchronously complete operations on all objects in {@code targets} according to the specified {@link BeanOperations}
+     *
+     * @param targets targets
+     * @param operations operations to be performed
+     * @param filter operation filter, which can filter some operations based on operation key, group and other attributes
+     * @return completion stage of the operations
+     * @since 2.6.0
+     */
+    default CompletionStage<Void> executeAsync(
+        Collection<?> targets, BeanOperations operations, Predicate<? super KeyTriggerOperation> filter) {
+        return executeAsync(targets, operations, () -> filter);
+    }
+
+    /**
+     * Asynchronously complete operations on all objects in {@code targets} according to the specified {@link BeanOperations}
+     *
+     * @param targets targets
+     * @param operations operations to be performed
+     * @return completion stage of the operations
+     * @since 2.6.0
+     */
+    default CompletionStage<Void> executeAsync(Collection<?> targets, BeanOperations operations) {
+        return executeAsync(targets, operations, t -> true);
+    }
+
+    /**
+     * <p>Lazily complete operations on the objects pulled from {@code targets}
+     * according to the specified {@link BeanOperations} and {@link Options}.<br />
+     * The objects are pulled in fixed-size windows, the whole disassembly and assembly operations
+     * will be completed on each window before the objects in it are returned,
+     * so the peak memory usage is bounded by {@code windowSize} instead of the number of targets.
+     *
+     * @param targets targets
+     * @param operations operations to be performed
+     * @param options options for execution
+     * @param windowSize number of targets in each window
+     * @param <T> target type
+     * @return iterator of objects which have been operated
+     * @since 2.6.0
+     */
+    default <T> Iterator<T> executeStreaming(
+        Iterator<? extends T> targets, BeanOperations operations, Options options, int windowSize) {
+        return new WindowedOperationIterator<>(targets, windowSize, window -> execute(window, operations, options));
+    }
+
+    /**
+     * <p>Lazily complete operations on the objects of {@code targets}
+     * according to the specified {@link BeanOperations} and {@link Options}.<br />
+     * The objects are pulled in fixed-size windows when the returned stream is consumed,
+     * and the source stream will be closed when the returned stream is closed.
+     *
+     * @param targets targets
+     * @param operations operations to be performed
+     * @param options options for execution
+     * @param windowSize number of targets in each window
+     * @param <T> target type
+     * @return stream of objects which have been operated
+     * @see #executeStreaming(Iterator, BeanOperations, Options, int)
+     * @since 2.6.0
+     */
+    default <T> Stream<T> executeStreaming(
+        Stream<? extends T> targets, BeanOperations operations, Options options, int windowSize) {
+        Iterator<T> iterator = executeStreaming(targets.iterator(), operations, options, windowSize);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+            .onClose(targets::close);
+    }
+
+    /**
+     * Lazily complete operations on the objects of {@code targets} according to the specified {@link BeanOperations}.
+     *
+     * @param targets targets
+     * @param operations operations to be performed
+     * @param filter operation filter, which can filter some operations based on operation key, group and other attributes
+     * @param windowSize number of targets in each window
+     * @param <T> target type
+     * @return stream of objects which have been operated
+     * @see #executeStreaming(Iterator, BeanOperations, Options, int)
+     * @since 2.6.0
+     */
+    default <T> Stream<T> executeStreaming(
+        Stream<? extends T> targets, BeanOperations operations, Predicate<? super KeyTriggerOperation> filter, int windowSize) {
+        return executeStreaming(targets, operations, () -> filter, windowSize);
+    }
+
     /**
      * Options for execution.
      *
@@ -82,6 +205,67 @@ public interface BeanOperationExecutor extends NamedComponent {
             return containerManager.getContainer(namespace);
         }
 
+        /**
+         * <p>Whether the containers obtained by {@link #getContainer} can be cached and reused by the executor.<br />
+         * By default, it returns {@code true} only if {@link #getContainer} is not overridden,
+         * the implementation which overrides it can return {@code true}
+         * if it always returns the same container for the same namespace.
+         *
+         * @return boolean
+         * @since 2.6.0
+         */
+        default boolean isContainerCacheable() {
+            return ExecutionPlan.isDefaultContainerResolution(getClass());
+        }
+
+        /**
+         * Get the timeout of obtaining data source objects from the container of the namespace.
+         *
+         * @param namespace namespace of container
+         * @return timeout in milliseconds, non-positive value means no timeout
+         * @see DegradePolicy
+         * @since 2.6.0
+         */
+        default long getTimeout(String namespace) {
+            return -1L;
+        }
+
+        /**
+         * Get the maximum time for obtaining data source objects in the whole execution,
+         * which is counted from the assembly operations begin.
+         *
+         * @return deadline in milliseconds, non-positive value means no deadline
+         * @see DegradePolicy
+         * @since 2.6.0
+         */
+        default long getDeadline() {
+            return -1L;
+        }
+
+        /**
+         * Get the policy for handling the operations of the container of the namespace
+         * when the data source objects are not obtained within the time limit.
+         *
+         * @param namespace namespace of container
+         * @return degrade policy
+         * @since 2.6.0
+         */
+        default DegradePolicy getDegradePolicy(String namespace) {
+            return DegradePolicy.FAIL;
+        }
+
+        /**
+         * Callback when the operations of the container are degraded.
+         *
+         * @param namespace namespace of container
+         * @param operations operations which use the container in the execution
+         * @param cause cause of degradation
+         * @since 2.6.0
+         */
+        default void onDegraded(String namespace, Collection<AssembleOperation> operations, Throwable cause) {
+            // do nothing
+        }
+
         /**
          * An option that can dynamically change the container in the execution process.
          *
@@ -96,6 +280,96 @@ public interface BeanOperationExecutor extends NamedComponent {
             public Container<?> getContainer(ContainerManager containerManager, String namespace) {
                 return dynamicContainers.getOrDefault(namespace, containerManager.getContainer(namespace));
             }
+            @Override
+            public boolean isContainerCacheable() {
+                return false;
+            }
+        }
+
+        /**
+         * <p>An option that limits the time for obtaining data source objects.<br />
+         * The degraded operations will be recorded and can be obtained by {@link #getDegradedOperations()}.
+         *
+         * @author huangchengxing
+         * @see DegradePolicy
+         * @since 2.6.0
+         */
+        @RequiredArgsConstructor
+        class TimeLimitedOption implements Options {
+            @Getter
+            private final Predicate<? super KeyTriggerOperation> filter;
+            private final Map<String, Long> timeouts = new HashMap<>();
+            private final Map<String, DegradePolicy> degradePolicies = new HashMap<>();
+            private final Set<AssembleOperation> degradedOperations = ConcurrentHashMap.newKeySet();
+            private long defaultTimeout = -1L;
+            @Getter
+            private long deadline = -1L;
+            private DegradePolicy defaultDegradePolicy = DegradePolicy.FAIL;
+
+            /**
+             * Set the timeout for the container of the namespace.
+             *
+             * @param namespace namespace of container, if null, it will be the default timeout
+             * @param timeout timeout in milliseconds
+             * @return this option
+             */
+            public TimeLimitedOption timeout(@Nullable String namespace, long timeout) {
+                if (Objects.isNull(namespace)) {
+                    defaultTimeout = timeout;
+                } else {
+                    timeouts.put(namespace, timeout);
+                }
+                return this;
+            }
+
+            /**
+             * Set the deadline of the whole execution.
+             *
+             * @param deadline deadline in milliseconds
+             * @return this option
+             */
+            public TimeLimitedOption deadline(long deadline) {
+                this.deadline = deadline;
+                return this;
+            }
+
+            /**
+             * Set the degrade policy for the container of the namespace.
+             *
+             * @param namespace namespace of container, if null, it will be the default policy
+             * @param degradePolicy degrade policy
+             * @return this option
+             */
+            public TimeLimitedOption degradePolicy(@Nullable String namespace, DegradePolicy degradePolicy) {
+                if (Objects.isNull(namespace)) {
+                    defaultDegradePolicy = degradePolicy;
+                } else {
+                    degradePolicies.put(namespace, degradePolicy);
+                }
+                return this;
+            }
+
+            /**
+             * Get the operations which have been degraded.
+             *
+             * @return degraded operations
+             */
+            public Set<AssembleOperation> getDegradedOperations() {
+                return Collections.unmodifiableSet(degradedOperations);
+            }
+
+            @Override
+            public long getTimeout(String namespace) {
+                return timeouts.getOrDefault(namespace, defaultTimeout);
+            }
+            @Override
+            public DegradePolicy getDegradePolicy(String namespace) {
+                return degradePolicies.getOrDefault(namespace, defaultDegradePolicy);
+            }
+            @Override
+            public void onDegraded(String namespace, Collection<AssembleOperation> operations, Throwable cause) {
+                degradedOperations.addAll(operations);
+            }
         }
     }
 }
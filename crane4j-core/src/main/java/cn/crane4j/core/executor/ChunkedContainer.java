@@ -0,0 +1,185 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.core.container.AsyncContainer;
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ContainerDelegate;
+import cn.crane4j.core.util.CollectionUtils;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * <p>A container wrapper that splits keys into chunks according to the {@link BatchSizePolicy},
+ * and reports the latency of each call to the policy.<br />
+ * If the executor is specified, the chunks will be obtained concurrently.
+ * When the chunks are obtained synchronously, the current thread will also obtain the chunks
+ * that have not been started by the executor, so it will not wait for a busy executor.
+ *
+ * <p>The wrappers of the same container, policy and executor are equal,
+ * so that they share the same scoped container in an {@link ExecutionScope}.
+ *
+ * @author huangchengxing
+ * @param <K> key type
+ * @see BatchSizePolicy
+ * @since 2.6.0
+ */
+@EqualsAndHashCode
+@RequiredArgsConstructor
+class ChunkedContainer<K> implements ContainerDelegate<K>, AsyncContainer<K> {
+
+    @Getter
+    private final Container<K> container;
+    private final BatchSizePolicy batchSizePolicy;
+    @Nullable
+    private final Executor executor;
+
+    /**
+     * Enter a batch of key values to return data source objects grouped by key values,
+     * the keys will be split into chunks according to the batch size.
+     *
+     * @param keys keys
+     * @return data source objects grouped by key value
+     */
+    @Override
+    public Map<K, ?> get(Collection<K> keys) {
+        List<Collection<K>> chunks = split(keys);
+        if (chunks.size() == 1) {
+            return doGet(chunks.get(0));
+        }
+        List<ChunkTask> tasks = chunks.stream()
+            .map(ChunkTask::new)
+            .collect(Collectors.toList());
+        if (Objects.nonNull(executor)) {
+            for (int i = 1; i < tasks.size(); i++) {
+                submit(tasks.get(i));
+            }
+        }
+        // complete the chunks which have not been started by the executor
+        tasks.forEach(ChunkTask::run);
+        try {
+            return merge(tasks.stream().map(t -> t.future).collect(Collectors.toList()));
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException)cause : ex;
+        }
+    }
+
+    /**
+     * Enter a batch of key values to asynchronously return data source objects grouped by key values,
+     * the keys will be split into chunks according to the batch size.
+     *
+     * @param keys keys
+     * @return completion stage of data source objects grouped by key value
+     */
+    @Override
+    public CompletionStage<Map<K, ?>> getAsync(Collection<K> keys) {
+        List<Collection<K>> chunks = split(keys);
+        List<CompletableFuture<Map<K, ?>>> futures = chunks.stream()
+            .map(this::doGetAsync)
+            .collect(Collectors.toList());
+        if (futures.size() == 1) {
+            return futures.get(0);
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+            .thenApply(v -> merge(futures));
+    }
+
+    /**
+     * Whether {@link #getAsync} returns without blocking the calling thread,
+     * it's true if the original container is non-blocking or the chunks are obtained by executor.
+     *
+     * @return true if the calling thread will not be blocked, false otherwise
+     */
+    @Override
+    public boolean isNonBlocking() {
+        return Objects.nonNull(executor) || AsyncContainer.isNonBlocking(container);
+    }
+
+    @NonNull
+    @Override
+    public String getNamespace() {
+        return container.getNamespace();
+    }
+
+    private List<Collection<K>> split(Collection<K> keys) {
+        int batchSize = batchSizePolicy.getBatchSize(getNamespace());
+        return batchSize > 0 && keys.size() > batchSize ?
+            CollectionUtils.split(keys, batchSize) : Collections.singletonList(keys);
+    }
+
+    private Map<K, ?> doGet(Collection<K> keys) {
+        long start = System.nanoTime();
+        Map<K, ?> result = container.get(keys);
+        batchSizePolicy.recordLatency(getNamespace(), keys.size(), System.nanoTime() - start);
+        return result;
+    }
+
+    private CompletableFuture<Map<K, ?>> doGetAsync(Collection<K> keys) {
+        if (AsyncContainer.isNonBlocking(container)) {
+            long start = System.nanoTime();
+            return ((AsyncContainer<K>)container).getAsync(keys).toCompletableFuture()
+                .thenApply(result -> {
+                    batchSizePolicy.recordLatency(getNamespace(), keys.size(), System.nanoTime() - start);
+                    return result;
+                });
+        }
+        return Objects.isNull(executor) ?
+            CompletableFuture.completedFuture(doGet(keys)) : CompletableFuture.supplyAsync(() -> doGet(keys), executor);
+    }
+
+    private void submit(ChunkTask task) {
+        try {
+            executor.execute(task::run);
+        } catch (RejectedExecutionException ex) {
+            // the task will be run by the current thread
+        }
+    }
+
+    private static <K> Map<K, ?> merge(List<CompletableFuture<Map<K, ?>>> futures) {
+        Map<K, Object> results = new HashMap<>(16);
+        futures.forEach(f -> {
+            Map<K, ?> result = f.join();
+            if (Objects.nonNull(result)) {
+                results.putAll(result);
+            }
+        });
+        return results;
+    }
+
+    /**
+     * A chunk of keys which can only be obtained once.
+     */
+    @RequiredArgsConstructor
+    private class ChunkTask {
+        private final Collection<K> keys;
+        private final AtomicBoolean started = new AtomicBoolean(false);
+        private final CompletableFuture<Map<K, ?>> future = new CompletableFuture<>();
+
+        void run() {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                future.complete(doGet(keys));
+            } catch (Exception ex) {
+                future.completeExceptionally(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package cn.crane4j.core.executor;
+
+/**
+ * Policy for handling operations whose data source objects
+ * are not obtained within the time limit.
+ *
+ * @author huangchengxing
+ * @see BeanOperationExecutor.Options#getDegradePolicy
+ * @since 2.6.0
+ */
+public enum DegradePolicy {
+
+    /**
+     * Skip the operation, the properties of targets will not be filled.
+     */
+    SKIP,
+
+    /**
+     * Use the data source objects that still held in the cache of the container,
+     * if the container is not cacheable, it is the same as {@link #SKIP}.
+     *
+     * @see cn.crane4j.core.cache.CacheableContainer
+     */
+    USE_STALE,
+
+    /**
+     * Throw an {@link cn.crane4j.core.exception.OperationTimeoutException}
+     * to terminate the execution.
+     */
+    FAIL
+}
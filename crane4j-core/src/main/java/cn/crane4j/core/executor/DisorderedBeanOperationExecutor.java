@@ -6,11 +6,11 @@ import cn.crane4j.core.exception.OperationExecuteException;
 import cn.crane4j.core.executor.handler.AssembleOperationHandler;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 /**
  * <p>Synchronization implementation of {@link BeanOperationExecutor}.<br />
@@ -52,18 +52,71 @@ public class DisorderedBeanOperationExecutor extends AbstractOperationAwareBeanO
      */
     @Override
     protected void executeOperations(List<AssembleExecution> executions, Options options) throws OperationExecuteException {
-        Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> operations = new LinkedHashMap<>();
-        executions.forEach(e -> {
-            Container<?> container = e.getContainer();
-            Map<AssembleOperationHandler, List<AssembleExecution>> he = operations.computeIfAbsent(container, c -> new HashMap<>(8));
-            List<AssembleExecution> es = he.computeIfAbsent(e.getHandler(), h -> new ArrayList<>());
-            es.add(e);
+        // executions which depend on others will be executed after their dependencies
+        for (List<AssembleExecution> level : splitByDependencies(executions)) {
+            Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> operations = groupExecutions(level);
+            try {
+                doExecuteOperations(operations);
+            } catch (Exception e) {
+                throw new OperationExecuteException(e);
+            }
+        }
+    }
+
+    /**
+     * <p>Asynchronously complete the assembly operation.<br />
+     * The executions will be grouped according to the container and handler,
+     * and each group will be completed through {@link #executeGroupAsync}.
+     *
+     * @param executions assembly operations to be completed
+     * @param options options for execution
+     * @return completion stage of the operations
+     * @since 2.6.0
+     */
+    @Override
+    protected CompletionStage<Void> executeOperationsAsync(List<AssembleExecution> executions, Options options) {
+        return executeLevelsAsync(splitByDependencies(executions), level -> {
+            CompletableFuture<?>[] tasks = groupExecutions(level).entrySet().stream()
+                .flatMap(group -> group.getValue().entrySet().stream()
+                    .map(he -> executeGroupAsync(he.getKey(), group.getKey(), he.getValue())))
+                .map(CompletionStage::toCompletableFuture)
+                .toArray(CompletableFuture[]::new);
+            return CompletableFuture.allOf(tasks);
         });
-        try {
-            doExecuteOperations(operations);
-        } catch (Exception e) {
-            throw new OperationExecuteException(e);
+    }
+
+    /**
+     * Asynchronously execute the levels of executions one by one,
+     * the next level will be executed after the previous level is completed.
+     *
+     * @param levels executions of each level
+     * @param action action to execute a level
+     * @return completion stage of all levels
+     * @see #splitByDependencies
+     * @since 2.6.0
+     */
+    protected static CompletionStage<Void> executeLevelsAsync(
+        List<List<AssembleExecution>> levels, Function<List<AssembleExecution>, CompletionStage<Void>> action) {
+        CompletionStage<Void> result = action.apply(levels.get(0));
+        for (int i = 1; i < levels.size(); i++) {
+            List<AssembleExecution> level = levels.get(i);
+            result = result.thenCompose(v -> action.apply(level));
         }
+        return result;
+    }
+
+    /**
+     * Asynchronously execute the assembly operations of the same container and handler.
+     *
+     * @param handler handler
+     * @param container container
+     * @param executions executions
+     * @return completion stage of the operations
+     * @since 2.6.0
+     */
+    protected CompletionStage<Void> executeGroupAsync(
+        AssembleOperationHandler handler, Container<?> container, List<AssembleExecution> executions) {
+        return doExecuteAsync(handler, container, executions);
     }
 
     /**
@@ -0,0 +1,150 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ContainerManager;
+import cn.crane4j.core.parser.BeanOperations;
+import cn.crane4j.core.parser.operation.AssembleOperation;
+import cn.crane4j.core.util.CollectionUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * <p>An execution plan compiled from {@link BeanOperations}.<br />
+ * The plan holds the assembly operations and the containers resolved for them,
+ * so it can be reused across executions without resolving the containers again.
+ * The container of an operation is resolved when it's used for the first time,
+ * so the containers of the operations excluded by filter will not be resolved.
+ *
+ * <p>The plan is bound to the modification count of the container manager
+ * and the assembly operations when it is compiled,
+ * it should be compiled again when the containers in the manager or the operations are changed.
+ * And it's only reusable for the {@link BeanOperationExecutor.Options} whose containers are cacheable.
+ *
+ * @author huangchengxing
+ * @see AbstractBeanOperationExecutor
+ * @see cn.crane4j.core.container.ContainerManager#getModificationCount
+ * @see BeanOperationExecutor.Options#isContainerCacheable
+ * @since 2.6.0
+ */
+@RequiredArgsConstructor
+class ExecutionPlan {
+
+    /**
+     * whether the options type resolves containers by {@link BeanOperationExecutor.Options#getContainer} directly
+     */
+    private static final Map<Class<?>, Boolean> DEFAULT_CONTAINER_RESOLUTIONS = CollectionUtils.newWeakKeyConcurrentMap();
+
+    /**
+     * modification count of container manager when the plan is compiled
+     */
+    @Getter
+    private final long containerModificationCount;
+
+    /**
+     * assembly steps
+     */
+    @Getter
+    private final List<AssembleStep> assembleSteps;
+
+    /**
+     * Compile an execution plan for the specified {@link BeanOperations}.
+     *
+     * @param operations operations
+     * @param containerModificationCount modification count of container manager
+     * @return execution plan
+     */
+    static ExecutionPlan compile(BeanOperations operations, long containerModificationCount) {
+        Collection<AssembleOperation> assembleOperations = operations.getAssembleOperations();
+        List<AssembleStep> steps = new ArrayList<>(assembleOperations.size());
+        for (AssembleOperation operation : assembleOperations) {
+            steps.add(new AssembleStep(operation));
+        }
+        return new ExecutionPlan(containerModificationCount, Collections.unmodifiableList(steps));
+    }
+
+    /**
+     * Whether the plan is still available for the specified operations and modification count.
+     *
+     * @param operations operations
+     * @param currentModificationCount current modification count of container manager
+     * @return boolean
+     */
+    boolean isAvailable(BeanOperations operations, long currentModificationCount) {
+        Collection<AssembleOperation> assembleOperations = operations.getAssembleOperations();
+        if (containerModificationCount != currentModificationCount || assembleSteps.size() != assembleOperations.size()) {
+            return false;
+        }
+        // the operations may be replaced without changing the size
+        Iterator<AssembleStep> steps = assembleSteps.iterator();
+        for (AssembleOperation operation : assembleOperations) {
+            if (steps.next().getOperation() != operation) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the specified options type does not override {@link BeanOperationExecutor.Options#getContainer}.
+     *
+     * @param optionsType type of options
+     * @return boolean
+     */
+    static boolean isDefaultContainerResolution(Class<?> optionsType) {
+        return DEFAULT_CONTAINER_RESOLUTIONS.computeIfAbsent(optionsType, type -> {
+            try {
+                return type.getMethod("getContainer", ContainerManager.class, String.class).isDefault();
+            } catch (NoSuchMethodException ex) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * An assembly operation with its lazily resolved container.
+     */
+    @RequiredArgsConstructor
+    static class AssembleStep {
+
+        /**
+         * assembly operation
+         */
+        @Getter
+        private final AssembleOperation operation;
+
+        /**
+         * container of operation, null if it's not found
+         */
+        @Nullable
+        private volatile Container<?> container;
+
+        /**
+         * whether the container has been resolved
+         */
+        private volatile boolean resolved = false;
+
+        /**
+         * Get the container of operation, resolve it if it has not been resolved.
+         *
+         * @param containerResolver container resolver, which returns the container of the namespace
+         * @return container, null if it's not found
+         */
+        @Nullable
+        Container<?> getContainer(Function<String, Container<?>> containerResolver) {
+            if (!resolved) {
+                container = containerResolver.apply(operation.getContainer());
+                resolved = true;
+            }
+            return container;
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.core.container.AsyncContainer;
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ContainerDelegate;
+import cn.crane4j.core.container.EmptyContainer;
+import cn.crane4j.core.parser.operation.AssembleOperation;
+import cn.crane4j.core.util.Asserts;
+import cn.crane4j.core.util.CollectionUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * <p>A scope that memoizes the data source objects obtained from containers.<br />
+ * While the scope is open in the current thread,
+ * all executions of {@link AbstractBeanOperationExecutor} will obtain the data source objects
+ * through the scope, the results will be memoized according to the namespace of container and key,
+ * and only keys that have not been queried in the scope will reach the underlying container.
+ * All memoized objects will be released when the scope is closed.
+ *
+ * <p>It is suitable for the case where the same keys are queried repeatedly
+ * in a short period of time, such as within a web request:
+ * <pre type="code">{@code
+ * try (ExecutionScope scope = ExecutionScope.open()) {
+ *     operateTemplate.execute(users);
+ *     operateTemplate.execute(orders);
+ * }
+ * }</pre>
+ *
+ * <p>The scope also records the assembly operations which have been applied to each target,
+ * if {@link AbstractBeanOperationExecutor#setSkipAssembledTargets} is enabled,
+ * the targets which have been assembled by the same operation in the scope will be skipped.
+ * The targets are referenced weakly and compared by identity.
+ *
+ * <p>The scope is reentrant, if it is opened again in the thread where it is already open,
+ * the current scope will be returned, and it will not be closed until the outermost one is closed.
+ *
+ * @author huangchengxing
+ * @see AbstractBeanOperationExecutor
+ * @since 2.6.0
+ */
+@Slf4j
+public class ExecutionScope implements AutoCloseable {
+
+    private static final ThreadLocal<ExecutionScope> CURRENT = new ThreadLocal<>();
+    private static final Object ABSENT = new Object();
+
+    /**
+     * memoized data source objects grouped by namespace of container
+     */
+    private final Map<String, ConcurrentMap<Object, Object>> memoizedSources = new ConcurrentHashMap<>();
+
+    /**
+     * scoped containers wrapped from original containers
+     */
+    private final Map<Container<?>, Container<?>> scopedContainers = new ConcurrentHashMap<>();
+
+    /**
+     * assembly operations which have been applied to targets
+     */
+    private final ConcurrentMap<Object, Set<AssembleOperation>> assembledOperations = CollectionUtils.newWeakKeyConcurrentMap();
+
+    /**
+     * number of times the scope is opened in the current thread
+     */
+    private int depth = 0;
+
+    /**
+     * whether the scope has been closed
+     */
+    @Getter
+    private volatile boolean closed = false;
+
+    /**
+     * Open a scope in the current thread,
+     * if there is already an open scope, return it directly.
+     *
+     * @return scope
+     */
+    public static ExecutionScope open() {
+        ExecutionScope scope = CURRENT.get();
+        if (scope == null) {
+            scope = new ExecutionScope();
+            CURRENT.set(scope);
+        }
+        scope.depth++;
+        return scope;
+    }
+
+    /**
+     * Get the scope opened in the current thread.
+     *
+     * @return scope, null if no scope is open
+     */
+    @Nullable
+    public static ExecutionScope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Get the scoped container of the specified container,
+     * which obtains data source objects through the scope.
+     *
+     * @param container container
+     * @param <K> key type
+     * @return scoped container
+     */
+    @SuppressWarnings("unchecked")
+    @NonNull
+    public <K> Container<K> getScopedContainer(Container<K> container) {
+        if (closed || container instanceof EmptyContainer || container instanceof ScopedContainer) {
+            return container;
+        }
+        return (Container<K>)scopedContainers.computeIfAbsent(container, c -> c instanceof AsyncContainer ?
+            new ScopedAsyncContainer<>(this, (AsyncContainer<Object>)c) : new ScopedContainer<>(this, (Container<Object>)c));
+    }
+
+    /**
+     * Whether the target has been assembled by the operation in the scope.
+     *
+     * @param target target
+     * @param operation assembly operation
+     * @return true if the target has been assembled by the operation
+     */
+    public boolean isAssembled(Object target, AssembleOperation operation) {
+        if (closed || Objects.isNull(target)) {
+            return false;
+        }
+        Set<AssembleOperation> operations = assembledOperations.get(target);
+        return Objects.nonNull(operations) && operations.contains(operation);
+    }
+
+    /**
+     * Record that the targets have been assembled by the operation in the scope.
+     *
+     * @param targets targets
+     * @param operation assembly operation
+     */
+    public void markAssembled(Collection<?> targets, AssembleOperation operation) {
+        if (closed) {
+            return;
+        }
+        targets.stream()
+            .filter(Objects::nonNull)
+            .forEach(t -> assembledOperations.computeIfAbsent(t, k -> ConcurrentHashMap.newKeySet()).add(operation));
+    }
+
+    /**
+     * Close the scope and release all memoized data source objects.
+     * If the scope is opened multiple times, it will be closed only when the outermost one is closed.
+     *
+     * @throws cn.crane4j.core.exception.Crane4jException thrown when the scope is not opened in the current thread
+     */
+    @Override
+    public void close() {
+        Asserts.isTrue(CURRENT.get() == this, "the scope is not opened in the current thread");
+        if (--depth > 0) {
+            return;
+        }
+        CURRENT.remove();
+        closed = true;
+        memoizedSources.clear();
+        scopedContainers.clear();
+        assembledOperations.clear();
+    }
+
+    private ConcurrentMap<Object, Object> getMemoizedSources(String namespace) {
+        return memoizedSources.computeIfAbsent(namespace, ns -> new ConcurrentHashMap<>(16));
+    }
+
+    private <K> Map<K, Object> getMemoized(
+        ConcurrentMap<Object, Object> memoized, Collection<K> keys, Collection<K> missingKeys) {
+        Map<K, Object> results = new HashMap<>(keys.size());
+        for (K key : keys) {
+            Object value = memoized.get(key);
+            if (value == null) {
+                missingKeys.add(key);
+            } else if (value != ABSENT) {
+                results.put(key, value);
+            }
+        }
+        return results;
+    }
+
+    private <K> void memoize(
+        ConcurrentMap<Object, Object> memoized, Collection<K> keys, @Nullable Map<K, ?> sources, Map<K, Object> results) {
+        for (K key : keys) {
+            Object value = sources == null ? null : sources.get(key);
+            // keys without data source are also memoized to avoid being queried again
+            memoized.put(key, value == null ? ABSENT : value);
+            if (value != null) {
+                results.put(key, value);
+            }
+        }
+    }
+
+    /**
+     * A container which obtains data source objects through the scope.
+     *
+     * @param <K> key type
+     */
+    @Getter
+    @RequiredArgsConstructor
+    protected static class ScopedContainer<K> implements ContainerDelegate<K> {
+
+        protected final ExecutionScope scope;
+        protected final Container<K> container;
+
+        /**
+         * Enter a batch of key values to return data source objects grouped by key values,
+         * only the keys that have not been queried in the scope will be queried from the original container.
+         *
+         * @param keys keys
+         * @return data source objects grouped by key value
+         */
+        @Override
+        public Map<K, ?> get(Collection<K> keys) {
+            if (scope.isClosed()) {
+                return container.get(keys);
+            }
+            ConcurrentMap<Object, Object> memoized = scope.getMemoizedSources(getNamespace());
+            Set<K> missingKeys = new LinkedHashSet<>();
+            Map<K, Object> results = scope.getMemoized(memoized, keys, missingKeys);
+            if (!missingKeys.isEmpty()) {
+                log.debug("get none memoized keys [{}] from container [{}]", missingKeys, getNamespace());
+                scope.memoize(memoized, missingKeys, container.get(missingKeys), results);
+            }
+            return results;
+        }
+    }
+
+    /**
+     * A non-blocking container which obtains data source objects through the scope.
+     *
+     * @param <K> key type
+     */
+    protected static class ScopedAsyncContainer<K> extends ScopedContainer<K> implements AsyncContainer<K> {
+
+        public ScopedAsyncContainer(ExecutionScope scope, AsyncContainer<K> container) {
+            super(scope, container);
+        }
+
+        /**
+         * Enter a batch of key values to asynchronously return data source objects grouped by key values,
+         * only the keys that have not been queried in the scope will be queried from the original container.
+         *
+         * @param keys keys
+         * @return completion stage of data source objects grouped by key value
+         */
+        @Override
+        public CompletionStage<Map<K, ?>> getAsync(Collection<K> keys) {
+            if (scope.isClosed()) {
+                return ((AsyncContainer<K>)container).getAsync(keys);
+            }
+            ConcurrentMap<Object, Object> memoized = scope.getMemoizedSources(getNamespace());
+            Set<K> missingKeys = keys.stream()
+                .filter(k -> !memoized.containsKey(k))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+            if (missingKeys.isEmpty()) {
+                return CompletableFuture.completedFuture(scope.getMemoized(memoized, keys, missingKeys));
+            }
+            log.debug("get none memoized keys [{}] from container [{}]", missingKeys, getNamespace());
+            return ((AsyncContainer<K>)container).getAsync(missingKeys).thenApply(sources -> {
+                Map<K, Object> results = new HashMap<>(keys.size());
+                scope.memoize(memoized, missingKeys, sources, results);
+                keys.stream()
+                    .filter(k -> !results.containsKey(k))
+                    .forEach(k -> {
+                        Object value = memoized.get(k);
+                        if (value != null && value != ABSENT) {
+                            results.put(k, value);
+                        }
+                    });
+                return results;
+            });
+        }
+
+        /**
+         * Whether the original container is non-blocking.
+         *
+         * @return true if the calling thread will not be blocked, false otherwise
+         */
+        @Override
+        public boolean isNonBlocking() {
+            return ((AsyncContainer<K>)container).isNonBlocking();
+        }
+
+        /**
+         * Enter a batch of key values to return data source objects grouped by key values.
+         *
+         * @param keys keys
+         * @return data source objects grouped by key value
+         */
+        @Override
+        public Map<K, ?> get(Collection<K> keys) {
+            return getAsync(keys).toCompletableFuture().join();
+        }
+    }
+}
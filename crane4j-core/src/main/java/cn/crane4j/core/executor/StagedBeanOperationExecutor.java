@@ -0,0 +1,113 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ContainerManager;
+import cn.crane4j.core.exception.OperationExecuteException;
+import cn.crane4j.core.executor.handler.AssembleOperationHandler;
+import cn.crane4j.core.parser.operation.AssembleOperation;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>The implementation of {@link BeanOperationExecutor} which executes operations in stages.<br />
+ * The executions will be divided into stages according to the sort value of {@link AssembleOperation},
+ * and the stages will be executed in ascending order of the sort value,
+ * the next stage will not start until all executions of the current stage have been completed.
+ *
+ * <p>Within a stage, the executions will be grouped according to the container and handler,
+ * each group will be submitted to the executor as a separate task,
+ * so the container will be called only once by the same handler in a stage.
+ * If there are dependencies between operations of a stage,
+ * the stage will be further divided according to the dependencies.
+ *
+ * <p>Compared with {@link OrderedBeanOperationExecutor},
+ * it still guarantees the order between operations with different sort values,
+ * but operations with the same sort value can be executed in batches and in parallel.
+ *
+ * @author huangchengxing
+ * @see OrderedBeanOperationExecutor
+ * @see AsyncBeanOperationExecutor
+ * @since 2.6.0
+ */
+@Slf4j
+public class StagedBeanOperationExecutor extends AbstractOperationAwareBeanOperationExecutor {
+
+    /**
+     * thread pool used to perform operations.
+     */
+    private final Executor executor;
+
+    /**
+     * Create an instance of {@link StagedBeanOperationExecutor}.
+     *
+     * @param containerManager container manager
+     * @param executor thread pool used to perform operations
+     */
+    public StagedBeanOperationExecutor(ContainerManager containerManager, Executor executor) {
+        super(containerManager);
+        this.executor = executor;
+    }
+
+    /**
+     * Get the executor used to obtain the chunks of keys concurrently.
+     *
+     * @return executor
+     * @since 2.6.0
+     */
+    @Override
+    protected Executor getChunkExecutor() {
+        return executor;
+    }
+
+    /**
+     * <p>Complete the assembly operation.<br />
+     * The executions will be executed stage by stage in ascending order of the sort value.
+     *
+     * @param executions assembly operations to be completed
+     * @param options options for execution
+     * @throws OperationExecuteException thrown when operation execution exception
+     */
+    @Override
+    protected void executeOperations(List<AssembleExecution> executions, Options options) throws OperationExecuteException {
+        Map<Integer, List<AssembleExecution>> stages = new TreeMap<>();
+        executions.forEach(e -> stages.computeIfAbsent(e.getOperation().getSort(), s -> new ArrayList<>()).add(e));
+        try {
+            stages.values().stream()
+                .map(StagedBeanOperationExecutor::splitByDependencies)
+                .flatMap(List::stream)
+                .forEach(this::executeStage);
+        } catch (Exception e) {
+            throw new OperationExecuteException(e);
+        }
+    }
+
+    /**
+     * <p>Execute the assembly operations of the same stage.<br />
+     * If there is only one group in the stage, it will be executed in the current thread directly.
+     *
+     * @param executions executions of the stage
+     */
+    @SuppressWarnings("unchecked")
+    protected void executeStage(Collection<AssembleExecution> executions) {
+        Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> groups = groupExecutions(executions);
+        List<Runnable> tasks = new ArrayList<>();
+        groups.forEach((container, he) -> he.forEach(
+            (handler, es) -> tasks.add(() -> doExecute(handler, container, es))
+        ));
+        if (tasks.size() == 1) {
+            tasks.get(0).run();
+            return;
+        }
+        CompletableFuture<Void>[] futures = tasks.stream()
+            .map(task -> CompletableFuture.runAsync(task, executor))
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+    }
+}
@@ -0,0 +1,205 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.core.cache.CacheableContainer;
+import cn.crane4j.core.container.AsyncContainer;
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ContainerDelegate;
+import cn.crane4j.core.exception.OperationTimeoutException;
+import cn.crane4j.core.parser.operation.AssembleOperation;
+import cn.crane4j.core.util.ExecutorUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>A container wrapper that limits the time for obtaining data source objects.<br />
+ * If the data source objects are not obtained within the time limit,
+ * the operations which use the container will be degraded according to the {@link DegradePolicy}.
+ *
+ * <p>The synchronous container will be called in the specified executor,
+ * so the caller can stop waiting for it when the time limit is exceeded,
+ * and the call will be cancelled and interrupted at the same time.
+ * If the executor rejects the call, the operations will also be degraded.
+ * The wrapper is created for each execution, and it will not be cached.
+ *
+ * @author huangchengxing
+ * @param <K> key type
+ * @see BeanOperationExecutor.Options#getTimeout
+ * @see BeanOperationExecutor.Options#getDeadline
+ * @see DegradePolicy
+ * @since 2.6.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+class TimeLimitedContainer<K> implements ContainerDelegate<K>, AsyncContainer<K> {
+
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(
+        ExecutorUtils.newDaemonThreadFactory("crane4j-time-limited-container-timer-")
+    );
+
+    @Getter
+    private final Container<K> container;
+
+    /**
+     * timeout in nanoseconds, non-positive value means no timeout
+     */
+    private final long timeout;
+
+    /**
+     * deadline based on {@link System#nanoTime()}, negative value means no deadline
+     */
+    private final long deadline;
+    private final DegradePolicy degradePolicy;
+    private final Collection<AssembleOperation> operations;
+    private final BeanOperationExecutor.Options options;
+    private final Executor executor;
+
+    /**
+     * whether any call to the container has been degraded
+     */
+    @Getter
+    private volatile boolean degraded = false;
+
+    /**
+     * Enter a batch of key values to asynchronously return data source objects grouped by key values,
+     * if the time limit is exceeded, the result will be degraded.
+     *
+     * @param keys keys
+     * @return completion stage of data source objects grouped by key value
+     */
+    @Override
+    public CompletionStage<Map<K, ?>> getAsync(Collection<K> keys) {
+        long remaining = getRemainingTime();
+        if (remaining <= 0) {
+            return degrade(keys, new OperationTimeoutException(
+                "the deadline is exceeded before obtaining data from container [{}]", getNamespace()
+            ));
+        }
+        CompletableFuture<Map<K, ?>> future;
+        Future<?> task = null;
+        if (AsyncContainer.isNonBlocking(container)) {
+            future = ((AsyncContainer<K>)container).getAsync(keys).toCompletableFuture();
+        } else {
+            CompletableFuture<Map<K, ?>> f = new CompletableFuture<>();
+            FutureTask<Void> t = new FutureTask<>(() -> {
+                try {
+                    f.complete(container.get(keys));
+                } catch (Throwable ex) {
+                    f.completeExceptionally(ex);
+                }
+            }, null);
+            try {
+                executor.execute(t);
+            } catch (RejectedExecutionException ex) {
+                return degrade(keys, new OperationTimeoutException(
+                    "the call to container [{}] is rejected by executor: {}", getNamespace(), ex.getMessage()
+                ));
+            }
+            future = f;
+            task = t;
+        }
+        if (future.isDone()) {
+            return future;
+        }
+        Future<?> call = Objects.isNull(task) ? future : task;
+        CompletableFuture<Map<K, ?>> result = new CompletableFuture<>();
+        ScheduledFuture<?> timer = TIMER.schedule(() -> {
+            degrade(keys, new OperationTimeoutException(
+                "data of container [{}] is not obtained within [{}] ms", getNamespace(), TimeUnit.NANOSECONDS.toMillis(remaining)
+            )).whenComplete((r, ex) -> complete(result, r, ex));
+            // stop the call which is no longer waited for
+            call.cancel(true);
+        }, remaining, TimeUnit.NANOSECONDS);
+        future.whenComplete((r, ex) -> {
+            timer.cancel(false);
+            complete(result, r, ex);
+        });
+        return result;
+    }
+
+    /**
+     * Enter a batch of key values to return data source objects grouped by key values,
+     * if the time limit is exceeded, the result will be degraded.
+     *
+     * @param keys keys
+     * @return data source objects grouped by key value
+     */
+    @Override
+    public Map<K, ?> get(Collection<K> keys) {
+        try {
+            return getAsync(keys).toCompletableFuture().join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException)cause : ex;
+        }
+    }
+
+    @NonNull
+    @Override
+    public String getNamespace() {
+        return container.getNamespace();
+    }
+
+    private long getRemainingTime() {
+        long remaining = timeout > 0 ? timeout : Long.MAX_VALUE;
+        if (deadline >= 0) {
+            remaining = Math.min(remaining, deadline - System.nanoTime());
+        }
+        return remaining;
+    }
+
+    private static <T> void complete(CompletableFuture<T> future, T result, Throwable ex) {
+        if (ex == null) {
+            future.complete(result);
+        } else {
+            future.completeExceptionally(ex instanceof CompletionException ? ex.getCause() : ex);
+        }
+    }
+
+    private CompletableFuture<Map<K, ?>> degrade(Collection<K> keys, OperationTimeoutException ex) {
+        log.warn("operations of container [{}] are degraded by policy [{}]: {}", getNamespace(), degradePolicy, ex.getMessage());
+        degraded = true;
+        options.onDegraded(getNamespace(), operations, ex);
+        CompletableFuture<Map<K, ?>> result = new CompletableFuture<>();
+        switch (degradePolicy) {
+            case SKIP:
+                result.complete(Collections.emptyMap());
+                break;
+            case USE_STALE:
+                result.complete(getStaleData(keys));
+                break;
+            default:
+                result.completeExceptionally(ex);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<K, ?> getStaleData(Collection<K> keys) {
+        Container<?> current = container;
+        while (current instanceof ContainerDelegate) {
+            if (current instanceof CacheableContainer) {
+                return ((CacheableContainer<K>)current).getCachedValues(keys);
+            }
+            current = ((ContainerDelegate<?>)current).getContainer();
+        }
+        return Collections.emptyMap();
+    }
+}
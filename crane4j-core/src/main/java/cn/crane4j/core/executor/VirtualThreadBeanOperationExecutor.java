@@ -0,0 +1,86 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.core.container.ContainerManager;
+import cn.crane4j.core.exception.Crane4jException;
+import cn.crane4j.core.util.ReflectUtils;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * <p>The asynchronous implementation of {@link BeanOperationExecutor} based on virtual threads.<br />
+ * The executions will be grouped according to the data source container,
+ * and each group will be executed in a new virtual thread,
+ * so there is no need to size a thread pool for the blocking calls of containers.
+ *
+ * <p>Virtual threads are only available on JDK 21 or later,
+ * the {@code Executors#newVirtualThreadPerTaskExecutor} method is looked up by reflection
+ * to keep the compatibility with Java 8, if it is not available,
+ * an exception will be thrown when creating the executor.
+ * You can check whether the current runtime supports it by {@link #isSupported()}.
+ *
+ * <p>The executor service of virtual threads is created and owned by this executor,
+ * it should be shut down by {@link #close()} when the executor is no longer used.
+ *
+ * @author huangchengxing
+ * @see AsyncBeanOperationExecutor
+ * @since 2.6.0
+ */
+public class VirtualThreadBeanOperationExecutor extends AsyncBeanOperationExecutor implements AutoCloseable {
+
+    private static final String FACTORY_METHOD_NAME = "newVirtualThreadPerTaskExecutor";
+
+    /**
+     * executor service of virtual threads owned by this executor
+     */
+    private final ExecutorService executorService;
+
+    /**
+     * Create an instance of {@link VirtualThreadBeanOperationExecutor}.
+     *
+     * @param containerManager container manager
+     * @throws Crane4jException thrown when virtual threads are not supported by current runtime
+     */
+    public VirtualThreadBeanOperationExecutor(ContainerManager containerManager) {
+        this(containerManager, createVirtualThreadPerTaskExecutor());
+    }
+
+    private VirtualThreadBeanOperationExecutor(ContainerManager containerManager, ExecutorService executorService) {
+        super(containerManager, executorService);
+        this.executorService = executorService;
+        setGroupByContainer(true);
+    }
+
+    /**
+     * Shut down the executor service of virtual threads,
+     * the submitted tasks will still be executed, but no new tasks will be accepted.
+     */
+    @Override
+    public void close() {
+        executorService.shutdown();
+    }
+
+    /**
+     * Whether virtual threads are supported by current runtime.
+     *
+     * @return boolean
+     */
+    public static boolean isSupported() {
+        return findFactoryMethod().isPresent();
+    }
+
+    private static ExecutorService createVirtualThreadPerTaskExecutor() {
+        Method factory = findFactoryMethod()
+            .orElseThrow(() -> new Crane4jException(
+                "virtual threads are not supported by current runtime [{}], JDK 21 or later is required",
+                System.getProperty("java.version")
+            ));
+        return ReflectUtils.invokeRaw(null, factory);
+    }
+
+    private static Optional<Method> findFactoryMethod() {
+        return ReflectUtils.findMethod(Executors.class, FACTORY_METHOD_NAME, 0);
+    }
+}
@@ -0,0 +1,68 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.core.util.Asserts;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * <p>An iterator that pulls elements from the source iterator in fixed-size windows,
+ * and completes the operations on each window before returning the elements in it.<br />
+ * Only the elements of current window will be held by the iterator,
+ * so the peak memory usage is bounded by the window size instead of the size of the whole source.
+ *
+ * @author huangchengxing
+ * @param <T> element type
+ * @see BeanOperationExecutor#executeStreaming
+ * @since 2.6.0
+ */
+class WindowedOperationIterator<T> implements Iterator<T> {
+
+    private final Iterator<? extends T> source;
+    private final int windowSize;
+    private final Consumer<List<T>> operation;
+    private Iterator<T> window = Collections.emptyIterator();
+
+    /**
+     * Create an instance of {@link WindowedOperationIterator}.
+     *
+     * @param source source iterator
+     * @param windowSize number of elements in each window, must be greater than 0
+     * @param operation operation to be performed on each window
+     */
+    WindowedOperationIterator(Iterator<? extends T> source, int windowSize, Consumer<List<T>> operation) {
+        Asserts.isTrue(windowSize > 0, "window size must be greater than 0, but got [{}]", windowSize);
+        this.source = source;
+        this.windowSize = windowSize;
+        this.operation = operation;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (window.hasNext()) {
+            return true;
+        }
+        if (!source.hasNext()) {
+            return false;
+        }
+        List<T> elements = new ArrayList<>(windowSize);
+        while (elements.size() < windowSize && source.hasNext()) {
+            elements.add(source.next());
+        }
+        operation.accept(elements);
+        window = elements.iterator();
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return window.next();
+    }
+}
@@ -1,5 +1,6 @@
 package cn.crane4j.core.executor.handler;
 
+import cn.crane4j.core.container.AsyncContainer;
 import cn.crane4j.core.container.Container;
 import cn.crane4j.core.container.EmptyContainer;
 import cn.crane4j.core.executor.AssembleExecution;
@@ -13,6 +14,8 @@ import lombok.extern.slf4j.Slf4j;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * <p>This class serves as the top-level template class
@@ -41,6 +44,10 @@ import java.util.Objects;
  * Finally, if the object has an associated data source object,
  * the {@link #completeMapping} method is called to perform property mapping between them.
  *
+ * <p>When the operation is performed through {@link #processAsync},
+ * the data sources are obtained by {@link #getSourcesFromContainerAsync},
+ * and the property mapping will be completed after the data sources are ready.
+ *
  * <p>The implementation logic of this template class is based on
  * the encapsulation of {@link Target}, which may introduce unnecessary performance overhead.
  *
@@ -72,6 +79,37 @@ public abstract class AbstractAssembleOperationHandler<T extends AbstractAssembl
             return;
         }
         Map<Object, Object> sources = getSourcesFromContainer(container, targets);
+        completeMappingForEntities(targets, sources);
+    }
+
+    /**
+     * <p>Perform assembly operation asynchronously.<br />
+     * The property mapping will be completed after the data sources
+     * returned by {@link #getSourcesFromContainerAsync} are ready.
+     *
+     * @param container container
+     * @param executions operations to be performed
+     * @return completion stage of the operation
+     * @since 2.6.0
+     */
+    @Override
+    public CompletionStage<Void> processAsync(Container<?> container, Collection<AssembleExecution> executions) {
+        try {
+            Collection<T> targets = collectToEntities(executions);
+            if (container instanceof EmptyContainer || Objects.isNull(container)) {
+                introspectForEntities(targets);
+                return CompletableFuture.completedFuture(null);
+            }
+            return getSourcesFromContainerAsync(container, targets)
+                .thenAccept(sources -> completeMappingForEntities(targets, sources));
+        } catch (Exception ex) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            future.completeExceptionally(ex);
+            return future;
+        }
+    }
+
+    private void completeMappingForEntities(Collection<T> targets, Map<Object, Object> sources) {
         if (CollectionUtils.isEmpty(sources)) {
             return;
         }
@@ -111,6 +149,21 @@ public abstract class AbstractAssembleOperationHandler<T extends AbstractAssembl
      */
     protected abstract Map<Object, Object> getSourcesFromContainer(Container<?> container, Collection<T> targets);
 
+    /**
+     * <p>Asynchronously obtain the corresponding data source object
+     * from the data source container based on the entity's key value.<br />
+     * By default, the data sources are obtained synchronously through {@link #getSourcesFromContainer},
+     * subclasses can override it to support {@link AsyncContainer}.
+     *
+     * @param container container
+     * @param targets targets
+     * @return completion stage of source objects
+     * @since 2.6.0
+     */
+    protected CompletionStage<Map<Object, Object>> getSourcesFromContainerAsync(Container<?> container, Collection<T> targets) {
+        return CompletableFuture.completedFuture(getSourcesFromContainer(container, targets));
+    }
+
     /**
      * Get the data source object associated with the target object.
      *
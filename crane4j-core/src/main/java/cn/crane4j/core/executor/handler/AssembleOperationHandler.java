@@ -5,6 +5,8 @@ import cn.crane4j.core.executor.AssembleExecution;
 import cn.crane4j.core.support.NamedComponent;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * <p>Handler of assembly operation.<br />
@@ -32,4 +34,26 @@ public interface AssembleOperationHandler extends NamedComponent {
      * @param executions operations to be performed
      */
     void process(Container<?> container, Collection<AssembleExecution> executions);
+
+    /**
+     * <p>Perform assembly operation asynchronously.<br />
+     * By default, the operation is performed synchronously through {@link #process},
+     * and the returned stage is already completed when this method returns.
+     *
+     * @param container container
+     * @param executions operations to be performed
+     * @return completion stage of the operation
+     * @see cn.crane4j.core.container.AsyncContainer
+     * @since 2.6.0
+     */
+    default CompletionStage<Void> processAsync(Container<?> container, Collection<AssembleExecution> executions) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            process(container, executions);
+            future.complete(null);
+        } catch (Exception ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
 }
@@ -1,10 +1,9 @@
 package cn.crane4j.core.executor.handler;
 
-import cn.crane4j.core.container.Container;
 import cn.crane4j.core.executor.AssembleExecution;
+import cn.crane4j.core.executor.key.SeparatedKeyTokenizer;
 import cn.crane4j.core.support.converter.ConverterManager;
 import cn.crane4j.core.support.reflect.PropertyOperator;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -81,21 +80,19 @@ public class ManyToManyAssembleOperationHandler extends OneToManyAssembleOperati
     }
 
     /**
-     * Obtain the corresponding data source object from the data source container based on the entity's key value.
+     * Collect the key values used to query the data source container,
+     * the key value of each target is a collection and will be flattened.
      *
-     * @param container container
-     * @param targets   targets
-     * @return source objects
+     * @param targets targets
+     * @return key values
      */
-    @SuppressWarnings("unchecked")
     @Override
-    protected Map<Object, Object> getSourcesFromContainer(Container<?> container, Collection<Target> targets) {
-        Set<Object> keys = targets.stream()
+    protected Set<Object> collectKeys(Collection<Target> targets) {
+        return targets.stream()
             .map(Target::getKey)
             .map(k -> (Collection<?>)k)
             .flatMap(Collection::stream)
             .collect(Collectors.toSet());
-        return (Map<Object, Object>)((Container<Object>)container).get(keys);
     }
 
     /**
@@ -122,12 +119,23 @@ public class ManyToManyAssembleOperationHandler extends OneToManyAssembleOperati
     }
 
     /**
-     * The default key value splitter supports splitting {@link Collection},
-     * arrays and strings with specified delimiters.
+     * <p>The default key value splitter supports splitting {@link Collection},
+     * arrays and strings with specified delimiters.<br />
+     * Since 2.6.0, strings are split by {@link SeparatedKeyTokenizer},
+     * and the results of repetitive strings are memoized.
      */
-    @RequiredArgsConstructor
     public static class DefaultSplitter implements KeySplitter {
-        private final String strSeparator;
+        private final SeparatedKeyTokenizer tokenizer;
+
+        /**
+         * Create a {@link DefaultSplitter} instance.
+         *
+         * @param strSeparator separator of string
+         */
+        public DefaultSplitter(String strSeparator) {
+            this.tokenizer = new SeparatedKeyTokenizer(strSeparator, true);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         public Collection<Object> apply(Object keys) {
@@ -135,10 +143,7 @@ public class ManyToManyAssembleOperationHandler extends OneToManyAssembleOperati
                 return Collections.emptyList();
             }
             if (keys instanceof String) {
-                String str = (String)keys;
-                return Arrays.stream(str.split(strSeparator))
-                    .map(String::trim)
-                    .collect(Collectors.toSet());
+                return tokenizer.split((String)keys);
             }
             if (keys instanceof Collection) {
                 return (Collection<Object>)keys;
@@ -2,12 +2,15 @@ package cn.crane4j.core.executor.handler;
 
 import cn.crane4j.core.parser.PropertyMapping;
 import cn.crane4j.core.parser.handler.strategy.PropertyMappingStrategy;
+import cn.crane4j.core.parser.operation.AssembleOperation;
 import cn.crane4j.core.support.converter.ConverterManager;
 import cn.crane4j.core.support.reflect.PropertyOperator;
 import cn.crane4j.core.util.CollectionUtils;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Set;
+import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -42,20 +45,44 @@ public class OneToManyAssembleOperationHandler extends OneToOneAssembleOperation
      */
     @Override
     protected void completeMapping(Object source, Target target) {
-        PropertyMappingStrategy propertyMappingStrategy = target.getExecution().getOperation().getPropertyMappingStrategy();
+        AssembleOperation operation = target.getExecution().getOperation();
+        PropertyMappingStrategy propertyMappingStrategy = operation.getPropertyMappingStrategy();
         Collection<?> sources = CollectionUtils.adaptObjectToCollection(source);
-        Set<PropertyMapping> mappings = target.getExecution().getOperation().getPropertyMappings();
-        for (PropertyMapping mapping : mappings) {
+        Object origin = target.getOrigin();
+        Class<?> targetType = origin.getClass();
+        // accessors of each source object, the source objects may have different types
+        List<MappingAccessor[]> sourceAccessors = sources.stream()
+            .map(s -> Objects.isNull(s) ? null : getMappingAccessors(operation, s.getClass(), targetType))
+            .collect(Collectors.toList());
+        MappingAccessor[] accessors = sourceAccessors.stream()
+            .filter(Objects::nonNull)
+            .findFirst()
+            .orElse(null);
+        if (Objects.isNull(accessors)) {
+            return;
+        }
+        for (int i = 0; i < accessors.length; i++) {
+            MappingAccessor accessor = accessors[i];
+            PropertyMapping mapping = accessor.getMapping();
             // there are always multiple source values,
             // so we need to merge the source objects after operation
             Collection<?> sourceValues = mapping.hasSource() ?
-                sources.stream().map(s -> propertyOperator.readProperty(s.getClass(), s, mapping.getSource()))
-                    .collect(Collectors.toList()) : sources;
-            Object origin = target.getOrigin();
+                readSourceValues(sources, sourceAccessors, i) : sources;
             propertyMappingStrategy.doMapping(
                 origin, source, sourceValues, mapping,
-                sv -> propertyOperator.writeProperty(origin.getClass(), origin, mapping.getReference(), sourceValues)
+                sv -> accessor.write(origin, sourceValues)
             );
         }
     }
+
+    private static List<Object> readSourceValues(
+        Collection<?> sources, List<MappingAccessor[]> sourceAccessors, int index) {
+        List<Object> sourceValues = new ArrayList<>(sources.size());
+        int i = 0;
+        for (Object s : sources) {
+            MappingAccessor[] accessors = sourceAccessors.get(i++);
+            sourceValues.add(Objects.isNull(accessors) ? null : accessors[index].read(s));
+        }
+        return sourceValues;
+    }
 }
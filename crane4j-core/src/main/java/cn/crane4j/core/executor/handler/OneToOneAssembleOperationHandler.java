@@ -1,18 +1,26 @@
 package cn.crane4j.core.executor.handler;
 
+import cn.crane4j.core.container.AsyncContainer;
 import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ImmutableMapContainer;
+import cn.crane4j.core.container.LimitedContainer;
+import cn.crane4j.core.container.PrimitiveKeyMapContainer;
 import cn.crane4j.core.executor.AssembleExecution;
 import cn.crane4j.core.executor.key.KeyResolver;
 import cn.crane4j.core.parser.PropertyMapping;
 import cn.crane4j.core.parser.handler.strategy.PropertyMappingStrategy;
 import cn.crane4j.core.parser.operation.AssembleOperation;
+import cn.crane4j.core.support.MethodInvoker;
 import cn.crane4j.core.support.converter.ConverterManager;
 import cn.crane4j.core.support.reflect.PropDesc;
 import cn.crane4j.core.support.reflect.PropertyOperator;
+import cn.crane4j.core.util.CollectionUtils;
 import cn.crane4j.core.util.StringUtils;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -20,6 +28,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -49,6 +60,13 @@ public class OneToOneAssembleOperationHandler
     @Setter
     private boolean ignoreNullKey = false;
 
+    /**
+     * resolved accessors of property mappings,
+     * grouped by operation, type of source object and type of target object
+     */
+    private final Map<AssembleOperation, Map<Class<?>, Map<Class<?>, MappingAccessor[]>>> mappingAccessors =
+        CollectionUtils.newWeakKeyConcurrentMap();
+
     /**
      * Split the {@link AssembleExecution} into pending objects and wrap it as {@link Target}.
      *
@@ -114,11 +132,61 @@ public class OneToOneAssembleOperationHandler
     @SuppressWarnings("unchecked")
     @Override
     protected Map<Object, Object> getSourcesFromContainer(Container<?> container, Collection<Target> targets) {
-        Set<Object> keys = targets.stream()
+        // in-memory map containers always return all data, so there is no need to collect keys
+        if (isInMemoryMapContainer(container)) {
+            return (Map<Object, Object>)((LimitedContainer<Object>)container).getAll();
+        }
+        Set<Object> keys = collectKeys(targets);
+        return (Map<Object, Object>)((Container<Object>)container).get(keys);
+    }
+
+    /**
+     * Asynchronously obtain the corresponding data source object
+     * from the data source container based on the entity's key value.
+     *
+     * @param container container
+     * @param targets   targets
+     * @return completion stage of source objects
+     * @see AsyncContainer
+     * @since 2.6.0
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    protected CompletionStage<Map<Object, Object>> getSourcesFromContainerAsync(
+        Container<?> container, Collection<Target> targets) {
+        if (isInMemoryMapContainer(container)) {
+            return CompletableFuture.completedFuture(getSourcesFromContainer(container, targets));
+        }
+        Set<Object> keys = collectKeys(targets);
+        return AsyncContainer.getAsync((Container<Object>)container, keys)
+            .thenApply(sources -> (Map<Object, Object>)sources);
+    }
+
+    /**
+     * Whether the container is an in-memory map container,
+     * which returns all data without any extra work whatever the keys are.<br />
+     * Other {@link LimitedContainer} are not included,
+     * because getting all data from them may be expensive, such as loading a snapshot.
+     *
+     * @param container container
+     * @return true if the container is an in-memory map container
+     */
+    private static boolean isInMemoryMapContainer(Container<?> container) {
+        return container instanceof ImmutableMapContainer || container instanceof PrimitiveKeyMapContainer;
+    }
+
+    /**
+     * Collect the key values used to query the data source container.
+     *
+     * @param targets targets
+     * @return key values
+     * @since 2.6.0
+     */
+    protected Set<Object> collectKeys(Collection<Target> targets) {
+        return targets.stream()
             .map(Target::getKey)
             .filter(Objects::nonNull)
             .collect(Collectors.toSet());
-        return (Map<Object, Object>)((Container<Object>)container).get(keys);
     }
 
     /**
@@ -141,21 +209,98 @@ public class OneToOneAssembleOperationHandler
      */
     @Override
     protected void completeMapping(Object source, Target target) {
-        AssembleExecution execution = target.getExecution();
-        PropDesc sourceDesc = propertyOperator.getPropertyDescriptor(source.getClass());
-        PropDesc targetDesc = propertyOperator.getPropertyDescriptor(target.getOrigin().getClass());
+        AssembleOperation operation = target.getExecution().getOperation();
+        Object originTarget = target.getOrigin();
 
         // mapping properties
-        PropertyMappingStrategy propertyMappingStrategy = execution.getOperation().getPropertyMappingStrategy();
-        Set<PropertyMapping> mappings = execution.getOperation().getPropertyMappings();
-        for (PropertyMapping mapping : mappings) {
-            Object sourceValue = mapping.hasSource() ?
-                sourceDesc.readProperty(source, mapping.getSource()) : source;
-            Object originTarget = target.getOrigin();
+        PropertyMappingStrategy propertyMappingStrategy = operation.getPropertyMappingStrategy();
+        for (MappingAccessor accessor : getMappingAccessors(operation, source.getClass(), originTarget.getClass())) {
+            PropertyMapping mapping = accessor.getMapping();
+            Object sourceValue = mapping.hasSource() ? accessor.read(source) : source;
             propertyMappingStrategy.doMapping(
                 originTarget, source, sourceValue, mapping,
-                sv -> targetDesc.writeProperty(originTarget, mapping.getReference(), sourceValue)
+                sv -> accessor.write(originTarget, sourceValue)
             );
         }
     }
+
+    /**
+     * <p>Get the accessors of property mappings of the operation.<br />
+     * The getters and setters are resolved only once
+     * for each combination of operation, source type and target type,
+     * and the accessors are in the same order as {@link AssembleOperation#getPropertyMappings()}.
+     *
+     * @param operation operation
+     * @param sourceType type of source object
+     * @param targetType type of target object
+     * @return accessors of property mappings
+     * @since 2.6.0
+     */
+    protected MappingAccessor[] getMappingAccessors(AssembleOperation operation, Class<?> sourceType, Class<?> targetType) {
+        return mappingAccessors
+            .computeIfAbsent(operation, op -> new ConcurrentHashMap<>(4))
+            .computeIfAbsent(sourceType, t -> new ConcurrentHashMap<>(4))
+            .computeIfAbsent(targetType, t -> resolveMappingAccessors(operation, sourceType, targetType));
+    }
+
+    private MappingAccessor[] resolveMappingAccessors(
+        AssembleOperation operation, Class<?> sourceType, Class<?> targetType) {
+        PropDesc sourceDesc = propertyOperator.getPropertyDescriptor(sourceType);
+        PropDesc targetDesc = propertyOperator.getPropertyDescriptor(targetType);
+        return operation.getPropertyMappings().stream()
+            .map(mapping -> new MappingAccessor(
+                mapping, mapping.hasSource() ? sourceDesc.getGetter(mapping.getSource()) : null,
+                targetDesc.getSetter(mapping.getReference())
+            ))
+            .toArray(MappingAccessor[]::new);
+    }
+
+    /**
+     * The resolved getter and setter of a property mapping.
+     *
+     * @since 2.6.0
+     */
+    @Getter
+    @RequiredArgsConstructor
+    protected static class MappingAccessor {
+
+        /**
+         * property mapping
+         */
+        private final PropertyMapping mapping;
+
+        /**
+         * getter of source property, null if it is not found or the mapping has no source property
+         */
+        @Nullable
+        private final MethodInvoker getter;
+
+        /**
+         * setter of reference property, null if it is not found
+         */
+        @Nullable
+        private final MethodInvoker setter;
+
+        /**
+         * Read the value of source property.
+         *
+         * @param source source object
+         * @return value of source property
+         */
+        public Object read(Object source) {
+            return Objects.isNull(getter) ? null : getter.invoke(source);
+        }
+
+        /**
+         * Write the value to reference property.
+         *
+         * @param target target object
+         * @param value value
+         */
+        public void write(Object target, Object value) {
+            if (Objects.nonNull(setter)) {
+                setter.invoke(target, value);
+            }
+        }
+    }
 }
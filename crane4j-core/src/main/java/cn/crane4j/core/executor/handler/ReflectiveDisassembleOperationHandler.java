@@ -6,26 +6,59 @@ import cn.crane4j.core.support.reflect.PropertyOperator;
 import cn.crane4j.core.util.Asserts;
 import cn.crane4j.core.util.CollectionUtils;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Deque;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
- * A basic {@link DisassembleOperationHandler} implementation based on {@link PropertyOperator}.
+ * <p>A basic {@link DisassembleOperationHandler} implementation based on {@link PropertyOperator}.<br />
+ * The nested objects are flattened into array-backed lists in depth-first order,
+ * for example, {@code [[a, b], c]} will be flattened to {@code a, b, c},
+ * and if {@link #parallelThreshold} is positive and the number of targets exceeds it,
+ * the targets will be split and flattened in the {@link #forkJoinPool}
+ * or the common {@link ForkJoinPool} if the pool is not specified.
+ * Flattening in parallel is disabled by default.
  *
  * @author huangchengxing
  */
 @RequiredArgsConstructor
 public class ReflectiveDisassembleOperationHandler implements DisassembleOperationHandler {
 
+    /**
+     * default threshold of the number of targets for flattening in parallel,
+     * which means flattening in parallel is disabled
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = -1;
+
     private final PropertyOperator propertyOperator;
 
+    /**
+     * <p>Threshold of the number of targets for flattening in parallel.<br />
+     * If the value is non-positive, the targets will always be flattened in the current thread.
+     *
+     * @since 2.6.0
+     */
+    @Setter
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    /**
+     * <p>Pool used to flatten the targets in parallel.<br />
+     * If null, the common {@link ForkJoinPool} will be used.
+     *
+     * @see #parallelThreshold
+     * @since 2.6.0
+     */
+    @Setter
+    @Nullable
+    private ForkJoinPool forkJoinPool;
+
     /**
      * Extract nested objects in object attributes according to disassembly configuration.
      *
@@ -40,24 +73,70 @@ public class ReflectiveDisassembleOperationHandler implements DisassembleOperati
         }
         MethodInvoker getter = propertyOperator.findGetter(operation.getSourceType(), operation.getKey());
         Asserts.isNotNull(getter, "cannot find getter for [{}] on [{}]", operation.getKey(), operation.getSourceType());
-        Deque<Object> deque = targets.stream()
-            .filter(Objects::nonNull)
-            .map(getter::invoke)
-            .collect(Collectors.toCollection(LinkedList::new));
-
-        List<Object> result = new ArrayList<>();
-        while (!deque.isEmpty()) {
-            Object item = deque.removeFirst();
-            if (Objects.isNull(item)) {
-                continue;
+        Object[] array = targets.toArray();
+        if (parallelThreshold > 0 && array.length > parallelThreshold) {
+            ForkJoinPool pool = Objects.isNull(forkJoinPool) ? ForkJoinPool.commonPool() : forkJoinPool;
+            return pool.invoke(new FlattenTask(getter, array, 0, array.length, parallelThreshold));
+        }
+        return flatten(getter, array, 0, array.length);
+    }
+
+    private static List<Object> flatten(MethodInvoker getter, Object[] targets, int from, int to) {
+        List<Object> results = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            Object target = targets[i];
+            if (Objects.nonNull(target)) {
+                flattenInto(getter.invoke(target), results);
             }
-            // still is collection, continue
-            if (item instanceof Collection || item.getClass().isArray()) {
-                deque.addAll(CollectionUtils.adaptObjectToCollection(item));
-            } else {
-                result.add(item);
+        }
+        return results;
+    }
+
+    private static void flattenInto(Object item, List<Object> results) {
+        if (Objects.isNull(item)) {
+            return;
+        }
+        // still is collection, continue
+        if (item instanceof Collection) {
+            for (Object element : (Collection<?>)item) {
+                flattenInto(element, results);
+            }
+        } else if (item instanceof Object[]) {
+            for (Object element : (Object[])item) {
+                flattenInto(element, results);
+            }
+        } else if (item.getClass().isArray()) {
+            CollectionUtils.adaptObjectToCollection(item).forEach(element -> flattenInto(element, results));
+        } else {
+            results.add(item);
+        }
+    }
+
+    /**
+     * Task for flattening a range of targets, the order of nested objects is preserved.
+     */
+    @RequiredArgsConstructor
+    private static class FlattenTask extends RecursiveTask<List<Object>> {
+
+        private static final long serialVersionUID = 1L;
+        private final transient MethodInvoker getter;
+        private final transient Object[] targets;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        @Override
+        protected List<Object> compute() {
+            if (to - from <= threshold) {
+                return flatten(getter, targets, from, to);
             }
+            int middle = (from + to) >>> 1;
+            FlattenTask left = new FlattenTask(getter, targets, from, middle, threshold);
+            FlattenTask right = new FlattenTask(getter, targets, middle, to, threshold);
+            right.fork();
+            List<Object> results = left.compute();
+            results.addAll(right.join());
+            return results;
         }
-        return result;
     }
 }
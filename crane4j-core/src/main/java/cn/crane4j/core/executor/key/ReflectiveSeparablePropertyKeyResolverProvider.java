@@ -5,6 +5,7 @@ import cn.crane4j.core.support.converter.ConverterManager;
 import cn.crane4j.core.support.reflect.PropertyOperator;
 import cn.crane4j.core.util.Asserts;
 import cn.crane4j.core.util.ClassUtils;
+import cn.crane4j.core.util.ReflectUtils;
 import cn.crane4j.core.util.StringUtils;
 import lombok.RequiredArgsConstructor;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -13,7 +14,11 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -29,6 +34,17 @@ public class ReflectiveSeparablePropertyKeyResolverProvider implements KeyResolv
     private final PropertyOperator propertyOperator;
     private final ConverterManager converterManager;
 
+    /**
+     * tokenizers used by {@link #splitKey}, grouped by key splitter
+     */
+    private final Map<String, SeparatedKeyTokenizer> tokenizers = new ConcurrentHashMap<>();
+
+    /**
+     * whether {@link #splitKey} is overridden by subclass,
+     * if true, all property values will be split by it
+     */
+    private final boolean splitKeyOverridden = isSplitKeyOverridden(getClass());
+
     /**
      * Get the resolver of the operation.
      *
@@ -39,11 +55,21 @@ public class ReflectiveSeparablePropertyKeyResolverProvider implements KeyResolv
     public KeyResolver getResolver(AssembleOperation operation) {
         Asserts.isNotEmpty(operation.getKey(), "No key is specified for the operation from {}", operation.getSource());
         String keySplitter = StringUtils.emptyToDefault(operation.getKeyDescription(), DEFAULT_KEY_SPLITTER);
-        return new ReflectiveSeparablePropertyKeyResolver(keySplitter);
+        Class<?> keyType = operation.getKeyType();
+        Function<String, Object> tokenConverter = Objects.isNull(keyType) || ClassUtils.isObjectOrVoid(keyType) ?
+            null : token -> converterManager.convert(token, keyType);
+        SeparatedKeyTokenizer tokenizer = new SeparatedKeyTokenizer(
+            keySplitter, false, tokenConverter, SeparatedKeyTokenizer.DEFAULT_MEMO_SIZE
+        );
+        return new ReflectiveSeparablePropertyKeyResolver(keySplitter, keyType, tokenizer);
     }
 
     /**
-     * Split the key value.
+     * <p>Split the key value.<br />
+     * The string is split by {@link SeparatedKeyTokenizer}, which does not use regular expression
+     * if the splitter contains no meta characters.
+     * If the method is overridden, the resolver will always split the property value by it,
+     * otherwise the split and converted keys of string are memoized by the resolver.
      *
      * @param propertyValue property value
      * @param keySplitter key splitter
@@ -60,10 +86,10 @@ public class ReflectiveSeparablePropertyKeyResolverProvider implements KeyResolv
             if (StringUtils.isEmpty(cs)) {
                 return Collections.emptyList();
             }
-            String[] split = ((String)propertyValue).split(keySplitter);
-            return split.length > 1 ?
-                Arrays.stream(split).map(String::trim).collect(Collectors.toList()) :
-                Collections.singletonList(propertyValue);
+            List<Object> tokens = tokenizers
+                .computeIfAbsent(keySplitter, s -> new SeparatedKeyTokenizer(s, false))
+                .split(cs.toString());
+            return tokens.size() > 1 ? tokens : Collections.singletonList(propertyValue);
         }
         if (propertyValue instanceof Collection) {
             return (Collection<Object>) propertyValue;
@@ -74,24 +100,53 @@ public class ReflectiveSeparablePropertyKeyResolverProvider implements KeyResolv
         return Collections.singletonList(propertyValue);
     }
 
+    private static boolean isSplitKeyOverridden(Class<?> type) {
+        Class<?> curr = type;
+        while (curr != ReflectiveSeparablePropertyKeyResolverProvider.class) {
+            if (Objects.nonNull(ReflectUtils.getDeclaredMethod(curr, "splitKey", Object.class, String.class))) {
+                return true;
+            }
+            curr = curr.getSuperclass();
+        }
+        return false;
+    }
+
     @RequiredArgsConstructor
     private class ReflectiveSeparablePropertyKeyResolver implements KeyResolver {
 
         private final String keySplitter;
+        @Nullable
+        private final Class<?> keyType;
+
+        /**
+         * tokenizer for the string keys, the tokens are converted to {@link #keyType}
+         */
+        private final SeparatedKeyTokenizer tokenizer;
 
         @Override
         public Collection<Object> resolve(Object target, AssembleOperation operation) {
             Object propertyValue = propertyOperator.readProperty(target.getClass(), target, operation.getKey());
-            Collection<Object> values = splitKey(propertyValue, keySplitter);
+            Collection<Object> values;
+            // the split and converted keys of string are memoized by tokenizer
+            if (!splitKeyOverridden && propertyValue instanceof String && operation.getKeyType() == keyType) {
+                String str = (String)propertyValue;
+                List<Object> tokens = tokenizer.split(str);
+                if (tokens.size() > 1) {
+                    return tokens;
+                }
+                values = str.isEmpty() ? Collections.emptyList() : Collections.singletonList(propertyValue);
+            } else {
+                values = splitKey(propertyValue, keySplitter);
+            }
             if (values.isEmpty()) {
                 return Collections.emptyList();
             }
-            Class<?> keyType = operation.getKeyType();
-            if (Objects.isNull(keyType) || ClassUtils.isObjectOrVoid(keyType)) {
+            Class<?> type = operation.getKeyType();
+            if (Objects.isNull(type) || ClassUtils.isObjectOrVoid(type)) {
                 return values;
             }
             return values.stream()
-                .map(v -> converterManager.convert(v, keyType))
+                .map(v -> converterManager.convert(v, type))
                 .collect(Collectors.toList());
         }
     }
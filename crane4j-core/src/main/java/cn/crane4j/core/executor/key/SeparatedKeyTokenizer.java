@@ -0,0 +1,176 @@
+package cn.crane4j.core.executor.key;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * <p>Tokenizer for splitting a string of multiple keys joined by separator, such as {@code "1, 2, 3"}.<br />
+ * The tokens are trimmed and the result is the same as {@code String#split} followed by {@code String#trim},
+ * but if the separator contains no regular expression meta characters,
+ * the string is split by {@link String#indexOf} instead of regular expression.
+ *
+ * <p>The results of recently split strings are memoized,
+ * and if a token converter is specified, each distinct token will be converted only once,
+ * so it's very cheap to split a large number of repetitive strings.
+ * The memoized results are shared and unmodifiable.
+ * When the number of memoized entries exceeds the limit, all of them will be discarded.
+ *
+ * @author huangchengxing
+ * @see ReflectiveSeparablePropertyKeyResolverProvider
+ * @see cn.crane4j.core.executor.handler.ManyToManyAssembleOperationHandler.DefaultSplitter
+ * @since 2.6.0
+ */
+public class SeparatedKeyTokenizer {
+
+    /**
+     * default max number of memoized strings and tokens
+     */
+    public static final int DEFAULT_MEMO_SIZE = 1024;
+    private static final String REGEX_META_CHARS = ".$|()[{^?*+\\";
+    private static final Object NULL = new Object();
+
+    private final String separator;
+    private final boolean literal;
+    private final boolean distinct;
+    @Nullable
+    private final Function<String, Object> tokenConverter;
+    private final int memoSize;
+    private final Map<String, List<Object>> memoizedResults = new ConcurrentHashMap<>();
+    private final Map<String, Object> memoizedTokens = new ConcurrentHashMap<>();
+
+    /**
+     * Create a tokenizer.
+     *
+     * @param separator separator, if it contains regular expression meta characters, it will be used as a regular expression
+     * @param distinct whether to remove the duplicate tokens
+     * @param tokenConverter converter of tokens, null if the tokens should not be converted
+     * @param memoSize max number of memoized strings and tokens, non-positive value means no memoization
+     */
+    public SeparatedKeyTokenizer(
+        String separator, boolean distinct, @Nullable Function<String, Object> tokenConverter, int memoSize) {
+        Objects.requireNonNull(separator, "separator must not null");
+        this.separator = separator;
+        this.literal = !separator.isEmpty() && separator.chars().noneMatch(c -> REGEX_META_CHARS.indexOf(c) >= 0);
+        this.distinct = distinct;
+        this.tokenConverter = tokenConverter;
+        this.memoSize = memoSize;
+    }
+
+    /**
+     * Create a tokenizer which does not convert tokens.
+     *
+     * @param separator separator, if it contains regular expression meta characters, it will be used as a regular expression
+     * @param distinct whether to remove the duplicate tokens
+     */
+    public SeparatedKeyTokenizer(String separator, boolean distinct) {
+        this(separator, distinct, null, DEFAULT_MEMO_SIZE);
+    }
+
+    /**
+     * Split the string into tokens.
+     *
+     * @param str string
+     * @return unmodifiable tokens, which may be shared by the same strings
+     */
+    public List<Object> split(String str) {
+        if (memoSize <= 0) {
+            return doSplit(str);
+        }
+        List<Object> result = memoizedResults.get(str);
+        if (Objects.isNull(result)) {
+            result = doSplit(str);
+            memoize(memoizedResults, str, result);
+        }
+        return result;
+    }
+
+    private List<Object> doSplit(String str) {
+        List<String> tokens = literal ? splitByLiteral(str) : splitByRegex(str);
+        List<Object> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            results.add(convert(token));
+        }
+        if (distinct && results.size() > 1) {
+            results = new ArrayList<>(new LinkedHashSet<>(results));
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    private Object convert(String token) {
+        if (Objects.isNull(tokenConverter)) {
+            return token;
+        }
+        if (memoSize <= 0) {
+            return tokenConverter.apply(token);
+        }
+        Object value = memoizedTokens.get(token);
+        if (Objects.isNull(value)) {
+            value = tokenConverter.apply(token);
+            memoize(memoizedTokens, token, Objects.isNull(value) ? NULL : value);
+        }
+        return value == NULL ? null : value;
+    }
+
+    private <V> void memoize(Map<String, V> memo, String key, V value) {
+        if (memo.size() >= memoSize) {
+            memo.clear();
+        }
+        memo.put(key, value);
+    }
+
+    private List<String> splitByRegex(String str) {
+        String[] split = str.split(separator);
+        List<String> tokens = new ArrayList<>(split.length);
+        for (String token : split) {
+            tokens.add(token.trim());
+        }
+        return tokens;
+    }
+
+    /**
+     * Split the string in the same way as {@link String#split},
+     * the trailing empty strings are not included.
+     */
+    private List<String> splitByLiteral(String str) {
+        int index = str.indexOf(separator);
+        if (index < 0) {
+            return Collections.singletonList(str.trim());
+        }
+        List<String> tokens = new ArrayList<>();
+        int nonEmptyCount = 0;
+        int start = 0;
+        while (index >= 0) {
+            tokens.add(trim(str, start, index));
+            if (index > start) {
+                nonEmptyCount = tokens.size();
+            }
+            start = index + separator.length();
+            index = str.indexOf(separator, start);
+        }
+        tokens.add(trim(str, start, str.length()));
+        if (str.length() > start) {
+            nonEmptyCount = tokens.size();
+        }
+        return nonEmptyCount == tokens.size() ? tokens : tokens.subList(0, nonEmptyCount);
+    }
+
+    private static String trim(String str, int start, int end) {
+        int from = start;
+        int to = end;
+        while (from < to && str.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && str.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        return str.substring(from, to);
+    }
+}
@@ -110,6 +110,31 @@ public interface BeanOperations {
      */
     void setActive(boolean active);
     
+    /**
+     * <p>Get the assembly operations which the specified operation depends on.<br />
+     * The dependencies must be completed before the specified operation,
+     * for example, the key property of the operation is a reference property of its dependencies.
+     *
+     * @param operation operation
+     * @return operations which the specified operation depends on
+     * @since 2.6.0
+     */
+    default Collection<AssembleOperation> getDependencies(AssembleOperation operation) {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Add a dependency of the specified assembly operation.
+     *
+     * @param operation operation
+     * @param dependency operation which the specified operation depends on
+     * @see #getDependencies
+     * @since 2.6.0
+     */
+    default void addDependency(AssembleOperation operation, AssembleOperation dependency) {
+        // do nothing
+    }
+
     /**
      * Whether the current operation is empty.
      *
@@ -2,14 +2,21 @@ package cn.crane4j.core.parser;
 
 import cn.crane4j.core.parser.operation.AssembleOperation;
 import cn.crane4j.core.parser.operation.DisassembleOperation;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
 import java.lang.reflect.AnnotatedElement;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Simple implementation of {@link BeanOperations}.
@@ -26,6 +33,8 @@ public class SimpleBeanOperations implements BeanOperations {
     private final AnnotatedElement source;
     private final List<AssembleOperation> assembleOperations = new ArrayList<>();
     private final List<DisassembleOperation> disassembleOperations = new ArrayList<>();
+    @Getter(AccessLevel.NONE)
+    private final Map<AssembleOperation, Set<AssembleOperation>> dependencies = new HashMap<>(8);
 
     /**
      * Add assembly operation. <br />
@@ -52,4 +61,30 @@ public class SimpleBeanOperations implements BeanOperations {
         disassembleOperations.remove(operation);
         disassembleOperations.add(operation);
     }
+
+    /**
+     * Get the assembly operations which the specified operation depends on.
+     *
+     * @param operation operation
+     * @return operations which the specified operation depends on
+     * @since 2.6.0
+     */
+    @Override
+    public Collection<AssembleOperation> getDependencies(AssembleOperation operation) {
+        return dependencies.getOrDefault(operation, Collections.emptySet());
+    }
+
+    /**
+     * Add a dependency of the specified assembly operation.
+     *
+     * @param operation operation
+     * @param dependency operation which the specified operation depends on
+     * @since 2.6.0
+     */
+    @Override
+    public void addDependency(AssembleOperation operation, AssembleOperation dependency) {
+        Objects.requireNonNull(operation, "operation must not null");
+        Objects.requireNonNull(dependency, "dependency must not null");
+        dependencies.computeIfAbsent(operation, op -> new LinkedHashSet<>()).add(dependency);
+    }
 }
@@ -3,9 +3,12 @@ package cn.crane4j.core.parser;
 import cn.crane4j.core.exception.OperationParseException;
 import cn.crane4j.core.executor.BeanOperationExecutor;
 import cn.crane4j.core.parser.handler.OperationAnnotationHandler;
+import cn.crane4j.core.parser.operation.AssembleOperation;
 import cn.crane4j.core.support.Crane4jGlobalSorter;
 import cn.crane4j.core.util.CollectionUtils;
+import cn.crane4j.core.util.MultiMap;
 import cn.crane4j.core.util.ReflectUtils;
+import cn.crane4j.core.util.StringUtils;
 import cn.crane4j.core.util.TimerUtil;
 import lombok.NonNull;
 import lombok.Setter;
@@ -16,11 +19,16 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * <p>{@link BeanOperationParser 操作配置解析器}的通用实现。
@@ -117,6 +125,19 @@ public class TypeHierarchyBeanOperationParser implements BeanOperationParser {
     @Setter
     protected boolean enableHierarchyCache = false;
 
+    /**
+     * <p>Whether to infer the dependencies between assembly operations after parsing.<br />
+     * If an operation's key property is the reference property of another operation,
+     * it depends on the other operation.
+     * It's disabled by default, because the circular dependencies will be rejected when it's enabled.
+     *
+     * @see #resolveDependencies
+     * @see BeanOperations#getDependencies
+     * @since 2.6.0
+     */
+    @Setter
+    protected boolean enableDependencyInference = false;
+
     /**
      * Add bean operations resolvers.
      *
@@ -195,6 +216,9 @@ public class TypeHierarchyBeanOperationParser implements BeanOperationParser {
         result.setActive(false);
         currentlyInParsing.put(element, result);
         doParse(result);
+        if (enableDependencyInference) {
+            resolveDependencies(result);
+        }
         resolvedElements.put(element, currentlyInParsing.remove(element));
         result.setActive(true);
         return result;
@@ -235,6 +259,64 @@ public class TypeHierarchyBeanOperationParser implements BeanOperationParser {
         });
     }
 
+    /**
+     * <p>Infer the dependencies between assembly operations.<br />
+     * If the key property of an operation is the reference property of another operation,
+     * the former depends on the latter, and must be executed after it.
+     *
+     * @param operations operations
+     * @throws OperationParseException thrown when there is a circular dependency between operations
+     * @since 2.6.0
+     */
+    protected void resolveDependencies(BeanOperations operations) {
+        Collection<AssembleOperation> assembleOperations = operations.getAssembleOperations();
+        if (assembleOperations.size() < 2) {
+            return;
+        }
+        MultiMap<String, AssembleOperation> writers = MultiMap.linkedHashMultimap();
+        assembleOperations.forEach(op -> op.getPropertyMappings().stream()
+            .map(PropertyMapping::getReference)
+            .filter(StringUtils::isNotEmpty)
+            .forEach(ref -> writers.put(ref, op)));
+        for (AssembleOperation operation : assembleOperations) {
+            String key = operation.getKey();
+            if (StringUtils.isEmpty(key)) {
+                continue;
+            }
+            writers.get(key).stream()
+                .filter(writer -> writer != operation)
+                .forEach(writer -> operations.addDependency(operation, writer));
+        }
+        checkCircularDependencies(operations);
+    }
+
+    private static void checkCircularDependencies(BeanOperations operations) {
+        Set<AssembleOperation> visited = new HashSet<>();
+        for (AssembleOperation operation : operations.getAssembleOperations()) {
+            checkCircularDependencies(operations, operation, new LinkedHashSet<>(), visited);
+        }
+    }
+
+    private static void checkCircularDependencies(
+        BeanOperations operations, AssembleOperation operation,
+        LinkedHashSet<AssembleOperation> path, Set<AssembleOperation> visited) {
+        if (path.contains(operation)) {
+            String cycle = Stream.concat(path.stream(), Stream.of(operation))
+                .map(AssembleOperation::getKey)
+                .collect(Collectors.joining(" -> "));
+            throw new OperationParseException(
+                "circular dependency found between assemble operations of [{}]: {}", operations.getSource(), cycle
+            );
+        }
+        if (!visited.add(operation)) {
+            return;
+        }
+        path.add(operation);
+        operations.getDependencies(operation)
+            .forEach(dependency -> checkCircularDependencies(operations, dependency, path, visited));
+        path.remove(operation);
+    }
+
     /**
      * Create {@link BeanOperations} instance.
      *
@@ -2,8 +2,11 @@ package cn.crane4j.core.parser.operation;
 
 import cn.crane4j.core.executor.handler.DisassembleOperationHandler;
 import cn.crane4j.core.parser.BeanOperations;
+import cn.crane4j.core.util.MultiMap;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.Collection;
+
 /**
  * <p>The disassembly operation triggered by the specified key,
  * it's means that a set of process configuration information of
@@ -32,6 +35,22 @@ public interface DisassembleOperation extends KeyTriggerOperation {
     @NonNull
     BeanOperations getInternalBeanOperations(Object internalBean);
 
+    /**
+     * <p>Group the nested objects by their operation configurations.<br />
+     * By default, all nested objects share the configuration
+     * obtained by {@link #getInternalBeanOperations} with the whole collection.
+     *
+     * @param internalBeans internal beans
+     * @return nested objects grouped by operation configuration
+     * @since 2.6.0
+     */
+    @NonNull
+    default MultiMap<BeanOperations, Object> groupByInternalBeanOperations(Collection<?> internalBeans) {
+        MultiMap<BeanOperations, Object> results = MultiMap.linkedListMultimap();
+        results.putAll(getInternalBeanOperations(internalBeans), internalBeans);
+        return results;
+    }
+
     /**
      * Get the handler of the current disassembly operation.
      *
@@ -4,11 +4,15 @@ import cn.crane4j.core.executor.handler.DisassembleOperationHandler;
 import cn.crane4j.core.parser.BeanOperationParser;
 import cn.crane4j.core.parser.BeanOperations;
 import cn.crane4j.core.support.TypeResolver;
+import cn.crane4j.core.util.MultiMap;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -47,4 +51,30 @@ public class TypeDynamitedDisassembleOperation extends SimpleKeyTriggerOperation
         }
         return beanOperationParser.parse(internalType);
     }
+
+    /**
+     * <p>Group the nested objects by their operation configurations.<br />
+     * The type of nested objects will be resolved only once for each class,
+     * so the nested objects of different types will get different configurations.
+     *
+     * @param internalBeans internal beans
+     * @return nested objects grouped by operation configuration
+     * @since 2.6.0
+     */
+    @NonNull
+    @Override
+    public MultiMap<BeanOperations, Object> groupByInternalBeanOperations(Collection<?> internalBeans) {
+        MultiMap<BeanOperations, Object> results = MultiMap.linkedListMultimap();
+        Map<Class<?>, BeanOperations> resolvedOperations = new HashMap<>(4);
+        for (Object internalBean : internalBeans) {
+            if (Objects.isNull(internalBean)) {
+                continue;
+            }
+            BeanOperations operations = resolvedOperations.computeIfAbsent(
+                internalBean.getClass(), type -> getInternalBeanOperations(internalBean)
+            );
+            results.put(operations, internalBean);
+        }
+        return results;
+    }
 }
@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Helper classes used to simplify filling operations.
@@ -168,6 +169,25 @@ public class OperateTemplate {
         executor.execute(targets, beanOperations, filter);
     }
 
+    /**
+     * <p>Lazily execute the fill operation on the objects of {@code targets}.<br />
+     * The objects are filled in windows of {@code windowSize} when the returned stream is consumed,
+     * it's useful when filling a large number of objects read from a cursor.
+     *
+     * @param targets targets
+     * @param targetType target type
+     * @param windowSize number of targets in each window
+     * @param <T> target type
+     * @return stream of objects which have been filled
+     * @see BeanOperationExecutor#executeStreaming
+     * @since 2.6.0
+     */
+    public <T> Stream<T> executeStreaming(Stream<? extends T> targets, Class<?> targetType, int windowSize) {
+        Objects.requireNonNull(targetType, "targetType must not null");
+        BeanOperations beanOperations = defaultParser.parse(targetType);
+        return defaultExecutor.executeStreaming(targets, beanOperations, Grouped.alwaysMatch(), windowSize);
+    }
+
     @SuppressWarnings("unchecked")
     private <T> Class<T> resolveType(Object target) {
         Class<?> type = typeResolver.resolve(target);
@@ -64,7 +64,8 @@ public class CacheableMethodContainerFactory extends DefaultMethodContainerFacto
             .map(container -> {
                 CacheDefinition cacheDefinition = new CacheDefinition.Impl(
                     container.getNamespace(), managerName,
-                    annotation.expirationTime(), annotation.timeUnit()
+                    annotation.expirationTime(), annotation.timeUnit(),
+                    annotation.cacheNullValue(), annotation.nullValueExpirationTime(), annotation.refreshAfterWriteTime()
                 );
                 return new CacheableContainer<>(container, cacheDefinition, cacheManager);
             })
@@ -21,6 +21,7 @@ import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Support class for {@link MethodInvokerContainer} creation.
@@ -103,6 +104,8 @@ public class MethodInvokerContainerCreator {
         } else {
             throw new Crane4jException("unsupported mapping type: " + mappingType);
         }
+        // only the method returning a completion stage can be called without blocking
+        container.setNonBlocking(Objects.nonNull(method) && CompletionStage.class.isAssignableFrom(method.getReturnType()));
 
         if (Objects.isNull(method)) {
             log.debug("create method invoker container [{}], mapping type is [{}]", container.getNamespace(), mappingType);
@@ -126,8 +129,10 @@ public class MethodInvokerContainerCreator {
         @Nullable Object target, MethodInvoker methodInvoker, @Nullable Method method, String namespace) {
         if (Objects.nonNull(method)) {
             Asserts.isTrue(
-                Map.class.isAssignableFrom(method.getReturnType()),
-                "method [{}] must return a map type when mapping type is [{}]", method, MappingType.NO_MAPPING
+                Map.class.isAssignableFrom(method.getReturnType())
+                    || CompletionStage.class.isAssignableFrom(method.getReturnType()),
+                "method [{}] must return a map type or a completion stage of map when mapping type is [{}]",
+                method, MappingType.NO_MAPPING
             );
         }
         return MethodInvokerContainer.create(namespace, methodInvoker, target, true);
@@ -382,6 +382,20 @@ public class CollectionUtils {
             .makeMap();
     }
 
+    /**
+     * Create a thread-safe collection which only holds weak references to keys,
+     * the keys are compared by identity.
+     *
+     * @return {@link ConcurrentMap}
+     * @since 2.6.0
+     */
+    public static <K, V> ConcurrentMap<K, V> newWeakKeyConcurrentMap() {
+        return new MapMaker()
+            .concurrencyLevel(Runtime.getRuntime().availableProcessors())
+            .weakKeys()
+            .makeMap();
+    }
+
     /**
      * Adapt a {@link Object} object to {@link Collection}.
      *
@@ -71,7 +71,8 @@ public class ConfigurationUtil {
         Asserts.isNotNull(cacheManager, "cacheManager [{}] not found", managerName);
         CacheDefinition cacheDefinition = new CacheDefinition.Impl(
             container.getNamespace(), managerName,
-            annotation.expirationTime(), annotation.timeUnit()
+            annotation.expirationTime(), annotation.timeUnit(),
+            annotation.cacheNullValue(), annotation.nullValueExpirationTime(), annotation.refreshAfterWriteTime()
         );
         return new CacheableContainer<>(container, cacheDefinition, cacheManager);
     }
@@ -0,0 +1,118 @@
+package cn.crane4j.core.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>A util class for the executors used by crane4j internally.<br />
+ * The components which need to run tasks in other threads,
+ * such as calling the containers with time limit, refreshing the cached values in background
+ * or loading the data of snapshot container, use {@link #getDefaultExecutor()} unless another executor is specified.
+ *
+ * <p>The default executor is a bounded thread pool with daemon threads,
+ * the tasks will be rejected when all threads are busy and the queue is full.
+ * It can be replaced by {@link #setDefaultExecutor} or shut down by {@link #shutdownDefaultExecutor}.
+ *
+ * @author huangchengxing
+ * @since 2.6.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ExecutorUtils {
+
+    /**
+     * maximum number of threads of the default executor
+     */
+    public static final int DEFAULT_MAXIMUM_POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    /**
+     * capacity of the queue of the default executor
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private static volatile Executor defaultExecutor;
+
+    /**
+     * Get the default executor, create it if it has not been created.
+     *
+     * @return default executor
+     */
+    public static Executor getDefaultExecutor() {
+        Executor executor = defaultExecutor;
+        if (Objects.nonNull(executor)) {
+            return executor;
+        }
+        synchronized (ExecutorUtils.class) {
+            if (Objects.isNull(defaultExecutor)) {
+                defaultExecutor = newDaemonThreadPool("crane4j-worker-", DEFAULT_MAXIMUM_POOL_SIZE, DEFAULT_QUEUE_CAPACITY);
+            }
+            return defaultExecutor;
+        }
+    }
+
+    /**
+     * Replace the default executor,
+     * the previous one will not be shut down.
+     *
+     * @param executor executor
+     */
+    public static synchronized void setDefaultExecutor(@NonNull Executor executor) {
+        Asserts.isNotNull(executor, "default executor must not be null");
+        defaultExecutor = executor;
+    }
+
+    /**
+     * Shut down the default executor if it's an {@link ExecutorService},
+     * a new one will be created when {@link #getDefaultExecutor()} is called next time.
+     */
+    public static synchronized void shutdownDefaultExecutor() {
+        Executor executor = defaultExecutor;
+        defaultExecutor = null;
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService)executor).shutdown();
+        }
+    }
+
+    /**
+     * Create a bounded thread pool with daemon threads,
+     * the idle threads will be terminated after 60 seconds,
+     * and the tasks will be rejected when all threads are busy and the queue is full.
+     *
+     * @param threadNamePrefix prefix of thread name
+     * @param maximumPoolSize maximum number of threads
+     * @param queueCapacity capacity of queue
+     * @return thread pool
+     */
+    public static ThreadPoolExecutor newDaemonThreadPool(String threadNamePrefix, int maximumPoolSize, int queueCapacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            maximumPoolSize, maximumPoolSize, 60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), newDaemonThreadFactory(threadNamePrefix)
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Create a thread factory which creates daemon threads with the specified name prefix.
+     *
+     * @param threadNamePrefix prefix of thread name
+     * @return thread factory
+     */
+    public static ThreadFactory newDaemonThreadFactory(String threadNamePrefix) {
+        AtomicInteger counter = new AtomicInteger(0);
+        return r -> {
+            Thread thread = new Thread(r, threadNamePrefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
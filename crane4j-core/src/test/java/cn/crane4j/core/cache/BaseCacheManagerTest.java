@@ -90,4 +90,26 @@ public abstract class BaseCacheManagerTest {
         Assert.assertNull(cache.get("test"));
         Assert.assertNull(cache.get("test2"));
     }
+
+    @Test
+    public void testPutNullValues() throws InterruptedException {
+        // never expire
+        cache.putNullValues(Collections.singletonList("test"), -1L, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(CacheObject.isNullValue(cache.get("test")));
+        Assert.assertTrue(CacheObject.isNullValue(cache.getAll(Collections.singletonList("test")).get("test")));
+
+        // expire separately
+        cache.putNullValues(Arrays.asList("test2", "test3"), 1L, TimeUnit.HOURS);
+        Assert.assertTrue(CacheObject.isNullValue(cache.get("test2")));
+        cache.putNullValues(Collections.singletonList("test3"), 10L, TimeUnit.MILLISECONDS);
+        Thread.sleep(20L);
+        Assert.assertNull(cache.get("test3"));
+
+        // replaced by actual value
+        Object value = new Object();
+        cache.put("test2", value);
+        Assert.assertSame(value, cache.get("test2"));
+        cache.clear();
+        Assert.assertNull(cache.get("test"));
+    }
 }
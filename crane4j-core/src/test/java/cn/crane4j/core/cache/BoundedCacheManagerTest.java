@@ -0,0 +1,69 @@
+package cn.crane4j.core.cache;
+
+import cn.crane4j.core.exception.Crane4jException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * test for {@link BoundedCacheManager}
+ *
+ * @author huangchengxing
+ */
+public class BoundedCacheManagerTest extends BaseCacheManagerTest {
+
+    @Override
+    protected void initManager() {
+        cacheManager = new BoundedCacheManager();
+        cache = cacheManager.createCache("test", -1L, TimeUnit.MILLISECONDS);
+        Assert.assertEquals(BoundedCacheManager.class.getSimpleName(), cacheManager.getName());
+    }
+
+    @Test
+    public void testMaximumSize() {
+        BoundedCacheManager manager = new BoundedCacheManager();
+        manager.setMaximumSize(10L);
+        CacheObject<Integer> cacheObject = manager.createCache("test", -1L, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 100; i++) {
+            cacheObject.put(i, i);
+        }
+        Assert.assertTrue(((BoundedCacheManager.BoundedCacheObject<Integer>)cacheObject).size() <= 10L);
+        // the recently written entry is retained
+        Assert.assertEquals(99, cacheObject.get(99));
+    }
+
+    @Test
+    public void testMaximumWeight() {
+        BoundedCacheManager manager = new BoundedCacheManager();
+        manager.setMaximumWeight(100L);
+        Assert.assertThrows(Crane4jException.class, () -> manager.createCache("test", -1L, TimeUnit.MILLISECONDS));
+
+        manager.setWeigher((k, v) -> ((String)v).length());
+        CacheObject<Integer> cacheObject = manager.createCache("test", -1L, TimeUnit.MILLISECONDS);
+        Map<Integer, Object> values = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            values.put(i, "0123456789");
+        }
+        cacheObject.putAll(values);
+        long size = ((BoundedCacheManager.BoundedCacheObject<Integer>)cacheObject).size();
+        Assert.assertTrue(size > 0 && size <= 10L);
+
+        // null values are weighted as 1
+        cacheObject.putNullValues(Arrays.asList(100, 101), -1L, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(CacheObject.isNullValue(cacheObject.get(100)));
+    }
+
+    @Test
+    public void testExpire() throws InterruptedException {
+        CacheObject<String> cacheObject = cacheManager.createCache("test", 200L, TimeUnit.MILLISECONDS);
+        cacheObject.put("test", "test");
+        Assert.assertEquals("test", cacheObject.get("test"));
+        Thread.sleep(400L);
+        Assert.assertNull(cacheObject.get("test"));
+        Assert.assertTrue(cacheObject.getAll(Arrays.asList("test", "none")).isEmpty());
+    }
+}
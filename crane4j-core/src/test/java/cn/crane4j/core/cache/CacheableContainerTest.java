@@ -1,16 +1,35 @@
 package cn.crane4j.core.cache;
 
 import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.Containers;
 import lombok.Getter;
+import lombok.SneakyThrows;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * test for {@link CacheableContainer}
@@ -74,6 +93,219 @@ public class CacheableContainerTest {
         Assert.assertNotSame(cacheA, newData.get("a"));
     }
 
+    @Test
+    public void getWithNullValue() {
+        AtomicInteger queriedKeys = new AtomicInteger(0);
+        Container<String> partialContainer = Containers.forLambda("partial", keys -> {
+            queriedKeys.addAndGet(keys.size());
+            return keys.stream()
+                .filter("a"::equals)
+                .collect(Collectors.toMap(Function.identity(), key -> new Object()));
+        });
+        CacheDefinition cacheDefinition = new CacheDefinition.Impl(
+            partialContainer.getNamespace(), cacheManager.getClass().getName(),
+            -1L, TimeUnit.MILLISECONDS, true, -1L, -1L
+        );
+        CacheableContainer<String> container = new CacheableContainer<>(partialContainer, cacheDefinition, cacheManager);
+
+        Map<String, ?> data = container.get(Arrays.asList("a", "b"));
+        Assert.assertEquals(1, data.size());
+        Assert.assertTrue(data.containsKey("a"));
+        Assert.assertEquals(2, queriedKeys.get());
+        Assert.assertTrue(CacheObject.isNullValue(container.getCurrentCache().get("b")));
+
+        // null value is cached, only the new key is queried
+        data = container.get(Arrays.asList("a", "b", "c"));
+        Assert.assertEquals(Collections.singleton("a"), data.keySet());
+        Assert.assertEquals(3, queriedKeys.get());
+
+        // all keys are cached, container is not queried
+        data = container.get(Arrays.asList("b", "c"));
+        Assert.assertTrue(data.isEmpty());
+        Assert.assertEquals(3, queriedKeys.get());
+    }
+
+    @Test
+    public void getCachedValues() {
+        Container<String> partialContainer = Containers.forLambda("partial", keys -> keys.stream()
+            .filter("a"::equals)
+            .collect(Collectors.toMap(Function.identity(), key -> new Object())));
+        CacheDefinition cacheDefinition = new CacheDefinition.Impl(
+            partialContainer.getNamespace(), cacheManager.getClass().getName(),
+            -1L, TimeUnit.MILLISECONDS, true, -1L, -1L
+        );
+        CacheableContainer<String> container = new CacheableContainer<>(partialContainer, cacheDefinition, cacheManager);
+        Object a = container.get(Arrays.asList("a", "b")).get("a");
+        Assert.assertTrue(CacheObject.isNullValue(container.getCurrentCache().get("b")));
+
+        // null values are excluded, and the missing keys are not loaded
+        Map<String, Object> cached = container.getCachedValues(Arrays.asList("a", "b", "c"));
+        Assert.assertEquals(Collections.singletonMap("a", a), cached);
+        Assert.assertNull(container.getCurrentCache().get("c"));
+    }
+
+    @Test
+    public void getWithConcurrentMisses() throws Exception {
+        Map<String, AtomicInteger> loadedCounts = new ConcurrentHashMap<>();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        Container<String> slowContainer = Containers.forLambda("slow", keys -> {
+            keys.forEach(key -> loadedCounts.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet());
+            if (keys.contains("a")) {
+                entered.countDown();
+                await(released);
+            }
+            return keys.stream().collect(Collectors.toMap(Function.identity(), key -> new Object()));
+        });
+        CacheDefinition cacheDefinition = new CacheDefinition.Impl(
+            slowContainer.getNamespace(), cacheManager.getClass().getName(), -1L, TimeUnit.MILLISECONDS
+        );
+        CacheableContainer<String> container = new CacheableContainer<>(slowContainer, cacheDefinition, cacheManager);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Map<String, ?>> first = executor.submit(() -> container.get(Collections.singletonList("a")));
+            Assert.assertTrue(entered.await(5, TimeUnit.SECONDS));
+            // "a" is being loaded by the first request, only "b" will be loaded by the second request
+            Future<Map<String, ?>> second = executor.submit(() -> container.get(Arrays.asList("a", "b")));
+            while (!loadedCounts.containsKey("b")) {
+                Thread.sleep(1L);
+            }
+            released.countDown();
+
+            Map<String, ?> firstResult = first.get(5, TimeUnit.SECONDS);
+            Map<String, ?> secondResult = second.get(5, TimeUnit.SECONDS);
+            Assert.assertSame(firstResult.get("a"), secondResult.get("a"));
+            Assert.assertNotNull(secondResult.get("b"));
+            Assert.assertEquals(1, loadedCounts.get("a").get());
+            Assert.assertEquals(1, loadedCounts.get("b").get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void getWhenLoadFailed() {
+        AtomicInteger calls = new AtomicInteger(0);
+        Container<String> failedContainer = Containers.forLambda("failed", keys -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("failed");
+            }
+            return keys.stream().collect(Collectors.toMap(Function.identity(), key -> new Object()));
+        });
+        CacheDefinition cacheDefinition = new CacheDefinition.Impl(
+            failedContainer.getNamespace(), cacheManager.getClass().getName(), -1L, TimeUnit.MILLISECONDS
+        );
+        CacheableContainer<String> container = new CacheableContainer<>(failedContainer, cacheDefinition, cacheManager);
+        Assert.assertThrows(IllegalStateException.class, () -> container.get(Collections.singletonList("a")));
+        // the failed loading is not left in flight
+        Assert.assertNotNull(container.get(Collections.singletonList("a")).get("a"));
+    }
+
+    @Test
+    public void getWhenLoadFailedWithError() {
+        AtomicInteger calls = new AtomicInteger(0);
+        Container<String> failedContainer = Containers.forLambda("failed", keys -> {
+            int call = calls.incrementAndGet();
+            if (call == 1) {
+                throw new AssertionError("failed");
+            }
+            if (call == 2) {
+                sneakyThrow(new IOException("failed"));
+            }
+            return keys.stream().collect(Collectors.toMap(Function.identity(), key -> new Object()));
+        });
+        CacheDefinition cacheDefinition = new CacheDefinition.Impl(
+            failedContainer.getNamespace(), cacheManager.getClass().getName(), -1L, TimeUnit.MILLISECONDS
+        );
+        CacheableContainer<String> container = new CacheableContainer<>(failedContainer, cacheDefinition, cacheManager);
+        Assert.assertThrows(AssertionError.class, () -> container.get(Collections.singletonList("a")));
+        Assert.assertThrows(IOException.class, () -> container.get(Collections.singletonList("a")));
+        // the failed loadings are not left in flight
+        Assert.assertNotNull(container.get(Collections.singletonList("a")).get("a"));
+    }
+
+    @Test
+    public void getWithRefreshAfterWrite() throws InterruptedException {
+        List<Collection<String>> loadedKeys = new CopyOnWriteArrayList<>();
+        Set<String> existingKeys = new HashSet<>(Arrays.asList("a", "b"));
+        Container<String> refreshableContainer = Containers.forLambda("refreshable", keys -> {
+            loadedKeys.add(new ArrayList<>(keys));
+            return keys.stream()
+                .filter(existingKeys::contains)
+                .collect(Collectors.toMap(Function.identity(), key -> new Object()));
+        });
+        CacheDefinition cacheDefinition = new CacheDefinition.Impl(
+            refreshableContainer.getNamespace(), cacheManager.getClass().getName(),
+            -1L, TimeUnit.MILLISECONDS, false, -1L, 300L
+        );
+        CacheableContainer<String> container = new CacheableContainer<>(refreshableContainer, cacheDefinition, cacheManager);
+        container.setRefreshExecutor(Runnable::run);
+
+        Map<String, ?> data = container.get(Arrays.asList("a", "b"));
+        Object a = data.get("a");
+        Object b = data.get("b");
+        Assert.assertSame(a, container.get(Collections.singletonList("a")).get("a"));
+        Assert.assertEquals(1, loadedKeys.size());
+
+        // stale values are returned, and all stale keys are reloaded in one batch
+        Thread.sleep(350L);
+        existingKeys.remove("b");
+        data = container.get(Arrays.asList("a", "b"));
+        Assert.assertSame(a, data.get("a"));
+        Assert.assertSame(b, data.get("b"));
+        Assert.assertEquals(2, loadedKeys.size());
+        Assert.assertEquals(new HashSet<>(Arrays.asList("a", "b")), new HashSet<>(loadedKeys.get(1)));
+
+        // refreshed value is returned, and the deleted key is evicted
+        Assert.assertNotSame(a, container.get(Collections.singletonList("a")).get("a"));
+        Assert.assertNull(container.getCurrentCache().get("b"));
+        Assert.assertEquals(2, loadedKeys.size());
+    }
+
+    @Test
+    public void getWithBoundedWriteTimes() {
+        Container<Integer> numberContainer = Containers.forLambda("number", keys -> keys.stream()
+            .collect(Collectors.toMap(Function.identity(), key -> new Object())));
+        CacheDefinition cacheDefinition = new CacheDefinition.Impl(
+            numberContainer.getNamespace(), cacheManager.getClass().getName(),
+            -1L, TimeUnit.MILLISECONDS, false, -1L, 60000L
+        );
+        CacheableContainer<Integer> container = new CacheableContainer<>(numberContainer, cacheDefinition, cacheManager);
+        container.get(Arrays.asList(1, 2, 3));
+        Assert.assertEquals(3, getWriteTimes(container).size());
+
+        // records are discarded when the cache object is recreated
+        cacheManager.removeCache(cacheDefinition.getName());
+        container.get(Collections.singletonList(1));
+        Assert.assertEquals(1, getWriteTimes(container).size());
+
+        // records are discarded when there are too many keys
+        List<Integer> keys = IntStream.range(0, CacheableContainer.MAX_WRITE_TIME_RECORDS)
+            .boxed().collect(Collectors.toList());
+        container.get(keys);
+        Assert.assertEquals(CacheableContainer.MAX_WRITE_TIME_RECORDS, getWriteTimes(container).size());
+        container.get(Collections.singletonList(-1));
+        Assert.assertEquals(1, getWriteTimes(container).size());
+    }
+
+    @SneakyThrows
+    private static Map<?, ?> getWriteTimes(CacheableContainer<?> container) {
+        Field field = CacheableContainer.class.getDeclaredField("writeTimes");
+        field.setAccessible(true);
+        return (Map<?, ?>)field.get(container);
+    }
+
+    @SneakyThrows
+    private static void await(CountDownLatch latch) {
+        latch.await();
+    }
+
+    @SneakyThrows
+    private static void sneakyThrow(Exception ex) {
+        throw ex;
+    }
+
     @Getter
     private static class TestContainer implements Container<String>, Container.Lifecycle {
         private final String namespace = "test";
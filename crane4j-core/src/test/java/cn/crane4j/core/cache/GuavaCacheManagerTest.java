@@ -3,6 +3,7 @@ package cn.crane4j.core.cache;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.LockSupport;
 
@@ -30,4 +31,15 @@ public class GuavaCacheManagerTest extends BaseCacheManagerTest {
         LockSupport.parkNanos(Thread.currentThread(), 400L * 1000 * 1000);
         Assert.assertNull(cacheObject.get("test"));
     }
+
+    @Test
+    public void testPutNullValuesWhenUseWeakValues() {
+        // the cache created by default factory uses weak values if the expire time is less than 0
+        String key = "key";
+        cache.putNullValues(Collections.singletonList(key), 1L, TimeUnit.MINUTES);
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Assert.assertSame(CacheObject.NULL_VALUE, cache.get(key));
+    }
 }
@@ -0,0 +1,208 @@
+package cn.crane4j.core.cache;
+
+import cn.crane4j.core.exception.Crane4jException;
+import cn.crane4j.core.util.ReflectUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * test for {@link OffHeapCacheManager}
+ *
+ * @author huangchengxing
+ */
+public class OffHeapCacheManagerTest extends BaseCacheManagerTest {
+
+    @Override
+    protected void initManager() {
+        OffHeapCacheManager manager = new OffHeapCacheManager();
+        manager.setDefaultCapacity(1024 * 1024);
+        manager.setCodec(new IdentityCodec());
+        cacheManager = manager;
+        cache = cacheManager.createCache("test", -1L, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void testSerializableCodec() {
+        OffHeapCacheManager manager = new OffHeapCacheManager();
+        manager.setCapacity("test", 4096);
+        CacheObject<Integer> cacheObject = manager.createCache("test", -1L, TimeUnit.MILLISECONDS);
+        cacheObject.put(1, "one");
+        Object value = cacheObject.get(1);
+        Assert.assertEquals("one", value);
+        // the values are deserialized copies
+        Assert.assertNotSame(value, cacheObject.get(1));
+        Assert.assertThrows(Crane4jException.class, () -> cacheObject.put(2, new Object()));
+    }
+
+    @Test
+    public void testEviction() {
+        OffHeapCacheManager manager = new OffHeapCacheManager();
+        manager.setCodec(new StringCodec());
+        // each value is 10 bytes, the buffer can hold 5 values
+        manager.setCapacity("test", 55);
+        CacheObject<Integer> cacheObject = manager.createCache("test", -1L, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 5; i++) {
+            cacheObject.put(i, "value-000" + i);
+        }
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals("value-000" + i, cacheObject.get(i));
+        }
+
+        // the oldest values are evicted
+        cacheObject.put(5, "value-0005");
+        Assert.assertNull(cacheObject.get(0));
+        Assert.assertEquals("value-0001", cacheObject.get(1));
+        Assert.assertEquals("value-0005", cacheObject.get(5));
+        cacheObject.put(6, "value-0006");
+        Assert.assertNull(cacheObject.get(1));
+        Assert.assertEquals("value-0002", cacheObject.get(2));
+        Assert.assertEquals(5, ((OffHeapCacheManager.OffHeapCacheObject<Integer>)cacheObject).size());
+
+        // overwritten value is retained until its record is evicted
+        cacheObject.put(2, "value-0022");
+        cacheObject.put(7, "value-0007");
+        Assert.assertNull(cacheObject.get(3));
+        Assert.assertEquals("value-0022", cacheObject.get(2));
+
+        // too large value is not cached
+        cacheObject.put(8, "too large value for buffer, too large value for buffer, too large");
+        Assert.assertNull(cacheObject.get(8));
+        Assert.assertEquals("value-0022", cacheObject.get(2));
+    }
+
+    @Test
+    public void testExpire() throws InterruptedException {
+        CacheObject<String> cacheObject = cacheManager.createCache("test", 200L, TimeUnit.MILLISECONDS);
+        cacheObject.put("test", "test");
+        Assert.assertEquals("test", cacheObject.get("test"));
+        Thread.sleep(400L);
+        Assert.assertNull(cacheObject.get("test"));
+        cacheObject.putIfAbsent("test", "new");
+        Assert.assertEquals("new", cacheObject.get("test"));
+    }
+
+    @Test
+    public void testAllocateLazily() {
+        OffHeapCacheManager manager = new OffHeapCacheManager();
+        manager.setCodec(new StringCodec());
+        manager.setCapacity("test", 1024 * 1024);
+        CacheObject<Integer> cacheObject = manager.createCache("test", -1L, TimeUnit.MILLISECONDS);
+        Assert.assertNull(ReflectUtils.getFieldValue(cacheObject, "buffer"));
+
+        // the buffer grows and keeps the written values
+        cacheObject.put(0, "value-0000");
+        ByteBuffer buffer = ReflectUtils.getFieldValue(cacheObject, "buffer");
+        Assert.assertNotNull(buffer);
+        Assert.assertTrue(buffer.capacity() < 1024 * 1024);
+        for (int i = 1; i < 10000; i++) {
+            cacheObject.put(i, String.format("value-%04d", i));
+        }
+        buffer = ReflectUtils.getFieldValue(cacheObject, "buffer");
+        // 10000 values of 10 bytes
+        int size = Objects.requireNonNull(buffer).capacity();
+        Assert.assertTrue(size >= 100000 && size < 1024 * 1024);
+        for (int i = 0; i < 10000; i++) {
+            Assert.assertEquals(String.format("value-%04d", i), cacheObject.get(i));
+        }
+
+        // the buffer is released when the cache is removed
+        manager.removeCache("test");
+        Assert.assertNull(ReflectUtils.getFieldValue(cacheObject, "buffer"));
+    }
+
+    @Test
+    public void testRemoveRecords() throws InterruptedException {
+        OffHeapCacheManager manager = new OffHeapCacheManager();
+        manager.setCodec(new StringCodec());
+        manager.setDefaultCapacity(4096);
+        CacheObject<Integer> cacheObject = manager.createCache("test", -1L, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 5; i++) {
+            cacheObject.put(i, "value" + i);
+        }
+        cacheObject.put(0, "new value0");
+        Assert.assertEquals(5, countRecords(cacheObject));
+        cacheObject.remove(2);
+        Assert.assertEquals(4, countRecords(cacheObject));
+        cacheObject.removeAll(Arrays.asList(0, 4));
+        Assert.assertEquals(2, countRecords(cacheObject));
+        Assert.assertEquals("value1", cacheObject.get(1));
+        Assert.assertEquals("value3", cacheObject.get(3));
+
+        // expired records are removed when writing
+        CacheObject<Integer> expirable = manager.createCache("expirable", 100L, TimeUnit.MILLISECONDS);
+        expirable.put(1, "value1");
+        expirable.put(2, "value2");
+        Thread.sleep(200L);
+        expirable.put(3, "value3");
+        Assert.assertEquals(1, countRecords(expirable));
+        Assert.assertEquals(1, ((OffHeapCacheManager.OffHeapCacheObject<Integer>)expirable).size());
+    }
+
+    private static int countRecords(CacheObject<?> cacheObject) {
+        int count = 0;
+        for (Object record = ReflectUtils.getFieldValue(cacheObject, "head");
+             Objects.nonNull(record); record = ReflectUtils.getFieldValue(record, "next")) {
+            count++;
+        }
+        return count;
+    }
+
+    @Test
+    public void testDecodeRequestedKeysOnly() {
+        OffHeapCacheManager manager = new OffHeapCacheManager();
+        StringCodec codec = new StringCodec();
+        manager.setCodec(codec);
+        manager.setDefaultCapacity(4096);
+        CacheObject<Integer> cacheObject = manager.createCache("test", -1L, TimeUnit.MILLISECONDS);
+        Map<Integer, Object> values = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            values.put(i, "value" + i);
+        }
+        cacheObject.putAll(values);
+        Map<Integer, Object> results = cacheObject.getAll(Arrays.asList(1, 2, 200));
+        Assert.assertEquals(2, results.size());
+        Assert.assertEquals("value1", results.get(1));
+        Assert.assertEquals(2, codec.decoded.get());
+    }
+
+    private static class StringCodec implements OffHeapCacheManager.Codec {
+        private final AtomicInteger decoded = new AtomicInteger(0);
+        @Override
+        public byte[] encode(Object value) {
+            return value.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        @Override
+        public Object decode(byte[] bytes) {
+            decoded.incrementAndGet();
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * keep identity of values for {@link BaseCacheManagerTest#testCache}
+     */
+    private static class IdentityCodec implements OffHeapCacheManager.Codec {
+        private final Map<Integer, Object> values = new HashMap<>();
+        private final AtomicInteger sequence = new AtomicInteger(0);
+        @Override
+        public synchronized byte[] encode(Object value) {
+            int id = sequence.incrementAndGet();
+            values.put(id, value);
+            return new byte[] {(byte)(id >>> 24), (byte)(id >>> 16), (byte)(id >>> 8), (byte)id};
+        }
+        @Override
+        public synchronized Object decode(byte[] bytes) {
+            int id = ((bytes[0] & 0xFF) << 24) | ((bytes[1] & 0xFF) << 16) | ((bytes[2] & 0xFF) << 8) | (bytes[3] & 0xFF);
+            return values.get(id);
+        }
+    }
+}
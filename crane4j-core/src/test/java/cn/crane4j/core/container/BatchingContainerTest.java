@@ -0,0 +1,131 @@
+package cn.crane4j.core.container;
+
+import cn.crane4j.core.exception.Crane4jException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * test for {@link BatchingContainer}
+ *
+ * @author huangchengxing
+ */
+public class BatchingContainerTest {
+
+    private ScheduledExecutorService scheduler;
+    private List<Collection<Integer>> queriedKeys;
+    private Container<Integer> original;
+
+    @Before
+    public void init() {
+        scheduler = Executors.newScheduledThreadPool(2);
+        queriedKeys = new CopyOnWriteArrayList<>();
+        original = LambdaContainer.<Integer>forLambda("test", keys -> {
+            queriedKeys.add(new ArrayList<>(keys));
+            Map<Integer, Object> results = new HashMap<>();
+            keys.stream().filter(k -> k > 0).forEach(k -> results.put(k, "value" + k));
+            return results;
+        });
+    }
+
+    @After
+    public void destroy() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void getAsync() {
+        BatchingContainer<Integer> container = new BatchingContainer<>(original, scheduler, 50L, TimeUnit.MILLISECONDS, 100);
+        Assert.assertEquals("test", container.getNamespace());
+        Assert.assertSame(original, container.getContainer());
+        Assert.assertTrue(container.getAsync(Collections.emptyList()).toCompletableFuture().join().isEmpty());
+
+        CompletableFuture<Map<Integer, ?>> f1 = container.getAsync(Arrays.asList(1, 2)).toCompletableFuture();
+        CompletableFuture<Map<Integer, ?>> f2 = container.getAsync(Arrays.asList(2, 3, -1)).toCompletableFuture();
+        Map<Integer, ?> r1 = f1.join();
+        Map<Integer, ?> r2 = f2.join();
+
+        // requests in the same window are merged into one call
+        Assert.assertEquals(1, queriedKeys.size());
+        Assert.assertEquals(Arrays.asList(1, 2, 3, -1), queriedKeys.get(0));
+        Assert.assertEquals(2, r1.size());
+        Assert.assertEquals("value1", r1.get(1));
+        Assert.assertEquals(2, r2.size());
+        Assert.assertEquals("value3", r2.get(3));
+        Assert.assertFalse(r2.containsKey(-1));
+    }
+
+    @Test
+    public void getWhenBatchIsFull() {
+        // the window is long enough, so the batch can only be dispatched when it is full
+        BatchingContainer<Integer> container = new BatchingContainer<>(original, scheduler, 1L, TimeUnit.HOURS, 3);
+        CompletableFuture<Map<Integer, ?>> f1 = container.getAsync(Arrays.asList(1, 2)).toCompletableFuture();
+        Assert.assertFalse(f1.isDone());
+        Map<Integer, ?> r2 = container.get(Collections.singletonList(3));
+        Assert.assertEquals("value3", r2.get(3));
+        Assert.assertEquals("value1", f1.join().get(1));
+        Assert.assertEquals(1, queriedKeys.size());
+    }
+
+    @Test
+    public void getWhenSchedulerHasOneThread() throws Exception {
+        ScheduledExecutorService singleScheduler = Executors.newSingleThreadScheduledExecutor();
+        ExecutorService worker = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            Container<Integer> slow = LambdaContainer.<Integer>forLambda("test", keys -> {
+                if (keys.contains(1)) {
+                    await(latch);
+                }
+                return Collections.singletonMap(keys.iterator().next(), "value");
+            });
+            BatchingContainer<Integer> container = new BatchingContainer<>(
+                slow, singleScheduler, worker, 10L, TimeUnit.MILLISECONDS, 1
+            );
+            // the slow call is running in worker, so the scheduler is still able to dispatch other batches
+            CompletableFuture<Map<Integer, ?>> f1 = container.getAsync(Collections.singletonList(1)).toCompletableFuture();
+            Map<Integer, ?> r2 = container.getAsync(Collections.singletonList(2)).toCompletableFuture().get(1L, TimeUnit.SECONDS);
+            Assert.assertEquals("value", r2.get(2));
+            Assert.assertFalse(f1.isDone());
+            latch.countDown();
+            Assert.assertEquals("value", f1.join().get(1));
+        } finally {
+            singleScheduler.shutdownNow();
+            worker.shutdownNow();
+        }
+    }
+
+    @Test
+    public void getWhenException() {
+        Container<Integer> failed = LambdaContainer.<Integer>forLambda("test", keys -> {
+            throw new IllegalStateException("failed");
+        });
+        BatchingContainer<Integer> container = new BatchingContainer<>(failed, scheduler, 1L, TimeUnit.MILLISECONDS, 10);
+        Assert.assertThrows(IllegalStateException.class, () -> container.get(Collections.singletonList(1)));
+        Assert.assertThrows(Crane4jException.class, () -> new BatchingContainer<>(failed, scheduler, 1L, TimeUnit.MILLISECONDS, 0));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package cn.crane4j.core.container;
+
+import cn.crane4j.core.exception.Crane4jException;
+import cn.crane4j.core.util.ReflectUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * test for {@link HedgingContainer}
+ *
+ * @author huangchengxing
+ */
+public class HedgingContainerTest {
+
+    private ScheduledExecutorService scheduler;
+
+    @Before
+    public void init() {
+        scheduler = Executors.newScheduledThreadPool(4);
+    }
+
+    @After
+    public void destroy() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void get() {
+        AtomicInteger counter = new AtomicInteger(0);
+        Container<Integer> original = LambdaContainer.<Integer>forLambda("test", keys -> {
+            // the call after samples are recorded is very slow
+            if (counter.incrementAndGet() == HedgingContainer.MIN_SAMPLE_SIZE + 1) {
+                sleep(2000L);
+            }
+            return Collections.singletonMap(1, "one");
+        });
+        HedgingContainer<Integer> container = new HedgingContainer<>(original, scheduler, 0.9);
+        Assert.assertEquals("test", container.getNamespace());
+        Assert.assertSame(original, container.getContainer());
+
+        for (int i = 0; i < HedgingContainer.MIN_SAMPLE_SIZE; i++) {
+            Assert.assertEquals(-1L, container.getHedgingThreshold());
+            Assert.assertEquals("one", container.get(Collections.singletonList(1)).get(1));
+        }
+        Assert.assertTrue(container.getHedgingThreshold() > 0);
+        Assert.assertEquals(0L, container.getHedgedCount());
+
+        long start = System.currentTimeMillis();
+        Map<Integer, ?> result = container.get(Collections.singletonList(1));
+        Assert.assertTrue(System.currentTimeMillis() - start < 2000L);
+        Assert.assertEquals("one", result.get(1));
+        Assert.assertEquals(1L, container.getHedgedCount());
+        // the latency of hedged request is recorded, and the slow one is not
+        Assert.assertEquals(HedgingContainer.MIN_SAMPLE_SIZE + 1, getSampleCount(container));
+    }
+
+    @Test
+    public void getWhenFirstCallFailedAfterHedged() {
+        AtomicInteger counter = new AtomicInteger(0);
+        Container<Integer> original = LambdaContainer.<Integer>forLambda("test", keys -> {
+            // the call after samples are recorded is slow and failed
+            if (counter.incrementAndGet() == HedgingContainer.MIN_SAMPLE_SIZE + 1) {
+                sleep(200L);
+                throw new IllegalStateException("failed");
+            }
+            // the hedged request is slower than the failed call
+            if (counter.get() == HedgingContainer.MIN_SAMPLE_SIZE + 2) {
+                sleep(500L);
+            }
+            return Collections.singletonMap(1, "one");
+        });
+        HedgingContainer<Integer> container = new HedgingContainer<>(original, scheduler, 0.9);
+        for (int i = 0; i < HedgingContainer.MIN_SAMPLE_SIZE; i++) {
+            container.get(Collections.singletonList(1));
+        }
+        Assert.assertEquals("one", container.get(Collections.singletonList(1)).get(1));
+        Assert.assertEquals(1L, container.getHedgedCount());
+    }
+
+    @Test
+    public void getWhenSchedulerHasOneThread() {
+        ScheduledExecutorService singleScheduler = Executors.newSingleThreadScheduledExecutor();
+        ExecutorService worker = Executors.newFixedThreadPool(2);
+        try {
+            AtomicInteger counter = new AtomicInteger(0);
+            Container<Integer> original = LambdaContainer.<Integer>forLambda("test", keys -> {
+                if (counter.incrementAndGet() == HedgingContainer.MIN_SAMPLE_SIZE + 1) {
+                    sleep(2000L);
+                }
+                return Collections.singletonMap(1, "one");
+            });
+            HedgingContainer<Integer> container = new HedgingContainer<>(original, singleScheduler, worker, 0.9);
+            for (int i = 0; i < HedgingContainer.MIN_SAMPLE_SIZE; i++) {
+                container.get(Collections.singletonList(1));
+            }
+            // the slow call is running in worker, so the scheduler is still able to send hedged request
+            long start = System.currentTimeMillis();
+            Assert.assertEquals("one", container.get(Collections.singletonList(1)).get(1));
+            Assert.assertTrue(System.currentTimeMillis() - start < 2000L);
+            Assert.assertEquals(1L, container.getHedgedCount());
+        } finally {
+            singleScheduler.shutdownNow();
+            worker.shutdownNow();
+        }
+    }
+
+    @Test
+    public void getWhenException() {
+        Container<Integer> original = LambdaContainer.<Integer>forLambda("test", keys -> {
+            throw new IllegalStateException("failed");
+        });
+        HedgingContainer<Integer> container = new HedgingContainer<>(original, scheduler, 0.9);
+        Assert.assertThrows(IllegalStateException.class, () -> container.get(Collections.singletonList(1)));
+        Assert.assertThrows(Crane4jException.class, () -> new HedgingContainer<>(original, scheduler, 1));
+    }
+
+    @Test
+    public void getWhenAllCallsFailed() {
+        AtomicInteger counter = new AtomicInteger(0);
+        Container<Integer> original = LambdaContainer.<Integer>forLambda("test", keys -> {
+            int count = counter.incrementAndGet();
+            if (count == HedgingContainer.MIN_SAMPLE_SIZE + 1) {
+                sleep(200L);
+                throw new IllegalStateException("first");
+            }
+            if (count == HedgingContainer.MIN_SAMPLE_SIZE + 2) {
+                throw new IllegalArgumentException("hedged");
+            }
+            return Collections.singletonMap(1, "one");
+        });
+        HedgingContainer<Integer> container = new HedgingContainer<>(original, scheduler, 0.9);
+        for (int i = 0; i < HedgingContainer.MIN_SAMPLE_SIZE; i++) {
+            container.get(Collections.singletonList(1));
+        }
+        // the exception of the first failed call is thrown
+        Assert.assertThrows(IllegalArgumentException.class, () -> container.get(Collections.singletonList(1)));
+        Assert.assertEquals(1L, container.getHedgedCount());
+    }
+
+    private static int getSampleCount(HedgingContainer<?> container) {
+        return ReflectUtils.getFieldValue(container, "sampleCount");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
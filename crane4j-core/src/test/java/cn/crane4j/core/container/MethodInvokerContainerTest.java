@@ -1,18 +1,26 @@
 package cn.crane4j.core.container;
 
 import cn.crane4j.annotation.DuplicateStrategy;
+import cn.crane4j.annotation.MappingType;
+import cn.crane4j.core.support.container.MethodInvokerContainerCreator;
+import cn.crane4j.core.support.converter.ConverterManager;
+import cn.crane4j.core.support.converter.HutoolConverterManager;
+import cn.crane4j.core.support.reflect.ReflectivePropertyOperator;
+import cn.crane4j.core.util.ReflectUtils;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -109,6 +117,71 @@ public class MethodInvokerContainerTest {
         Assert.assertEquals(foo2, map.get("1"));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void getAsync() {
+        CompletableFuture<List<Foo>> future = new CompletableFuture<>();
+        MethodInvokerContainer container = MethodInvokerContainer.oneToOne(
+            MethodInvokerContainer.class.getSimpleName(),
+            (t, arg) -> future, service, t -> ((Foo) t).key, DuplicateStrategy.ALERT
+        );
+        CompletableFuture<Map<Object, ?>> data = container.getAsync(Arrays.asList("1", "2"))
+            .toCompletableFuture();
+        Assert.assertFalse(data.isDone());
+        future.complete(Arrays.asList(foo1, foo2));
+        Assert.assertEquals(foo1, data.join().get(foo1.key));
+        Assert.assertEquals(foo2, data.join().get(foo2.key));
+
+        // synchronous container
+        container = MethodInvokerContainer.create(
+            MethodInvokerContainer.class.getSimpleName(),
+            (t, arg) -> service.mappedMethod((Collection<String>)arg[0]),
+            service, true
+        );
+        Assert.assertFalse(container.isNonBlocking());
+        Assert.assertFalse(AsyncContainer.isNonBlocking(container));
+        data = container.getAsync(Collections.singletonList(foo1.key)).toCompletableFuture();
+        Assert.assertTrue(data.isDone());
+        Assert.assertEquals(foo1, data.join().get(foo1.key));
+    }
+
+    @Test
+    public void getWhenSingleAndReturnCompletionStage() {
+        MethodInvokerContainer container = MethodInvokerContainer.singleKey(
+            MethodInvokerContainer.class.getSimpleName(),
+            (t, arg) -> CompletableFuture.completedFuture(service.singleMethod((String) arg[0])),
+            service
+        );
+        Map<Object, ?> data = container.get(Arrays.asList("1", "2"));
+        Assert.assertEquals("1", ((Foo)data.get("1")).getKey());
+        Assert.assertEquals("2", ((Foo)data.get("2")).getKey());
+        data = container.getAsync(Arrays.asList("1", "2")).toCompletableFuture().join();
+        Assert.assertEquals("1", ((Foo)data.get("1")).getKey());
+        Assert.assertEquals("2", ((Foo)data.get("2")).getKey());
+    }
+
+    @Test
+    public void isNonBlocking() {
+        ConverterManager converterManager = new HutoolConverterManager();
+        MethodInvokerContainerCreator creator = new MethodInvokerContainerCreator(
+            new ReflectivePropertyOperator(converterManager), converterManager
+        );
+        Method asyncMethod = ReflectUtils.getMethod(Service.class, "asyncMappedMethod", Collection.class);
+        Assert.assertNotNull(asyncMethod);
+        MethodInvokerContainer container = creator.createContainer(
+            service, asyncMethod, MappingType.NO_MAPPING, null, Object.class, "", DuplicateStrategy.ALERT
+        );
+        Assert.assertTrue(container.isNonBlocking());
+        Assert.assertEquals(foo1, container.get(Collections.singletonList(foo1.key)).get(foo1.key));
+
+        Method syncMethod = ReflectUtils.getMethod(Service.class, "mappedMethod", Collection.class);
+        Assert.assertNotNull(syncMethod);
+        container = creator.createContainer(
+            service, syncMethod, MappingType.NO_MAPPING, null, Object.class, "", DuplicateStrategy.ALERT
+        );
+        Assert.assertFalse(container.isNonBlocking());
+    }
+
     @AllArgsConstructor
     @EqualsAndHashCode
     @Getter
@@ -124,6 +197,9 @@ public class MethodInvokerContainerTest {
         public Map<String, Foo> mappedMethod(Collection<String> key) {
             return Objects.isNull(key) ? null : Stream.of(foo1, foo2).collect(Collectors.toMap(Foo::getKey, Function.identity()));
         }
+        public CompletableFuture<Map<String, Foo>> asyncMappedMethod(Collection<String> key) {
+            return CompletableFuture.completedFuture(mappedMethod(key));
+        }
         public List<Foo> noneMappedMethod(Collection<String> key) {
             return Objects.isNull(key) ? null : Arrays.asList(foo1, foo2);
         }
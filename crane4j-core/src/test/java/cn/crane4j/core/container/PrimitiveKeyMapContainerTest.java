@@ -0,0 +1,134 @@
+package cn.crane4j.core.container;
+
+import cn.crane4j.annotation.Assemble;
+import cn.crane4j.annotation.Mapping;
+import cn.crane4j.core.exception.Crane4jException;
+import cn.crane4j.core.executor.BaseExecutorTest;
+import cn.crane4j.core.executor.DisorderedBeanOperationExecutor;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * test for {@link PrimitiveKeyMapContainer}
+ *
+ * @author huangchengxing
+ */
+public class PrimitiveKeyMapContainerTest extends BaseExecutorTest {
+
+    @Test
+    public void forMap() {
+        Map<Long, Object> map = new HashMap<>();
+        map.put(1L, "one");
+        map.put(-2L, "minus two");
+        map.put(Long.MAX_VALUE, "max");
+        map.put(3L, null);
+        PrimitiveKeyMapContainer<Long> container = Containers.forPrimitiveKeyMap("test", map);
+        Assert.assertEquals("test", container.getNamespace());
+        Assert.assertEquals(3, container.size());
+
+        // always return all data
+        Map<Long, ?> data = container.get(Collections.singletonList(1L));
+        Assert.assertSame(data, container.getAll());
+        Assert.assertEquals(3, data.size());
+        Assert.assertEquals("one", data.get(1L));
+        Assert.assertEquals("minus two", data.get(-2L));
+        Assert.assertEquals("max", data.get(Long.MAX_VALUE));
+        Assert.assertNull(data.get(3L));
+        Assert.assertNull(data.get(4L));
+
+        // keys of other integral types are supported
+        Assert.assertEquals("one", data.get(1));
+        Assert.assertEquals("one", data.get((short)1));
+        Assert.assertNull(data.get("1"));
+        Assert.assertNull(data.get(1.0D));
+        Assert.assertTrue(data.containsKey(1));
+
+        map.remove(3L);
+        Assert.assertEquals(map, new HashMap<>(data));
+    }
+
+    @Test
+    public void forMapWithIntegerKeys() {
+        Map<Integer, Object> map = new HashMap<>();
+        map.put(1, "one");
+        map.put(2, "two");
+        PrimitiveKeyMapContainer<Integer> container = Containers.forPrimitiveKeyMap("test", map);
+        // keys of entries are the original key type
+        Assert.assertEquals(map, new HashMap<>(container.getAll()));
+        container.getAll().keySet().forEach(k -> Assert.assertSame(Integer.class, k.getClass()));
+        Assert.assertEquals("one", container.getAll().get(1L));
+
+        Map<Number, Object> mixed = new HashMap<>();
+        mixed.put(1, "one");
+        mixed.put(2L, "two");
+        Assert.assertThrows(Crane4jException.class, () -> Containers.forPrimitiveKeyMap("test", mixed));
+        Map<Double, Object> decimal = Collections.singletonMap(1.0D, "one");
+        Assert.assertThrows(Crane4jException.class, () -> Containers.forPrimitiveKeyMap("test", decimal));
+        Assert.assertTrue(Containers.forPrimitiveKeyMap("test", Collections.emptyMap()).getAll().isEmpty());
+    }
+
+    @Test
+    public void builder() {
+        int size = 10000;
+        PrimitiveKeyMapContainer.Builder<Integer> builder = PrimitiveKeyMapContainer.builder("test", Integer.class, 1);
+        for (int i = 0; i < size; i++) {
+            builder.put(i * 31L, i);
+        }
+        builder.put(0, "replaced");
+        PrimitiveKeyMapContainer<Integer> container = builder.build();
+        Assert.assertEquals(size, container.size());
+        Assert.assertEquals("replaced", container.get(0));
+        for (int i = 1; i < size; i++) {
+            Assert.assertEquals(i, container.get(i * 31L));
+        }
+        Assert.assertNull(container.get(1L));
+        container.getAll().keySet().forEach(k -> Assert.assertSame(Integer.class, k.getClass()));
+
+        // key out of range of key type
+        PrimitiveKeyMapContainer.Builder<Short> shortBuilder = PrimitiveKeyMapContainer.builder("test", Short.class, 1);
+        Assert.assertThrows(Crane4jException.class, () -> shortBuilder.put(Short.MAX_VALUE + 1L, "value"));
+        Assert.assertThrows(Crane4jException.class, () -> PrimitiveKeyMapContainer.builder("test", Double.class, 1));
+    }
+
+    @Test
+    public void destroy() {
+        PrimitiveKeyMapContainer<Integer> container = PrimitiveKeyMapContainer.builder("test", Integer.class, 2)
+            .put(1, "one")
+            .build();
+        container.destroy();
+        Assert.assertEquals(0, container.size());
+        Assert.assertNull(container.get(1L));
+        Assert.assertTrue(container.getAll().isEmpty());
+    }
+
+    @Test
+    public void execute() {
+        configuration.registerContainer(PrimitiveKeyMapContainer.builder("test", 2)
+            .put(1L, "one")
+            .put(2L, "two")
+            .build());
+        Bean bean1 = new Bean().setId(1);
+        Bean bean2 = new Bean().setId(2);
+        Bean bean3 = new Bean().setId(3);
+        new DisorderedBeanOperationExecutor(configuration)
+            .execute(Arrays.asList(bean1, bean2, bean3), parseOperations(Bean.class));
+        Assert.assertEquals("one", bean1.getName());
+        Assert.assertEquals("two", bean2.getName());
+        Assert.assertNull(bean3.getName());
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class Bean {
+        @Assemble(container = "test", props = @Mapping(ref = "name"))
+        private Integer id;
+        private String name;
+    }
+}
@@ -0,0 +1,263 @@
+package cn.crane4j.core.container;
+
+import cn.crane4j.core.cache.OffHeapCacheManager;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * test for {@link SnapshotContainer}
+ *
+ * @author huangchengxing
+ */
+public class SnapshotContainerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void initWithoutSnapshot() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("dict/test.snapshot");
+        AtomicInteger loads = new AtomicInteger(0);
+        SnapshotContainer<Integer> container = Containers.forSnapshot("test", file, () -> {
+            loads.incrementAndGet();
+            return ImmutableMapContainer.forMap("test", createData(100));
+        });
+        Assert.assertEquals("test", container.getNamespace());
+        container.init();
+
+        // load synchronously and write snapshot
+        Assert.assertEquals(1, loads.get());
+        Assert.assertFalse(container.isServingSnapshot());
+        Assert.assertTrue(Files.isRegularFile(file));
+        Assert.assertEquals("value1", container.get(Collections.singletonList(1)).get(1));
+        Assert.assertEquals(100, container.getAll().size());
+    }
+
+    @Test
+    public void initWithSnapshot() {
+        Path file = folder.getRoot().toPath().resolve("test.snapshot");
+        Containers.forSnapshot("test", file, () -> ImmutableMapContainer.forMap("test", createData(1000))).init();
+
+        // load in background, serve lookups from snapshot before it's completed
+        List<Runnable> tasks = new CopyOnWriteArrayList<>();
+        Map<Integer, Object> newData = createData(10);
+        newData.put(1, "new value1");
+        SnapshotContainer<Integer> container = Containers.forSnapshot(
+            "test", file, () -> ImmutableMapContainer.forMap("test", newData)
+        );
+        container.setExecutor(tasks::add);
+        container.init();
+        Assert.assertTrue(container.isServingSnapshot());
+        Assert.assertEquals(1, tasks.size());
+        // the snapshot is renamed to live file before mapping
+        Path liveFile = file.resolveSibling("test.snapshot.live");
+        Assert.assertFalse(Files.exists(file));
+        Assert.assertTrue(Files.isRegularFile(liveFile));
+
+        Map<Integer, ?> data = container.get(Collections.singletonList(1));
+        Assert.assertEquals(1000, data.size());
+        Assert.assertEquals("value1", data.get(1));
+        Assert.assertEquals("value999", data.get(999));
+        Assert.assertTrue(data.containsKey(500));
+        Assert.assertNull(data.get(1000));
+        Assert.assertNull(data.get("1"));
+        Assert.assertNull(data.get(null));
+        Assert.assertEquals(createData(1000), new HashMap<>(data));
+
+        // served by loaded container after loading completed
+        tasks.get(0).run();
+        Assert.assertFalse(container.isServingSnapshot());
+        Assert.assertEquals("new value1", container.get(Collections.singletonList(1)).get(1));
+        Assert.assertTrue(Files.isRegularFile(file));
+        Assert.assertFalse(Files.exists(liveFile));
+
+        // snapshot is rewritten
+        SnapshotContainer<Integer> next = Containers.forSnapshot("test", file, () -> {
+            throw new IllegalStateException("database is unavailable");
+        });
+        next.setExecutor(Runnable::run);
+        next.init();
+        Assert.assertTrue(next.isServingSnapshot());
+        Assert.assertEquals(10, next.getAll().size());
+        Assert.assertEquals("new value1", next.getAll().get(1));
+        next.destroy();
+        Assert.assertFalse(next.isServingSnapshot());
+    }
+
+    @Test
+    public void initWithLiveFile() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("test.snapshot");
+        Containers.forSnapshot("test", file, () -> ImmutableMapContainer.forMap("test", createData(10))).init();
+
+        // the live file is left when the application exits before loading completed
+        Path liveFile = file.resolveSibling("test.snapshot.live");
+        Files.move(file, liveFile);
+        SnapshotContainer<Integer> container = Containers.forSnapshot("test", file, () -> {
+            throw new IllegalStateException("database is unavailable");
+        });
+        container.setExecutor(Runnable::run);
+        container.init();
+        Assert.assertTrue(container.isServingSnapshot());
+        Assert.assertEquals(createData(10), new HashMap<>(container.getAll()));
+        // keep the live file if the snapshot is not rewritten
+        Assert.assertTrue(Files.isRegularFile(liveFile));
+    }
+
+    @Test
+    public void initWithBrokenSnapshot() throws IOException {
+        Path file = folder.newFile("broken.snapshot").toPath();
+        Files.write(file, new byte[] {1, 2, 3});
+        AtomicInteger loads = new AtomicInteger(0);
+        SnapshotContainer<Integer> container = Containers.forSnapshot("test", file, () -> {
+            loads.incrementAndGet();
+            return ImmutableMapContainer.forMap("test", Collections.emptyMap());
+        });
+        container.init();
+        Assert.assertEquals(1, loads.get());
+        Assert.assertTrue(container.getAll().isEmpty());
+
+        // empty snapshot is valid
+        SnapshotContainer<Integer> next = Containers.forSnapshot("test", file, () -> {
+            throw new IllegalStateException("database is unavailable");
+        });
+        next.setExecutor(task -> {});
+        next.init();
+        Assert.assertTrue(next.isServingSnapshot());
+        Assert.assertTrue(next.getAll().isEmpty());
+        Assert.assertNull(next.getAll().get(1));
+    }
+
+    @Test
+    public void initWithCorruptedEntries() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("corrupted.snapshot");
+        Containers.forSnapshot("test", file, () -> ImmutableMapContainer.forMap("test", createData(10))).init();
+        byte[] bytes = Files.readAllBytes(file);
+        // corrupt the length of last value
+        bytes[bytes.length - 20] = (byte)0xFF;
+        Files.write(file, bytes);
+
+        AtomicInteger loads = new AtomicInteger(0);
+        SnapshotContainer<Integer> container = Containers.forSnapshot("test", file, () -> {
+            loads.incrementAndGet();
+            return ImmutableMapContainer.forMap("test", createData(3));
+        });
+        container.setExecutor(task -> {});
+        container.init();
+        Assert.assertEquals(1, loads.get());
+        Assert.assertFalse(container.isServingSnapshot());
+        Assert.assertEquals(3, container.getAll().size());
+    }
+
+    @Test
+    public void initWhenSnapshotCannotBeDecoded() {
+        Path file = folder.getRoot().toPath().resolve("undecodable.snapshot");
+        Containers.forSnapshot("test", file, () -> ImmutableMapContainer.forMap("test", createData(10))).init();
+
+        // snapshot written by another codec is discarded when mapping
+        AtomicInteger loads = new AtomicInteger(0);
+        SnapshotContainer<Integer> container = Containers.forSnapshot("test", file, () -> {
+            loads.incrementAndGet();
+            return ImmutableMapContainer.forMap("test", createData(3));
+        });
+        container.setCodec(new FailedCodec(bytes -> true));
+        container.setExecutor(task -> {});
+        container.init();
+        Assert.assertEquals(1, loads.get());
+        Assert.assertFalse(container.isServingSnapshot());
+    }
+
+    @Test
+    public void getWhenValueCannotBeDecoded() {
+        Path file = folder.getRoot().toPath().resolve("partial.snapshot");
+        Map<Integer, Object> data = createData(10);
+        data.put(5, "broken");
+        Containers.forSnapshot("test", file, () -> ImmutableMapContainer.forMap("test", data)).init();
+
+        // the snapshot is discarded once a value cannot be decoded
+        AtomicInteger loads = new AtomicInteger(0);
+        SnapshotContainer<Integer> container = Containers.forSnapshot("test", file, () -> {
+            loads.incrementAndGet();
+            return ImmutableMapContainer.forMap("test", createData(10));
+        });
+        OffHeapCacheManager.SerializableCodec codec = OffHeapCacheManager.SerializableCodec.INSTANCE;
+        container.setCodec(new FailedCodec(bytes -> "broken".equals(codec.decode(bytes))));
+        container.setExecutor(task -> {});
+        container.init();
+        Assert.assertTrue(container.isServingSnapshot());
+        Assert.assertEquals("value1", container.getAll().get(1));
+        Assert.assertEquals(0, loads.get());
+
+        Assert.assertEquals("value5", container.getAll().get(5));
+        Assert.assertEquals(1, loads.get());
+        Assert.assertFalse(container.isServingSnapshot());
+        Assert.assertEquals("value5", container.getAll().get(5));
+        Assert.assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void initWhenExecutorRejected() {
+        Path file = folder.getRoot().toPath().resolve("rejected.snapshot");
+        Containers.forSnapshot("test", file, () -> ImmutableMapContainer.forMap("test", createData(10))).init();
+
+        // load synchronously if the executor is busy
+        SnapshotContainer<Integer> container = Containers.forSnapshot(
+            "test", file, () -> ImmutableMapContainer.forMap("test", createData(3))
+        );
+        container.setExecutor(task -> {
+            throw new RejectedExecutionException("busy");
+        });
+        container.init();
+        Assert.assertFalse(container.isServingSnapshot());
+        Assert.assertEquals(3, container.getAll().size());
+    }
+
+    @Test
+    public void getBeforeInit() {
+        Path file = folder.getRoot().toPath().resolve("lazy.snapshot");
+        SnapshotContainer<Integer> container = Containers.forSnapshot(
+            "test", file, () -> ImmutableMapContainer.forMap("test", createData(3))
+        );
+        Assert.assertEquals("value2", container.get(Collections.singletonList(2)).get(2));
+        Assert.assertTrue(Files.isRegularFile(file));
+    }
+
+    private static class FailedCodec implements OffHeapCacheManager.Codec {
+        private final Predicate<byte[]> failed;
+        private FailedCodec(Predicate<byte[]> failed) {
+            this.failed = failed;
+        }
+        @Override
+        public byte[] encode(Object value) {
+            return OffHeapCacheManager.SerializableCodec.INSTANCE.encode(value);
+        }
+        @Override
+        public Object decode(byte[] bytes) {
+            if (failed.test(bytes)) {
+                throw new IllegalStateException("cannot decode");
+            }
+            return OffHeapCacheManager.SerializableCodec.INSTANCE.decode(bytes);
+        }
+    }
+
+    private static Map<Integer, Object> createData(int size) {
+        Map<Integer, Object> data = new HashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            data.put(i, "value" + i);
+        }
+        return data;
+    }
+}
@@ -0,0 +1,53 @@
+package cn.crane4j.core.container.lifecycle;
+
+import cn.crane4j.core.container.BatchingContainer;
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ContainerDefinition;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * test for {@link BatchingContainerProcessor}
+ *
+ * @author huangchengxing
+ */
+public class BatchingContainerProcessorTest {
+
+    private ScheduledExecutorService scheduler;
+    private BatchingContainerProcessor processor;
+
+    @Before
+    public void init() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        processor = new BatchingContainerProcessor(scheduler);
+    }
+
+    @After
+    public void destroy() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void whenCreated() {
+        ContainerDefinition definition = ContainerDefinition.create("test", "test", Container::empty);
+        Container<Object> container = Container.empty();
+        // not batched by default
+        Assert.assertSame(container, processor.whenCreated(definition, container));
+
+        processor.setBatchingDefinitionRetriever((d, c) -> "test".equals(d.getNamespace()) ?
+            new BatchingContainerProcessor.BatchingDefinition(5L, TimeUnit.MILLISECONDS, 100) : null
+        );
+        Container<Object> batchingContainer = processor.whenCreated(definition, container);
+        Assert.assertTrue(batchingContainer instanceof BatchingContainer);
+        Assert.assertSame(batchingContainer, processor.whenCreated(definition, batchingContainer));
+
+        definition = ContainerDefinition.create("test2", "test2", Container::empty);
+        Assert.assertSame(container, processor.whenCreated(definition, container));
+    }
+}
@@ -2,23 +2,34 @@ package cn.crane4j.core.executor;
 
 import cn.crane4j.annotation.Assemble;
 import cn.crane4j.annotation.Disassemble;
+import cn.crane4j.core.container.Container;
 import cn.crane4j.core.container.ContainerManager;
+import cn.crane4j.core.container.Containers;
+import cn.crane4j.core.container.DefaultContainerManager;
+import cn.crane4j.core.exception.Crane4jException;
 import cn.crane4j.core.parser.BeanOperations;
 import cn.crane4j.core.parser.operation.AssembleOperation;
 import cn.crane4j.core.parser.operation.KeyTriggerOperation;
 import cn.crane4j.core.util.CollectionUtils;
 import lombok.Data;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.experimental.Accessors;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * test for {@link AbstractBeanOperationExecutor}
@@ -59,6 +70,166 @@ public class AbstractBeanOperationExecutorTest extends BaseExecutorTest {
         Assert.assertEquals(2, executions.size());
     }
 
+    @Test
+    public void executeStreaming() {
+        List<Bean> beans = Stream.generate(Bean::new).limit(5).collect(Collectors.toList());
+        AtomicBoolean closed = new AtomicBoolean(false);
+        Stream<Bean> stream = executor.executeStreaming(
+            beans.stream().onClose(() -> closed.set(true)), parseOperations(Bean.class), op -> true, 2
+        );
+        // operations are not performed until the stream is consumed
+        Assert.assertEquals(0, executor.getExecuteCount());
+
+        Assert.assertEquals(beans, stream.collect(Collectors.toList()));
+        Assert.assertEquals(3, executor.getExecuteCount());
+        // the last window only contains one bean
+        Assert.assertEquals(1, executor.getExecutions().get(0).getTargets().size());
+        stream.close();
+        Assert.assertTrue(closed.get());
+
+        Iterator<Bean> iterator = beans.iterator();
+        BeanOperations beanOperations = parseOperations(Bean.class);
+        Assert.assertThrows(Crane4jException.class, () -> executor.executeStreaming(iterator, beanOperations, () -> t -> true, 0));
+    }
+
+    @Test
+    public void executeWithExecutionPlanCache() {
+        AtomicInteger counter = new AtomicInteger(0);
+        ContainerManager containerManager = new DefaultContainerManager() {
+            @Override
+            public <K> Container<K> getContainer(String namespace) {
+                counter.incrementAndGet();
+                return Container.empty();
+            }
+        };
+        TestExecutor testExecutor = new TestExecutor(containerManager);
+        BeanOperations beanOperations = parseOperations(Bean.class);
+        List<Bean> beans = Collections.singletonList(new Bean());
+
+        // containers are resolved only once for each operation
+        testExecutor.execute(beans, beanOperations);
+        testExecutor.execute(beans, beanOperations);
+        Assert.assertEquals(2, counter.get());
+
+        // resolve containers again after containers are changed
+        containerManager.registerContainer(Containers.forMap("test", Collections.emptyMap()));
+        testExecutor.execute(beans, beanOperations);
+        Assert.assertEquals(4, counter.get());
+
+        // resolve containers for each execution if cache is disabled
+        testExecutor.setEnableExecutionPlanCache(false);
+        testExecutor.execute(beans, beanOperations);
+        Assert.assertEquals(6, counter.get());
+    }
+
+    @Test
+    public void executeWithExecutionPlanCacheWhenOperationsChanged() {
+        AtomicInteger counter = new AtomicInteger(0);
+        ContainerManager containerManager = new DefaultContainerManager() {
+            @Override
+            public <K> Container<K> getContainer(String namespace) {
+                counter.incrementAndGet();
+                return Container.empty();
+            }
+        };
+        TestExecutor testExecutor = new TestExecutor(containerManager);
+        BeanOperations beanOperations = parseOperations(Bean.class);
+        List<Bean> beans = Collections.singletonList(new Bean());
+
+        // containers of the operations excluded by filter are not resolved
+        testExecutor.execute(beans, beanOperations, op -> op.isBelong("id"));
+        Assert.assertEquals(1, counter.get());
+        testExecutor.execute(beans, beanOperations);
+        Assert.assertEquals(2, counter.get());
+
+        // compile the plan again if an operation is replaced by another one
+        Collection<AssembleOperation> operations = beanOperations.getAssembleOperations();
+        AssembleOperation replaced = CollectionUtils.get(operations, 0);
+        AssembleOperation replacement = CollectionUtils.get(parseOperations(NestedBean.class).getAssembleOperations(), 0);
+        operations.remove(replaced);
+        operations.add(replacement);
+        testExecutor.execute(beans, beanOperations);
+        Assert.assertEquals(4, counter.get());
+        Assert.assertTrue(testExecutor.getExecutions().stream().noneMatch(e -> e.getOperation() == replaced));
+    }
+
+    @Test
+    public void executeWithExecutionPlanCacheWhenCreateExecutionOverridden() {
+        AtomicInteger counter = new AtomicInteger(0);
+        TestExecutor testExecutor = new TestExecutor(configuration) {
+            @Override
+            protected AssembleExecution createAssembleExecution(
+                BeanOperations beanOperations, AssembleOperation operation, Collection<Object> targets, Options options) {
+                counter.incrementAndGet();
+                return super.createAssembleExecution(beanOperations, operation, targets, options);
+            }
+        };
+        BeanOperations beanOperations = parseOperations(Bean.class);
+        List<Bean> beans = Collections.singletonList(new Bean());
+
+        // the plan is not used if the hook is overridden
+        testExecutor.execute(beans, beanOperations);
+        testExecutor.execute(beans, beanOperations);
+        Assert.assertEquals(4, counter.get());
+    }
+
+    @Test
+    public void executeWithExecutionPlanCacheWhenOptionsResolveContainers() {
+        AtomicInteger counter = new AtomicInteger(0);
+        TestExecutor testExecutor = new TestExecutor(configuration);
+        BeanOperations beanOperations = parseOperations(Bean.class);
+        List<Bean> beans = Collections.singletonList(new Bean());
+
+        // the plan is not cached when the options resolve containers by itself
+        BeanOperationExecutor.Options options = new BeanOperationExecutor.Options() {
+            @Override
+            public Predicate<? super KeyTriggerOperation> getFilter() {
+                return op -> true;
+            }
+            @Override
+            public Container<?> getContainer(ContainerManager containerManager, String namespace) {
+                counter.incrementAndGet();
+                return Container.empty();
+            }
+        };
+        Assert.assertFalse(options.isContainerCacheable());
+        testExecutor.execute(beans, beanOperations, options);
+        testExecutor.execute(beans, beanOperations, options);
+        Assert.assertEquals(4, counter.get());
+
+        // the plan compiled by the other options is not used
+        BeanOperationExecutor.Options defaultOptions = () -> op -> true;
+        Assert.assertTrue(defaultOptions.isContainerCacheable());
+        testExecutor.execute(beans, beanOperations, defaultOptions);
+        testExecutor.execute(beans, beanOperations, options);
+        Assert.assertEquals(6, counter.get());
+    }
+
+    @Test
+    public void executeWithSharedAndCyclicReferences() {
+        // root -> [child, shared], child -> [shared, root]
+        Node root = new Node();
+        Node child = new Node();
+        Node shared = new Node();
+        root.setChildren(Arrays.asList(child, shared));
+        child.setChildren(Arrays.asList(shared, root));
+        BeanOperations beanOperations = parseOperations(Node.class);
+
+        executor.execute(Arrays.asList(root, root), beanOperations);
+        List<AssembleExecution> executions = executor.getExecutions();
+        Assert.assertEquals(1, executions.size());
+        Assert.assertEquals(3, executions.get(0).getTargets().size());
+
+        // nested objects deeper than max depth are ignored
+        executor.setMaxDisassembleDepth(1);
+        Node grandchild = new Node();
+        child.setChildren(Collections.singletonList(grandchild));
+        executor.execute(Collections.singletonList(root), beanOperations);
+        Collection<Object> targets = executor.getExecutions().get(0).getTargets();
+        Assert.assertEquals(3, targets.size());
+        Assert.assertFalse(targets.contains(grandchild));
+    }
+
     private static void checkAssembleOperation(
         AssembleExecution executionForId, Class<?> targetType, int targetSize, String key) {
         Assert.assertNotNull(executionForId);
@@ -83,6 +254,7 @@ public class AbstractBeanOperationExecutorTest extends BaseExecutorTest {
     @Getter
     private static class TestExecutor extends AbstractBeanOperationExecutor {
         private List<AssembleExecution> executions;
+        private int executeCount = 0;
         public TestExecutor(ContainerManager containerManager) {
             super(containerManager);
         }
@@ -90,6 +262,7 @@ public class AbstractBeanOperationExecutorTest extends BaseExecutorTest {
         @Override
         protected void executeOperations(List<AssembleExecution> executions, Options options) {
             this.executions = executions;
+            executeCount++;
         }
     }
 
@@ -108,6 +281,15 @@ public class AbstractBeanOperationExecutorTest extends BaseExecutorTest {
         private NestedBean nestedBean;
     }
 
+    @Getter
+    @Setter
+    private static class Node {
+        @Assemble
+        private Integer id;
+        @Disassemble(type = Node.class)
+        private List<Node> children;
+    }
+
     @Data
     private static class NestedBean {
         @Assemble(groups = {"op", "id"})
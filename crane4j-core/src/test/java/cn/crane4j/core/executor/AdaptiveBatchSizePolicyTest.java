@@ -0,0 +1,47 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.core.exception.Crane4jException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * test for {@link AdaptiveBatchSizePolicy}
+ *
+ * @author huangchengxing
+ */
+public class AdaptiveBatchSizePolicyTest {
+
+    @Test
+    public void getBatchSize() {
+        AdaptiveBatchSizePolicy policy = new AdaptiveBatchSizePolicy(10L, TimeUnit.MILLISECONDS, -1)
+            .setMaxBatchSize("db", 500);
+        // no latency recorded
+        Assert.assertEquals(-1, policy.getBatchSize("memory"));
+        Assert.assertEquals(500, policy.getBatchSize("db"));
+
+        // in-memory container is fast enough to obtain all keys at once
+        policy.recordLatency("memory", 1000, 1000L);
+        Assert.assertEquals(10000000, policy.getBatchSize("memory"));
+        policy.recordLatency("memory", 1000, 0L);
+        Assert.assertTrue(policy.getBatchSize("memory") > 10000000);
+
+        // 0.1ms per key, so 100 keys can be obtained within 10ms
+        policy.recordLatency("db", 10, TimeUnit.MILLISECONDS.toNanos(1));
+        Assert.assertEquals(100, policy.getBatchSize("db"));
+        // very fast, but limited by max batch size
+        policy.setSmoothingFactor(1D);
+        policy.recordLatency("db", 1000, 1000L);
+        Assert.assertEquals(500, policy.getBatchSize("db"));
+        // very slow, but limited by min batch size
+        policy.setMinBatchSize(5);
+        policy.recordLatency("db", 1, TimeUnit.SECONDS.toNanos(1));
+        Assert.assertEquals(5, policy.getBatchSize("db"));
+        // ignore empty calls
+        policy.recordLatency("db", 0, TimeUnit.SECONDS.toNanos(1));
+        Assert.assertEquals(5, policy.getBatchSize("db"));
+
+        Assert.assertThrows(Crane4jException.class, () -> new AdaptiveBatchSizePolicy(0L, TimeUnit.MILLISECONDS, -1));
+    }
+}
@@ -5,6 +5,7 @@ import cn.crane4j.annotation.Disassemble;
 import cn.crane4j.annotation.Mapping;
 import cn.crane4j.core.container.Container;
 import cn.crane4j.core.container.Containers;
+import cn.crane4j.core.container.MethodInvokerContainer;
 import cn.crane4j.core.parser.BeanOperations;
 import cn.crane4j.core.parser.SimpleBeanOperations;
 import lombok.Data;
@@ -20,9 +21,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * test for {@link AbstractBeanOperationExecutor}
@@ -77,6 +81,79 @@ public class AsyncBeanOperationExecutorTest extends BaseExecutorTest {
         Assert.assertEquals("one", bean2.getNestedBean().getTypeName());
     }
 
+    @Test
+    public void executeWhenGroupByContainer() {
+        AtomicInteger counter = new AtomicInteger(0);
+        Map<Integer, Object> sources = new HashMap<>();
+        sources.put(1, new Source(1, "one"));
+        sources.put(2, new Source(2, "two"));
+        configuration.registerContainer(Containers.<Integer>forLambda("test", keys -> {
+            counter.incrementAndGet();
+            return sources;
+        }));
+        operationExecutor.setGroupByContainer(true);
+
+        Bean bean1 = new Bean().setId(1).setNestedBean(new NestedBean().setType(2));
+        Bean bean2 = new Bean().setId(2).setNestedBean(new NestedBean().setType(1));
+        operationExecutor.execute(Arrays.asList(bean1, bean2), parseOperations(Bean.class));
+        executor.shutdown();
+
+        // executions of bean and nested bean are merged into one call
+        Assert.assertEquals(1, counter.get());
+        Assert.assertEquals("one", bean1.getName());
+        Assert.assertEquals("two", bean1.getNestedBean().getTypeName());
+        Assert.assertEquals("two", bean2.getName());
+        Assert.assertEquals("one", bean2.getNestedBean().getTypeName());
+    }
+
+    @Test
+    public void executeAsync() {
+        Bean bean1 = new Bean().setId(1).setNestedBean(new NestedBean().setType(2));
+        Bean bean2 = new Bean().setId(2).setNestedBean(new NestedBean().setType(1));
+        operationExecutor.executeAsync(Arrays.asList(bean1, bean2), parseOperations(Bean.class))
+            .toCompletableFuture().join();
+        Assert.assertEquals("one", bean1.getName());
+        Assert.assertEquals("two", bean1.getNestedBean().getTypeName());
+        Assert.assertEquals("two", bean2.getName());
+        Assert.assertEquals("one", bean2.getNestedBean().getTypeName());
+
+        // operations of async container will not be submitted to the executor
+        CompletableFuture<Map<Integer, Object>> future = new CompletableFuture<>();
+        MethodInvokerContainer asyncContainer = MethodInvokerContainer.create("test", (t, args) -> future, null, true);
+        asyncContainer.setNonBlocking(true);
+        configuration.registerContainer(asyncContainer);
+        operationExecutor.setGroupByContainer(true);
+        Bean bean3 = new Bean().setId(1);
+        CompletableFuture<Void> result = operationExecutor.executeAsync(Collections.singletonList(bean3), parseOperations(Bean.class))
+            .toCompletableFuture();
+        Assert.assertFalse(result.isDone());
+        Map<Integer, Object> sources = new HashMap<>();
+        sources.put(1, new Source(1, "one"));
+        future.complete(sources);
+        result.join();
+        Assert.assertEquals("one", bean3.getName());
+        executor.shutdown();
+    }
+
+    @Test
+    public void executeAsyncWhenBlockingMethodContainer() {
+        // the method which does not return a completion stage will be invoked in the executor
+        Map<Integer, Object> sources = new HashMap<>();
+        sources.put(1, new Source(1, "one"));
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        configuration.registerContainer(MethodInvokerContainer.create("test", (t, args) -> {
+            threads.add(Thread.currentThread());
+            return sources;
+        }, null, true));
+        Bean bean = new Bean().setId(1);
+        operationExecutor.executeAsync(Collections.singletonList(bean), parseOperations(Bean.class))
+            .toCompletableFuture().join();
+        Assert.assertEquals("one", bean.getName());
+        Assert.assertEquals(1, threads.size());
+        Assert.assertNotSame(Thread.currentThread(), threads.get(0));
+        executor.shutdown();
+    }
+
     @Getter
     @RequiredArgsConstructor
     private static class Source {
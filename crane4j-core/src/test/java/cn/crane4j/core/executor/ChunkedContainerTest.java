@@ -0,0 +1,151 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.annotation.Assemble;
+import cn.crane4j.annotation.Mapping;
+import cn.crane4j.core.container.Containers;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * test for {@link ChunkedContainer}
+ *
+ * @author huangchengxing
+ */
+public class ChunkedContainerTest extends BaseExecutorTest {
+
+    private ExecutorService threadPool;
+    private List<Integer> chunkSizes;
+    private Set<String> threads;
+    private List<BatchSizePolicyRecord> records;
+
+    @Before
+    public void init() {
+        threadPool = Executors.newFixedThreadPool(2);
+        chunkSizes = new CopyOnWriteArrayList<>();
+        threads = ConcurrentHashMap.newKeySet();
+        records = new CopyOnWriteArrayList<>();
+        configuration.registerContainer(Containers.<Integer>forLambda("test", keys -> {
+            chunkSizes.add(keys.size());
+            threads.add(Thread.currentThread().getName());
+            return keys.stream().collect(Collectors.toMap(k -> k, k -> "value" + k));
+        }));
+    }
+
+    @After
+    public void destroy() {
+        threadPool.shutdown();
+    }
+
+    @Test
+    public void execute() {
+        DisorderedBeanOperationExecutor executor = new DisorderedBeanOperationExecutor(configuration);
+        executor.setBatchSizePolicy(new TestBatchSizePolicy(3));
+        List<Bean> beans = createBeans(10);
+        executor.execute(beans, parseOperations(Bean.class));
+        beans.forEach(b -> Assert.assertEquals("value" + b.getId(), b.getName()));
+        Assert.assertEquals(4, chunkSizes.size());
+        Assert.assertEquals(10, chunkSizes.stream().mapToInt(Integer::intValue).sum());
+        Assert.assertEquals(4, records.size());
+        Assert.assertTrue(records.stream().allMatch(r -> "test".equals(r.namespace)));
+
+        // no limit
+        chunkSizes.clear();
+        executor.setBatchSizePolicy(new TestBatchSizePolicy(-1));
+        executor.execute(createBeans(10), parseOperations(Bean.class));
+        Assert.assertEquals(1, chunkSizes.size());
+    }
+
+    @Test
+    public void executeConcurrently() {
+        AsyncBeanOperationExecutor executor = new AsyncBeanOperationExecutor(configuration, threadPool);
+        executor.setBatchSizePolicy(new TestBatchSizePolicy(2));
+        List<Bean> beans = createBeans(10);
+        executor.execute(beans, parseOperations(Bean.class));
+        beans.forEach(b -> Assert.assertEquals("value" + b.getId(), b.getName()));
+        Assert.assertEquals(5, chunkSizes.size());
+
+        chunkSizes.clear();
+        beans = createBeans(10);
+        executor.executeAsync(beans, parseOperations(Bean.class)).toCompletableFuture().join();
+        beans.forEach(b -> Assert.assertEquals("value" + b.getId(), b.getName()));
+        Assert.assertEquals(5, chunkSizes.size());
+        Assert.assertTrue(threads.stream().anyMatch(t -> t.startsWith("pool")));
+    }
+
+    @Test
+    public void executeInScope() {
+        DisorderedBeanOperationExecutor executor = new DisorderedBeanOperationExecutor(configuration);
+        executor.setBatchSizePolicy(new TestBatchSizePolicy(3));
+        try (ExecutionScope scope = ExecutionScope.open()) {
+            executor.execute(createBeans(4), parseOperations(Bean.class));
+            Assert.assertEquals(2, records.size());
+
+            // memoized keys are not obtained from container and not recorded by policy
+            List<Bean> beans = createBeans(5);
+            executor.execute(beans, parseOperations(Bean.class));
+            beans.forEach(b -> Assert.assertEquals("value" + b.getId(), b.getName()));
+            Assert.assertEquals(3, records.size());
+            Assert.assertEquals(1, (int)chunkSizes.get(2));
+        }
+    }
+
+    @Test
+    public void getAsync() {
+        ChunkedContainer<Object> container = new ChunkedContainer<>(
+            configuration.getContainer("test"), new TestBatchSizePolicy(4), null
+        );
+        Map<Object, ?> result = container.getAsync(
+            IntStream.range(0, 10).boxed().collect(Collectors.toList())
+        ).toCompletableFuture().join();
+        Assert.assertEquals(10, result.size());
+        Assert.assertEquals(3, chunkSizes.size());
+    }
+
+    private static List<Bean> createBeans(int size) {
+        return IntStream.range(0, size).mapToObj(i -> new Bean().setId(i)).collect(Collectors.toList());
+    }
+
+    private static class BatchSizePolicyRecord {
+        private final String namespace;
+        private BatchSizePolicyRecord(String namespace) {
+            this.namespace = namespace;
+        }
+    }
+
+    private class TestBatchSizePolicy implements BatchSizePolicy {
+        private final int batchSize;
+        private TestBatchSizePolicy(int batchSize) {
+            this.batchSize = batchSize;
+        }
+        @Override
+        public int getBatchSize(String namespace) {
+            return batchSize;
+        }
+        @Override
+        public void recordLatency(String namespace, int keyCount, long latency) {
+            records.add(new BatchSizePolicyRecord(namespace));
+        }
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class Bean {
+        @Assemble(container = "test", props = @Mapping(ref = "name"))
+        private Integer id;
+        private String name;
+    }
+}
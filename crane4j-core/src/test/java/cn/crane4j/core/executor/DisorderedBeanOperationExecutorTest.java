@@ -6,7 +6,10 @@ import cn.crane4j.annotation.Mapping;
 import cn.crane4j.annotation.condition.ConditionOnProperty;
 import cn.crane4j.core.container.Container;
 import cn.crane4j.core.container.Containers;
+import cn.crane4j.core.container.MethodInvokerContainer;
 import cn.crane4j.core.parser.BeanOperations;
+import cn.crane4j.core.parser.ConditionalTypeHierarchyBeanOperationParser;
+import cn.crane4j.core.parser.TypeHierarchyBeanOperationParser;
 import lombok.Data;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +24,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * test for {@link DisorderedBeanOperationExecutor}
@@ -58,6 +62,76 @@ public class DisorderedBeanOperationExecutorTest extends BaseExecutorTest {
         Assert.assertEquals("one", bean2.getNestedBean().getTypeName());
     }
 
+    @Test
+    public void executeWithDependencies() {
+        Map<Object, Object> sources = new HashMap<>();
+        sources.put(1, "two");
+        sources.put("two", "three");
+        configuration.registerContainer(Containers.forMap("test", sources));
+        ((TypeHierarchyBeanOperationParser)configuration.getBeanOperationsParser(null, ConditionalTypeHierarchyBeanOperationParser.class))
+            .setEnableDependencyInference(true);
+        DependentBean bean = new DependentBean().setId(1);
+        executor.execute(Collections.singletonList(bean), parseOperations(DependentBean.class));
+        Assert.assertEquals("two", bean.getCode());
+        Assert.assertEquals("three", bean.getName());
+
+        bean = new DependentBean().setId(1);
+        executor.executeAsync(Collections.singletonList(bean), parseOperations(DependentBean.class))
+            .toCompletableFuture().join();
+        Assert.assertEquals("two", bean.getCode());
+        Assert.assertEquals("three", bean.getName());
+    }
+
+    @Test
+    public void executeWhenContainerReRegistered() {
+        BeanOperations beanOperations = parseOperations(Bean.class);
+        Bean bean1 = new Bean().setId(1);
+        executor.execute(Collections.singletonList(bean1), beanOperations);
+        Assert.assertEquals("one", bean1.getName());
+
+        // the cached execution plan will be expired after the container is re-registered
+        Map<Integer, Object> sources = new HashMap<>();
+        sources.put(1, new Source(1, "another one"));
+        configuration.registerContainer(Containers.forMap("test", sources));
+        Bean bean2 = new Bean().setId(1);
+        executor.execute(Collections.singletonList(bean2), beanOperations);
+        Assert.assertEquals("another one", bean2.getName());
+    }
+
+    @Test
+    public void executeAsync() {
+        CompletableFuture<Map<Integer, Source>> future = new CompletableFuture<>();
+        configuration.registerContainer(MethodInvokerContainer.create("test", (t, args) -> future, null, true));
+
+        Bean bean1 = new Bean().setId(1).setNestedBean(new NestedBean().setType(2));
+        Bean bean2 = new Bean().setId(2).setNestedBean(new NestedBean().setType(1));
+        CompletableFuture<Void> result = executor.executeAsync(Arrays.asList(bean1, bean2), parseOperations(Bean.class))
+            .toCompletableFuture();
+        // the thread is not blocked before the data sources are ready
+        Assert.assertFalse(result.isDone());
+        Assert.assertNull(bean1.getName());
+
+        Map<Integer, Source> sources = new HashMap<>();
+        sources.put(1, new Source(1, "one"));
+        sources.put(2, new Source(2, "two"));
+        future.complete(sources);
+        Assert.assertTrue(result.isDone());
+        Assert.assertEquals("one", bean1.getName());
+        Assert.assertEquals("two", bean1.getNestedBean().getTypeName());
+        Assert.assertEquals("two", bean2.getName());
+        Assert.assertEquals("one", bean2.getNestedBean().getTypeName());
+    }
+
+    @Test
+    public void executeAsyncWhenContainerIsNotAsync() {
+        Bean bean1 = new Bean().setId(1).setNestedBean(new NestedBean().setType(2));
+        CompletableFuture<Void> result = executor.executeAsync(Collections.singletonList(bean1), parseOperations(Bean.class))
+            .toCompletableFuture();
+        Assert.assertTrue(result.isDone());
+        Assert.assertEquals("one", bean1.getName());
+        Assert.assertEquals("two", bean1.getNestedBean().getTypeName());
+    }
+
     @Test
     public void executeWithCondition() {
         ConditionalBean bean1 = new ConditionalBean().setId(1);
@@ -78,6 +152,17 @@ public class DisorderedBeanOperationExecutorTest extends BaseExecutorTest {
         Assert.assertEquals("one", bean1.getName2());
     }
 
+    @Accessors(chain = true)
+    @Data
+    private static class DependentBean {
+        // depends on the operation of id
+        @Assemble(container = "test", props = @Mapping(ref = "name"))
+        private String code;
+        @Assemble(container = "test", props = @Mapping(ref = "code"))
+        private Integer id;
+        private String name;
+    }
+
     @Getter
     @RequiredArgsConstructor
     private static class Source {
@@ -0,0 +1,210 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.annotation.Assemble;
+import cn.crane4j.annotation.Mapping;
+import cn.crane4j.core.container.AsyncContainer;
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.Containers;
+import cn.crane4j.core.exception.Crane4jException;
+import cn.crane4j.core.parser.BeanOperations;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * test for {@link ExecutionScope}
+ *
+ * @author huangchengxing
+ */
+public class ExecutionScopeTest extends BaseExecutorTest {
+
+    private DisorderedBeanOperationExecutor executor;
+    private List<Collection<Integer>> queriedKeys;
+
+    @Before
+    public void init() {
+        executor = new DisorderedBeanOperationExecutor(configuration);
+        queriedKeys = new ArrayList<>();
+        Map<Integer, String> sources = new HashMap<>();
+        sources.put(1, "one");
+        sources.put(2, "two");
+        configuration.registerContainer(Containers.<Integer>forLambda("test", keys -> {
+            queriedKeys.add(new ArrayList<>(keys));
+            Map<Integer, Object> results = new HashMap<>();
+            keys.stream().filter(sources::containsKey).forEach(k -> results.put(k, sources.get(k)));
+            return results;
+        }));
+    }
+
+    @Test
+    public void open() {
+        Assert.assertNull(ExecutionScope.current());
+        ExecutionScope scope = ExecutionScope.open();
+        Assert.assertSame(scope, ExecutionScope.current());
+        // reentrant
+        Assert.assertSame(scope, ExecutionScope.open());
+        scope.close();
+        Assert.assertSame(scope, ExecutionScope.current());
+        Assert.assertFalse(scope.isClosed());
+        scope.close();
+        Assert.assertNull(ExecutionScope.current());
+        Assert.assertTrue(scope.isClosed());
+        Assert.assertThrows(Crane4jException.class, scope::close);
+    }
+
+    @Test
+    public void execute() {
+        BeanOperations operations = parseOperations(Bean.class);
+        try (ExecutionScope scope = ExecutionScope.open()) {
+            Bean bean1 = new Bean().setId(1);
+            Bean bean2 = new Bean().setId(3);
+            executor.execute(Arrays.asList(bean1, bean2), operations);
+            Assert.assertEquals("one", bean1.getName());
+            Assert.assertNull(bean2.getName());
+            Assert.assertEquals(1, queriedKeys.size());
+
+            // only the key that has not been queried reaches the container
+            Bean bean3 = new Bean().setId(1);
+            Bean bean4 = new Bean().setId(2);
+            Bean bean5 = new Bean().setId(3);
+            executor.execute(Arrays.asList(bean3, bean4, bean5), operations);
+            Assert.assertEquals("one", bean3.getName());
+            Assert.assertEquals("two", bean4.getName());
+            Assert.assertNull(bean5.getName());
+            Assert.assertEquals(2, queriedKeys.size());
+            Assert.assertEquals(Collections.singletonList(2), queriedKeys.get(1));
+        }
+
+        // memoized sources are released after the scope is closed
+        Bean bean = new Bean().setId(1);
+        executor.execute(Collections.singletonList(bean), operations);
+        Assert.assertEquals("one", bean.getName());
+        Assert.assertEquals(3, queriedKeys.size());
+    }
+
+    @Test
+    public void executeWithSkipAssembledTargets() {
+        BeanOperations operations = parseOperations(Bean.class);
+        executor.setSkipAssembledTargets(true);
+        Bean bean = new Bean().setId(1);
+        try (ExecutionScope scope = ExecutionScope.open()) {
+            executor.execute(Collections.singletonList(bean), operations);
+            Assert.assertEquals("one", bean.getName());
+            Assert.assertTrue(scope.isAssembled(bean, operations.getAssembleOperations().iterator().next()));
+
+            // the same instance will not be assembled again
+            bean.setName("changed");
+            executor.execute(Collections.singletonList(bean), operations);
+            Assert.assertEquals("changed", bean.getName());
+
+            // targets are compared by identity
+            Bean equalBean = new Bean().setId(1).setName("changed");
+            executor.executeAsync(Arrays.asList(bean, equalBean), operations).toCompletableFuture().join();
+            Assert.assertEquals("changed", bean.getName());
+            Assert.assertEquals("one", equalBean.getName());
+        }
+
+        // not take effect after the scope is closed
+        executor.execute(Collections.singletonList(bean), operations);
+        Assert.assertEquals("one", bean.getName());
+    }
+
+    @Test
+    public void executeWithSkipAssembledTargetsWhenFailed() {
+        AtomicInteger counter = new AtomicInteger(0);
+        configuration.registerContainer(Containers.<Integer>forLambda("failing", keys -> {
+            // the first call of each execution pair is failed
+            if (counter.incrementAndGet() % 2 == 1) {
+                throw new IllegalStateException("failed");
+            }
+            return keys.stream().collect(Collectors.toMap(k -> k, String::valueOf));
+        }));
+        BeanOperations operations = parseOperations(FailingBean.class);
+        executor.setSkipAssembledTargets(true);
+        try (ExecutionScope scope = ExecutionScope.open()) {
+            FailingBean bean = new FailingBean().setId(1);
+            executor.execute(Collections.singletonList(bean), operations);
+            Assert.assertNull(bean.getName());
+            Assert.assertFalse(scope.isAssembled(bean, operations.getAssembleOperations().iterator().next()));
+            // the target of failed execution will be assembled again in the scope
+            executor.execute(Collections.singletonList(bean), operations);
+            Assert.assertEquals("1", bean.getName());
+
+            // the sources of key 1 have been memoized in the scope
+            FailingBean asyncBean = new FailingBean().setId(2);
+            executor.executeAsync(Collections.singletonList(asyncBean), operations).toCompletableFuture().join();
+            Assert.assertNull(asyncBean.getName());
+            executor.executeAsync(Collections.singletonList(asyncBean), operations).toCompletableFuture().join();
+            Assert.assertEquals("2", asyncBean.getName());
+        }
+    }
+
+    @Test
+    public void executeAsync() {
+        List<Collection<Object>> asyncQueriedKeys = new ArrayList<>();
+        configuration.registerContainer(new AsyncContainer<Object>() {
+            @Override
+            public String getNamespace() {
+                return "async";
+            }
+            @Override
+            public CompletionStage<Map<Object, ?>> getAsync(Collection<Object> keys) {
+                asyncQueriedKeys.add(new ArrayList<>(keys));
+                return CompletableFuture.completedFuture(Collections.singletonMap(1, "one"));
+            }
+        });
+        BeanOperations operations = parseOperations(AsyncBean.class);
+        try (ExecutionScope scope = ExecutionScope.open()) {
+            Container<Object> container = configuration.getContainer("async");
+            Container<Object> scopedContainer = scope.getScopedContainer(container);
+            Assert.assertTrue(scopedContainer instanceof AsyncContainer);
+            Assert.assertSame(scopedContainer, scope.getScopedContainer(container));
+
+            AsyncBean bean1 = new AsyncBean().setId(1);
+            executor.executeAsync(Collections.singletonList(bean1), operations).toCompletableFuture().join();
+            AsyncBean bean2 = new AsyncBean().setId(1);
+            executor.executeAsync(Collections.singletonList(bean2), operations).toCompletableFuture().join();
+            Assert.assertEquals("one", bean1.getName());
+            Assert.assertEquals("one", bean2.getName());
+            Assert.assertEquals(1, asyncQueriedKeys.size());
+        }
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class Bean {
+        @Assemble(container = "test", props = @Mapping(ref = "name"))
+        private Integer id;
+        private String name;
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class FailingBean {
+        @Assemble(container = "failing", props = @Mapping(ref = "name"))
+        private Integer id;
+        private String name;
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class AsyncBean {
+        @Assemble(container = "async", props = @Mapping(ref = "name"))
+        private Integer id;
+        private String name;
+    }
+}
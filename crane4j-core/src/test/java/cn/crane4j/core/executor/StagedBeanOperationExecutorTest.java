@@ -0,0 +1,86 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.annotation.Assemble;
+import cn.crane4j.annotation.Mapping;
+import cn.crane4j.core.container.Containers;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * test for {@link StagedBeanOperationExecutor}
+ *
+ * @author huangchengxing
+ */
+public class StagedBeanOperationExecutorTest extends BaseExecutorTest {
+
+    private ExecutorService threadPool;
+    private StagedBeanOperationExecutor executor;
+    private AtomicInteger counter;
+
+    @Before
+    public void init() {
+        threadPool = Executors.newFixedThreadPool(2);
+        executor = new StagedBeanOperationExecutor(configuration, threadPool);
+        counter = new AtomicInteger(0);
+        Map<Object, Object> sources = new HashMap<>();
+        sources.put(1, "two");
+        sources.put(2, "three");
+        sources.put("two", "four");
+        configuration.registerContainer(Containers.forLambda("test", keys -> {
+            counter.incrementAndGet();
+            return sources;
+        }));
+        configuration.registerContainer(Containers.forMap("other", sources));
+    }
+
+    @After
+    public void destroy() {
+        threadPool.shutdown();
+    }
+
+    @Test
+    public void execute() {
+        Bean bean1 = new Bean().setId(1).setKey(2).setOtherId(1);
+        Bean bean2 = new Bean().setId(2).setKey(1).setOtherId(2);
+        executor.execute(Arrays.asList(bean1, bean2), parseOperations(Bean.class));
+
+        // operations of "test" in the same stage are merged into one call
+        Assert.assertEquals(2, counter.get());
+        Assert.assertEquals("two", bean1.getCode());
+        Assert.assertEquals("three", bean1.getValue());
+        Assert.assertEquals("two", bean1.getOtherValue());
+        Assert.assertEquals("four", bean1.getName());
+        Assert.assertEquals("three", bean2.getCode());
+        Assert.assertEquals("two", bean2.getValue());
+        Assert.assertEquals("three", bean2.getOtherValue());
+        Assert.assertNull(bean2.getName());
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class Bean {
+        @Assemble(container = "test", props = @Mapping(ref = "code"), sort = 0)
+        private Integer id;
+        @Assemble(container = "test", props = @Mapping(ref = "value"), sort = 0)
+        private Integer key;
+        @Assemble(container = "other", props = @Mapping(ref = "otherValue"), sort = 0)
+        private Integer otherId;
+        // depends on the result of stage 0
+        @Assemble(container = "test", props = @Mapping(ref = "name"), sort = 1)
+        private String code;
+        private String value;
+        private String otherValue;
+        private String name;
+    }
+}
@@ -0,0 +1,273 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.annotation.Assemble;
+import cn.crane4j.annotation.Mapping;
+import cn.crane4j.core.cache.CacheableContainer;
+import cn.crane4j.core.cache.CacheDefinition;
+import cn.crane4j.core.cache.CacheManager;
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.Containers;
+import cn.crane4j.core.exception.OperationExecuteException;
+import cn.crane4j.core.exception.OperationTimeoutException;
+import cn.crane4j.core.parser.BeanOperations;
+import cn.crane4j.core.parser.operation.AssembleOperation;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * test for {@link TimeLimitedContainer}
+ *
+ * @author huangchengxing
+ */
+public class TimeLimitedContainerTest extends BaseExecutorTest {
+
+    private DisorderedBeanOperationExecutor executor;
+    private AtomicBoolean slow;
+    private AtomicBoolean interrupted;
+
+    @Before
+    public void init() {
+        executor = new DisorderedBeanOperationExecutor(configuration);
+        slow = new AtomicBoolean(true);
+        interrupted = new AtomicBoolean(false);
+        Map<Integer, Object> sources = new HashMap<>();
+        sources.put(1, "one");
+        sources.put(2, "two");
+        configuration.registerContainer(Containers.forMap("fast", sources));
+        Container<Integer> container = Containers.<Integer>forLambda("slow", keys -> {
+            if (slow.get()) {
+                try {
+                    Thread.sleep(5000L);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+            return keys.stream().filter(sources::containsKey).collect(Collectors.toMap(k -> k, sources::get));
+        });
+        CacheDefinition cacheDefinition = new CacheDefinition.Impl("slow", null, -1L, TimeUnit.MILLISECONDS);
+        CacheManager cacheManager = configuration.getCacheManager(CacheManager.DEFAULT_MAP_CACHE_MANAGER_NAME);
+        configuration.registerContainer(new CacheableContainer<>(container, cacheDefinition, cacheManager));
+    }
+
+    @Test
+    public void executeWhenSkip() {
+        Bean bean = new Bean().setId(1).setKey(2);
+        BeanOperations operations = parseOperations(Bean.class);
+        BeanOperationExecutor.Options.TimeLimitedOption options = new BeanOperationExecutor.Options.TimeLimitedOption(op -> true)
+            .timeout("slow", 50L)
+            .degradePolicy(null, DegradePolicy.SKIP);
+        long start = System.currentTimeMillis();
+        executor.execute(Collections.singletonList(bean), operations, options);
+        Assert.assertTrue(System.currentTimeMillis() - start < 500L);
+        Assert.assertEquals("one", bean.getName());
+        Assert.assertNull(bean.getValue());
+
+        List<String> degraded = options.getDegradedOperations().stream()
+            .map(AssembleOperation::getContainer)
+            .collect(Collectors.toList());
+        Assert.assertEquals(Collections.singletonList("slow"), degraded);
+    }
+
+    @Test
+    public void executeWhenUseStale() {
+        BeanOperations operations = parseOperations(Bean.class);
+        // fill the cache first
+        slow.set(false);
+        Bean bean = new Bean().setId(1).setKey(2);
+        executor.execute(Collections.singletonList(bean), operations);
+        Assert.assertEquals("two", bean.getValue());
+
+        slow.set(true);
+        BeanOperationExecutor.Options.TimeLimitedOption options = new BeanOperationExecutor.Options.TimeLimitedOption(op -> true)
+            .timeout("slow", 50L)
+            .degradePolicy("slow", DegradePolicy.USE_STALE);
+        Bean bean1 = new Bean().setId(1).setKey(2);
+        Bean bean2 = new Bean().setId(2).setKey(1);
+        executor.execute(Arrays.asList(bean1, bean2), operations, options);
+        Assert.assertEquals("one", bean1.getName());
+        Assert.assertEquals("two", bean1.getValue());
+        Assert.assertEquals("two", bean2.getName());
+        Assert.assertNull(bean2.getValue());
+        Assert.assertEquals(1, options.getDegradedOperations().size());
+    }
+
+    @Test
+    public void executeWhenUseStaleWithNullValueCached() {
+        Container<Integer> container = Containers.<Integer>forLambda("nullable", keys -> {
+            if (slow.get()) {
+                sleep(500L);
+            }
+            return keys.stream().filter(k -> k == 2).collect(Collectors.toMap(k -> k, k -> "two"));
+        });
+        CacheDefinition cacheDefinition = new CacheDefinition.Impl(
+            "nullable", null, -1L, TimeUnit.MILLISECONDS, true, -1L, -1L
+        );
+        CacheManager cacheManager = configuration.getCacheManager(CacheManager.DEFAULT_MAP_CACHE_MANAGER_NAME);
+        configuration.registerContainer(new CacheableContainer<>(container, cacheDefinition, cacheManager));
+        BeanOperations operations = parseOperations(NullableBean.class);
+
+        // fill the cache first, key 3 is cached as null value
+        slow.set(false);
+        executor.execute(Arrays.asList(new NullableBean().setKey(2), new NullableBean().setKey(3)), operations);
+
+        slow.set(true);
+        BeanOperationExecutor.Options.TimeLimitedOption options = new BeanOperationExecutor.Options.TimeLimitedOption(op -> true)
+            .timeout("nullable", 50L)
+            .degradePolicy("nullable", DegradePolicy.USE_STALE);
+        NullableBean bean1 = new NullableBean().setKey(2);
+        NullableBean bean2 = new NullableBean().setKey(3);
+        NullableBean bean3 = new NullableBean().setKey(4);
+        executor.execute(Arrays.asList(bean1, bean2, bean3), operations, options);
+        Assert.assertEquals("two", bean1.getValue());
+        // the cached null value is not used as stale data
+        Assert.assertNull(bean2.getValue());
+        Assert.assertNull(bean3.getValue());
+        Assert.assertEquals(1, options.getDegradedOperations().size());
+    }
+
+    @Test
+    public void executeWhenTimeoutThenInterrupt() throws InterruptedException {
+        BeanOperations operations = parseOperations(Bean.class);
+        BeanOperationExecutor.Options.TimeLimitedOption options = new BeanOperationExecutor.Options.TimeLimitedOption(op -> true)
+            .timeout("slow", 50L)
+            .degradePolicy(null, DegradePolicy.SKIP);
+        Bean bean = new Bean().setId(1).setKey(2);
+        executor.execute(Collections.singletonList(bean), operations, options);
+        Assert.assertNull(bean.getValue());
+        // the timed-out call is interrupted instead of occupying the thread
+        for (int i = 0; i < 20 && !interrupted.get(); i++) {
+            Thread.sleep(10L);
+        }
+        Assert.assertTrue(interrupted.get());
+    }
+
+    @Test
+    public void executeWhenRejected() {
+        executor.setTimeLimitedExecutor(r -> {
+            throw new RejectedExecutionException("busy");
+        });
+        BeanOperations operations = parseOperations(Bean.class);
+        BeanOperationExecutor.Options.TimeLimitedOption options = new BeanOperationExecutor.Options.TimeLimitedOption(op -> true)
+            .timeout("slow", 1000L)
+            .degradePolicy(null, DegradePolicy.SKIP);
+        Bean bean = new Bean().setId(1).setKey(2);
+        executor.execute(Collections.singletonList(bean), operations, options);
+        Assert.assertEquals("one", bean.getName());
+        Assert.assertNull(bean.getValue());
+        Assert.assertEquals(1, options.getDegradedOperations().size());
+    }
+
+    @Test
+    public void executeWithSkipAssembledTargetsWhenDegraded() {
+        executor.setSkipAssembledTargets(true);
+        BeanOperations operations = parseOperations(Bean.class);
+        BeanOperationExecutor.Options.TimeLimitedOption options = new BeanOperationExecutor.Options.TimeLimitedOption(op -> true)
+            .timeout("slow", 50L)
+            .degradePolicy(null, DegradePolicy.SKIP);
+        Bean bean = new Bean().setId(1).setKey(2);
+        try (ExecutionScope scope = ExecutionScope.open()) {
+            executor.execute(Collections.singletonList(bean), operations, options);
+            Assert.assertEquals("one", bean.getName());
+            Assert.assertNull(bean.getValue());
+            operations.getAssembleOperations().forEach(op -> Assert.assertEquals(
+                !"slow".equals(op.getContainer()), scope.isAssembled(bean, op)
+            ));
+
+            // the degraded operation will be executed again in the scope
+            slow.set(false);
+            executor.execute(Collections.singletonList(bean), operations, options);
+            Assert.assertEquals("two", bean.getValue());
+            operations.getAssembleOperations().forEach(op -> Assert.assertTrue(scope.isAssembled(bean, op)));
+        }
+    }
+
+    @Test
+    public void executeWithDeadline() {
+        BeanOperations operations = parseOperations(Bean.class);
+        BeanOperationExecutor.Options.TimeLimitedOption options = new BeanOperationExecutor.Options.TimeLimitedOption(op -> true)
+            .deadline(50L)
+            .degradePolicy(null, DegradePolicy.SKIP);
+        Bean bean = new Bean().setId(1).setKey(2);
+        long start = System.currentTimeMillis();
+        executor.execute(Collections.singletonList(bean), operations, options);
+        Assert.assertTrue(System.currentTimeMillis() - start < 500L);
+        Assert.assertNull(bean.getValue());
+        Assert.assertTrue(options.getDegradedOperations().stream().anyMatch(op -> "slow".equals(op.getContainer())));
+    }
+
+    @Test
+    public void executeWhenFail() {
+        BeanOperations operations = parseOperations(Bean.class);
+        BeanOperationExecutor.Options.TimeLimitedOption options = new BeanOperationExecutor.Options.TimeLimitedOption(op -> true)
+            .timeout(null, 50L);
+        Bean bean = new Bean().setId(1).setKey(2);
+        OperationExecuteException ex = Assert.assertThrows(
+            OperationExecuteException.class, () -> executor.execute(Collections.singletonList(bean), operations, options)
+        );
+        Assert.assertTrue(ex.getCause() instanceof OperationTimeoutException);
+
+        // use another key, otherwise it may wait for the load of last call which is interrupted after timeout
+        Bean asyncBean = new Bean().setId(1).setKey(1);
+        CompletionException asyncEx = Assert.assertThrows(
+            CompletionException.class,
+            () -> executor.executeAsync(Collections.singletonList(asyncBean), operations, options).toCompletableFuture().join()
+        );
+        Assert.assertTrue(asyncEx.getCause() instanceof OperationTimeoutException);
+    }
+
+    @Test
+    public void executeWithoutTimeout() {
+        slow.set(false);
+        BeanOperations operations = parseOperations(Bean.class);
+        BeanOperationExecutor.Options.TimeLimitedOption options = new BeanOperationExecutor.Options.TimeLimitedOption(op -> true)
+            .timeout("slow", 1000L);
+        Bean bean = new Bean().setId(1).setKey(2);
+        executor.execute(Collections.singletonList(bean), operations, options);
+        Assert.assertEquals("one", bean.getName());
+        Assert.assertEquals("two", bean.getValue());
+        Assert.assertTrue(options.getDegradedOperations().isEmpty());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class NullableBean {
+        @Assemble(container = "nullable", props = @Mapping(ref = "value"))
+        private Integer key;
+        private String value;
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class Bean {
+        @Assemble(container = "fast", props = @Mapping(ref = "name"))
+        private Integer id;
+        private String name;
+        @Assemble(container = "slow", props = @Mapping(ref = "value"))
+        private Integer key;
+        private String value;
+    }
+}
@@ -0,0 +1,72 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.annotation.Assemble;
+import cn.crane4j.annotation.Mapping;
+import cn.crane4j.core.container.Containers;
+import cn.crane4j.core.exception.Crane4jException;
+import lombok.Data;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Accessors;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * test for {@link VirtualThreadBeanOperationExecutor}
+ *
+ * @author huangchengxing
+ */
+public class VirtualThreadBeanOperationExecutorTest extends BaseExecutorTest {
+
+    @Test
+    public void execute() {
+        if (!VirtualThreadBeanOperationExecutor.isSupported()) {
+            Assert.assertThrows(Crane4jException.class, () -> new VirtualThreadBeanOperationExecutor(configuration));
+            return;
+        }
+
+        Map<Integer, Object> sources = new HashMap<>();
+        sources.put(1, new Source(1, "one"));
+        sources.put(2, new Source(2, "two"));
+        configuration.registerContainer(Containers.forMap("test", sources));
+        VirtualThreadBeanOperationExecutor executor = new VirtualThreadBeanOperationExecutor(configuration);
+
+        Bean bean1 = new Bean().setId(1);
+        Bean bean2 = new Bean().setId(2);
+        executor.execute(Arrays.asList(bean1, bean2), parseOperations(Bean.class));
+        Assert.assertEquals("one", bean1.getName());
+        Assert.assertEquals("two", bean2.getName());
+    }
+
+    @Test
+    public void close() {
+        if (!VirtualThreadBeanOperationExecutor.isSupported()) {
+            return;
+        }
+        VirtualThreadBeanOperationExecutor executor = new VirtualThreadBeanOperationExecutor(configuration);
+        ExecutorService executorService = (ExecutorService)executor.getChunkExecutor();
+        Assert.assertFalse(executorService.isShutdown());
+        executor.close();
+        Assert.assertTrue(executorService.isShutdown());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Source {
+        private final Integer key;
+        private final String value;
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class Bean {
+        @Assemble(container = "test", props = @Mapping(ref = "name", src = "value"))
+        private Integer id;
+        private String name;
+    }
+}
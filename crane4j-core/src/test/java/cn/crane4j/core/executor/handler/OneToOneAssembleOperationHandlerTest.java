@@ -3,11 +3,15 @@ package cn.crane4j.core.executor.handler;
 import cn.crane4j.annotation.Assemble;
 import cn.crane4j.annotation.Mapping;
 import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.Containers;
+import cn.crane4j.core.container.ImmutableMapContainer;
 import cn.crane4j.core.container.LambdaContainer;
+import cn.crane4j.core.container.LimitedContainer;
 import cn.crane4j.core.executor.BaseExecutorTest;
 import cn.crane4j.core.executor.BeanOperationExecutor;
 import cn.crane4j.core.executor.DisorderedBeanOperationExecutor;
 import cn.crane4j.core.parser.BeanOperations;
+import cn.crane4j.core.parser.operation.AssembleOperation;
 import cn.crane4j.core.support.converter.HutoolConverterManager;
 import cn.crane4j.core.support.converter.SimpleConverterManager;
 import cn.crane4j.core.support.reflect.PropertyOperator;
@@ -20,8 +24,11 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -33,11 +40,12 @@ import java.util.stream.Collectors;
 public class OneToOneAssembleOperationHandlerTest extends BaseExecutorTest {
 
     private BeanOperationExecutor executor;
+    private OneToOneAssembleOperationHandler handler;
 
     @Before
     public void init() {
         PropertyOperator operator = new ReflectivePropertyOperator(new HutoolConverterManager());
-        OneToOneAssembleOperationHandler handler = new OneToOneAssembleOperationHandler(operator, SimpleConverterManager.INSTANCE);
+        handler = new OneToOneAssembleOperationHandler(operator, SimpleConverterManager.INSTANCE);
         configuration.getAssembleOperationHandlerMap().put(handler.getClass().getName(), handler);
         executor = new DisorderedBeanOperationExecutor(configuration);
         Container<Integer> container = LambdaContainer.forLambda(
@@ -67,6 +75,51 @@ public class OneToOneAssembleOperationHandlerTest extends BaseExecutorTest {
         executor.execute(Collections.singletonList(new Bean(0L)), operations);
     }
 
+    @Test
+    public void getSourcesFromLimitedContainer() {
+        AtomicInteger getAllCount = new AtomicInteger(0);
+        LimitedContainer<Object> container = new LimitedContainer<Object>() {
+            @Override
+            public String getNamespace() {
+                return "limited";
+            }
+            @Override
+            public Map<Object, ?> get(Collection<Object> keys) {
+                return Collections.emptyMap();
+            }
+            @Override
+            public Map<Object, ?> getAll() {
+                getAllCount.incrementAndGet();
+                return Collections.emptyMap();
+            }
+        };
+        // getting all data from other limited containers may be expensive
+        handler.getSourcesFromContainer(container, Collections.emptyList());
+        handler.getSourcesFromContainerAsync(container, Collections.emptyList()).toCompletableFuture().join();
+        Assert.assertEquals(0, getAllCount.get());
+
+        ImmutableMapContainer<Object> mapContainer = Containers.forMap("map", Collections.singletonMap(1, "one"));
+        Assert.assertSame(mapContainer.getAll(), handler.getSourcesFromContainer(mapContainer, Collections.emptyList()));
+    }
+
+    @Test
+    public void getMappingAccessors() {
+        BeanOperations operations = parseOperations(Bean.class);
+        AssembleOperation operation = operations.getAssembleOperations().stream()
+            .filter(op -> "id".equals(op.getKey()))
+            .findFirst().orElseThrow(IllegalStateException::new);
+        OneToOneAssembleOperationHandler.MappingAccessor[] accessors = handler.getMappingAccessors(operation, SourceBean.class, Bean.class);
+        Assert.assertEquals(1, accessors.length);
+        Assert.assertNotNull(accessors[0].getGetter());
+        Assert.assertNotNull(accessors[0].getSetter());
+        // accessors are resolved only once
+        Assert.assertSame(accessors, handler.getMappingAccessors(operation, SourceBean.class, Bean.class));
+
+        Bean bean = new Bean(1L);
+        accessors[0].write(bean, accessors[0].read(new SourceBean(1, "one", null)));
+        Assert.assertEquals("one", bean.getName());
+    }
+
     @Assemble(container = "identity", props = @Mapping(src = "id", ref = "otherId"))
     @RequiredArgsConstructor
     @AllArgsConstructor
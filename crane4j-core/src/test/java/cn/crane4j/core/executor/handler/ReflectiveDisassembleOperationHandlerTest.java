@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * test for {@link ReflectiveDisassembleOperationHandler}
@@ -67,6 +68,77 @@ public class ReflectiveDisassembleOperationHandlerTest extends BaseExecutorTest
         checkDisassembledBeans(operationForBeanMultiList, root, 8);
     }
 
+    @Test
+    public void processInParallel() {
+        BeanOperations beanOperations = parseOperations(Bean.class);
+        DisassembleOperation operation = beanOperations.getDisassembleOperations().stream()
+            .filter(op -> "beanArray".equals(op.getKey()))
+            .findFirst().orElseThrow(IllegalStateException::new);
+
+        List<Bean> roots = new ArrayList<>();
+        List<Bean> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Bean b1 = new Bean();
+            Bean b2 = new Bean();
+            roots.add(new Bean().setBeanArray(new Bean[]{b1, null, b2}));
+            expected.add(b1);
+            expected.add(b2);
+        }
+        roots.add(null);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            // disabled by default
+            handler.setForkJoinPool(pool);
+            checkFlattenedBeans(expected, handler.process(operation, roots));
+            Assert.assertEquals(0, pool.getPoolSize());
+
+            handler.setParallelThreshold(7);
+            checkFlattenedBeans(expected, handler.process(operation, roots));
+            Assert.assertTrue(pool.getPoolSize() > 0);
+
+            // use common pool if not specified
+            handler.setForkJoinPool(null);
+            checkFlattenedBeans(expected, handler.process(operation, roots));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void processWithNestedCollections() {
+        BeanOperations beanOperations = parseOperations(Bean.class);
+        DisassembleOperation operation = beanOperations.getDisassembleOperations().stream()
+            .filter(op -> "beanList".equals(op.getKey()))
+            .findFirst().orElseThrow(IllegalStateException::new);
+
+        // nested objects are flattened in depth-first order: [[a, b], c], [d] -> a, b, c, d
+        Bean a = new Bean();
+        Bean b = new Bean();
+        Bean c = new Bean();
+        Bean d = new Bean();
+        List<Object> first = Arrays.asList(Arrays.asList(a, b), c);
+        List<Object> second = Collections.singletonList(new Bean[]{d});
+        List<Bean> roots = Arrays.asList(
+            new Bean().setBeanList((List<Bean>)(List<?>)first),
+            new Bean().setBeanList((List<Bean>)(List<?>)second)
+        );
+        List<Bean> expected = Arrays.asList(a, b, c, d);
+        checkFlattenedBeans(expected, handler.process(operation, roots));
+
+        // the order is the same when flattening in parallel
+        handler.setParallelThreshold(1);
+        checkFlattenedBeans(expected, handler.process(operation, roots));
+    }
+
+    private static void checkFlattenedBeans(List<Bean> expected, Collection<Object> flattened) {
+        List<Object> results = new ArrayList<>(flattened);
+        Assert.assertEquals(expected.size(), results.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertSame(expected.get(i), results.get(i));
+        }
+    }
+
     private void checkDisassembledBeans(DisassembleOperation operation, Object object, int expectedSize) {
         Collection<?> disassembledBeans = handler.process(operation, Collections.singleton(object));
         Assert.assertEquals(expectedSize, disassembledBeans.size());
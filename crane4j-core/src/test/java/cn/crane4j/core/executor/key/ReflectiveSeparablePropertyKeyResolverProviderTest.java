@@ -143,6 +143,32 @@ public class ReflectiveSeparablePropertyKeyResolverProviderTest {
         Assert.assertTrue(((Collection<?>) key).isEmpty());
     }
 
+    @Test
+    public void testSplitKey() {
+        // strings are split without regex if the splitter contains no meta characters
+        Assert.assertEquals(Arrays.asList("1", "2", "3"), provider.splitKey("1; 2 ;3", ";"));
+        Assert.assertEquals(Arrays.asList("1", "2"), provider.splitKey(new StringBuilder("1,2"), ","));
+        Assert.assertEquals(Collections.singletonList(" 1 "), provider.splitKey(" 1 ", ","));
+        Assert.assertEquals(Arrays.asList("1", "2"), provider.splitKey("1|2", "\\|"));
+
+        // overridden splitKey is used for string keys
+        ReflectiveSeparablePropertyKeyResolverProvider customProvider = new ReflectiveSeparablePropertyKeyResolverProvider(
+            ReflectivePropertyOperator.INSTANCE, SimpleConverterManager.INSTANCE) {
+            @Override
+            protected Collection<Object> splitKey(Object propertyValue, String keySplitter) {
+                return Collections.singletonList("custom");
+            }
+        };
+        SimpleAssembleOperation operation = SimpleAssembleOperation.builder()
+            .key("idStr")
+            .build();
+        Source source = new Source(null, null, "1,2", null);
+        Assert.assertEquals(
+            Collections.singletonList("custom"), customProvider.getResolver(operation).resolve(source, operation)
+        );
+        Assert.assertEquals(Arrays.asList("1", "2"), provider.getResolver(operation).resolve(source, operation));
+    }
+
     @SuppressWarnings("unused")
     @Setter
     @AllArgsConstructor
@@ -0,0 +1,65 @@
+package cn.crane4j.core.executor.key;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * test for {@link SeparatedKeyTokenizer}
+ *
+ * @author huangchengxing
+ */
+public class SeparatedKeyTokenizerTest {
+
+    @Test
+    public void splitSameAsStringSplit() {
+        List<String> inputs = Arrays.asList(
+            "", "1", " 1 ", "1,2,3", "1, 2 ,3 ", ",1", "1,,2", "1,2,,", ",", ",,", " , ", "1, "
+        );
+        for (String separator : Arrays.asList(",", ", ", "\\s*,\\s*", "|")) {
+            SeparatedKeyTokenizer tokenizer = new SeparatedKeyTokenizer(separator, false);
+            for (String input : inputs) {
+                List<String> expected = Arrays.stream(input.split(separator))
+                    .map(String::trim)
+                    .collect(Collectors.toList());
+                Assert.assertEquals("[" + input + "] split by [" + separator + "]", expected, tokenizer.split(input));
+            }
+        }
+    }
+
+    @Test
+    public void splitWithMemoization() {
+        AtomicInteger conversions = new AtomicInteger(0);
+        SeparatedKeyTokenizer tokenizer = new SeparatedKeyTokenizer(",", true, token -> {
+            conversions.incrementAndGet();
+            return token.isEmpty() ? null : Integer.valueOf(token);
+        }, 4);
+
+        List<Object> result = tokenizer.split("1, 2, 2, 3");
+        Assert.assertEquals(Arrays.asList(1, 2, 3), result);
+        Assert.assertEquals(3, conversions.get());
+        Assert.assertThrows(UnsupportedOperationException.class, () -> result.add(4));
+
+        // memoized results are shared
+        Assert.assertSame(result, tokenizer.split("1, 2, 2, 3"));
+        // each distinct token is converted only once
+        Assert.assertEquals(Arrays.asList(3, 1), tokenizer.split("3,1"));
+        Assert.assertEquals(3, conversions.get());
+        Assert.assertEquals(Collections.singletonList(null), tokenizer.split(""));
+        Assert.assertEquals(Collections.singletonList(null), tokenizer.split(" "));
+        Assert.assertEquals(4, conversions.get());
+    }
+
+    @Test
+    public void splitWithoutMemoization() {
+        SeparatedKeyTokenizer tokenizer = new SeparatedKeyTokenizer(",", false, null, 0);
+        List<Object> result = tokenizer.split("a,b");
+        Assert.assertEquals(Arrays.asList("a", "b"), result);
+        Assert.assertNotSame(result, tokenizer.split("a,b"));
+    }
+}
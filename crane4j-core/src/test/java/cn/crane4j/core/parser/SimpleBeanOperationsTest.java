@@ -48,6 +48,18 @@ public class SimpleBeanOperationsTest {
         Assert.assertEquals(1, operations.getAssembleOperations().size());
     }
 
+    @Test
+    public void addDependency() {
+        AssembleOperation operation = SimpleAssembleOperation.builder()
+            .key("key").propertyMappings(Collections.emptySet()).container("empty").build();
+        AssembleOperation dependency = SimpleAssembleOperation.builder()
+            .key("id").propertyMappings(Collections.emptySet()).container("empty").build();
+        Assert.assertTrue(operations.getDependencies(operation).isEmpty());
+        operations.addDependency(operation, dependency);
+        operations.addDependency(operation, dependency);
+        Assert.assertEquals(Collections.singleton(dependency), operations.getDependencies(operation));
+    }
+
     @Test
     public void getDisassembleOperations() {
         Assert.assertTrue(operations.getDisassembleOperations().isEmpty());
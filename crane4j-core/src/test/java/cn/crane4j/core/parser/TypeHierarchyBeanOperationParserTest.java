@@ -6,6 +6,7 @@ import cn.crane4j.annotation.Mapping;
 import cn.crane4j.annotation.MappingTemplate;
 import cn.crane4j.core.container.Container;
 import cn.crane4j.core.container.LambdaContainer;
+import cn.crane4j.core.exception.OperationParseException;
 import cn.crane4j.core.executor.handler.DisassembleOperationHandler;
 import cn.crane4j.core.executor.handler.OneToOneAssembleOperationHandler;
 import cn.crane4j.core.executor.handler.ReflectiveDisassembleOperationHandler;
@@ -266,4 +267,43 @@ public class TypeHierarchyBeanOperationParserTest {
             return i;
         }
     }
+
+    @Test
+    public void parseDependencies() {
+        // dependencies are not inferred by default
+        BeanOperations notInferred = parser.parse(ExtendedDependentBean.class);
+        Assert.assertEquals(2, notInferred.getAssembleOperations().size());
+        notInferred.getAssembleOperations()
+            .forEach(op -> Assert.assertTrue(notInferred.getDependencies(op).isEmpty()));
+
+        ((TypeHierarchyBeanOperationParser)parser).setEnableDependencyInference(true);
+        BeanOperations beanOperations = parser.parse(DependentBean.class);
+        Collection<AssembleOperation> operations = beanOperations.getAssembleOperations();
+        AssembleOperation idOp = operations.stream().filter(op -> "id".equals(op.getKey())).findFirst().orElse(null);
+        AssembleOperation codeOp = operations.stream().filter(op -> "code".equals(op.getKey())).findFirst().orElse(null);
+        Assert.assertNotNull(idOp);
+        Assert.assertNotNull(codeOp);
+        Assert.assertTrue(beanOperations.getDependencies(idOp).isEmpty());
+        Assert.assertEquals(Collections.singleton(idOp), beanOperations.getDependencies(codeOp));
+
+        Assert.assertThrows(OperationParseException.class, () -> parser.parse(CircularDependentBean.class));
+    }
+
+    private static class DependentBean {
+        @Assemble(container = CONTAINER_NAME, props = @Mapping(src = "code", ref = "code"))
+        private Integer id;
+        @Assemble(container = CONTAINER_NAME, props = @Mapping(src = "name", ref = "name"))
+        private String code;
+        private String name;
+    }
+
+    private static class ExtendedDependentBean extends DependentBean {
+    }
+
+    private static class CircularDependentBean {
+        @Assemble(container = CONTAINER_NAME, props = @Mapping(src = "code", ref = "code"))
+        private Integer id;
+        @Assemble(container = CONTAINER_NAME, props = @Mapping(src = "id", ref = "id"))
+        private String code;
+    }
 }
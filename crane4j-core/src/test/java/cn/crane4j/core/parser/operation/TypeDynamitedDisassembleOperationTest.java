@@ -1,13 +1,16 @@
 package cn.crane4j.core.parser.operation;
 
 import cn.crane4j.core.parser.BeanOperationParser;
+import cn.crane4j.core.parser.BeanOperations;
 import cn.crane4j.core.parser.SimpleBeanOperations;
 import cn.crane4j.core.support.TypeResolver;
+import cn.crane4j.core.util.MultiMap;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 
 /**
  * test for {@link TypeDynamitedDisassembleOperation}
@@ -41,6 +44,22 @@ public class TypeDynamitedDisassembleOperationTest {
         Assert.assertEquals(String.class, operation.getInternalBeanOperations("str").getSource());
     }
 
+    @Test
+    public void groupByInternalBeanOperations() {
+        MultiMap<BeanOperations, Object> groups = operation.groupByInternalBeanOperations(
+            Arrays.asList(BigDecimal.ONE, "a", null, BigDecimal.TEN, "b")
+        );
+        Assert.assertEquals(2, groups.keySet().size());
+        groups.asMap().forEach((operations, beans) -> {
+            if (operations.getSource() == BigDecimal.class) {
+                Assert.assertEquals(Arrays.asList(BigDecimal.ONE, BigDecimal.TEN), beans);
+            } else {
+                Assert.assertEquals(String.class, operations.getSource());
+                Assert.assertEquals(Arrays.asList("a", "b"), beans);
+            }
+        });
+    }
+
     @Test
     public void getDisassembleOperationHandler() {
         Assert.assertNull(operation.getDisassembleOperationHandler());
@@ -16,6 +16,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * test for {@link OperateTemplate}
@@ -89,6 +90,15 @@ public class OperateTemplateTest {
         checkBean(fooList.get(0), "1", "1", "1");
     }
 
+    @Test
+    public void executeStreaming() {
+        List<Foo> fooList = template.executeStreaming(getFooList().stream(), Foo.class, 1)
+            .collect(Collectors.toList());
+        Assert.assertEquals(2, fooList.size());
+        checkBean(fooList.get(0), "1", "1", "1");
+        checkBean(fooList.get(1), "2", "2", "2");
+    }
+
     private static void checkBean(Foo foo, String name, String nestedName, String value) {
         Assert.assertEquals(foo.getName(), name);
         Assert.assertEquals(((NestedFoo) foo.getNestedFoo()).getName(), nestedName);
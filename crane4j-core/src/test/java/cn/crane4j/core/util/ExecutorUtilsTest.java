@@ -0,0 +1,58 @@
+package cn.crane4j.core.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * test for {@link ExecutorUtils}
+ *
+ * @author huangchengxing
+ */
+public class ExecutorUtilsTest {
+
+    @Test
+    public void getDefaultExecutor() {
+        Executor executor = ExecutorUtils.getDefaultExecutor();
+        Assert.assertTrue(executor instanceof ThreadPoolExecutor);
+        Assert.assertSame(executor, ExecutorUtils.getDefaultExecutor());
+        Assert.assertEquals(ExecutorUtils.DEFAULT_MAXIMUM_POOL_SIZE, ((ThreadPoolExecutor)executor).getMaximumPoolSize());
+
+        Executor custom = Runnable::run;
+        ExecutorUtils.setDefaultExecutor(custom);
+        Assert.assertSame(custom, ExecutorUtils.getDefaultExecutor());
+        ExecutorUtils.shutdownDefaultExecutor();
+        Assert.assertTrue(ExecutorUtils.getDefaultExecutor() instanceof ThreadPoolExecutor);
+    }
+
+    @Test
+    public void newDaemonThreadPool() throws InterruptedException {
+        ThreadPoolExecutor executor = ExecutorUtils.newDaemonThreadPool("test-", 1, 1);
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                Assert.assertTrue(Thread.currentThread().isDaemon());
+                Assert.assertTrue(Thread.currentThread().getName().startsWith("test-"));
+                await(latch);
+            });
+            executor.execute(() -> await(latch));
+            // the only thread is busy and the queue is full
+            Assert.assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+        } finally {
+            latch.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.SessionCallback;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -140,6 +141,29 @@ public abstract class AbstractRedisCacheManager<K, V> extends AbstractCacheManag
             });
         }
 
+        /**
+         * Cache {@link #NULL_VALUE} for the keys that have no data,
+         * the null value will be resolved by {@link #resolveCacheValue} before storing,
+         * so the value resolver should keep it as a string.
+         *
+         * @param keys keys
+         * @param expireTime expire time of null values, non-positive value means same as other values
+         * @param timeUnit time unit
+         * @since 2.6.0
+         */
+        @Override
+        public void putNullValues(Collection<K> keys, long expireTime, TimeUnit timeUnit) {
+            long nullValueExpireTime = expireTime > 0 ? expireTime : this.expireTime;
+            TimeUnit nullValueTimeUnit = expireTime > 0 ? timeUnit : this.timeUnit;
+            V cacheValue = resolveCacheValue(NULL_VALUE);
+            executePipelined(ops -> {
+                for (K key : keys) {
+                    K cacheKey = resolveCacheKey(getName(), key);
+                    ops.opsForValue().set(cacheKey, cacheValue, nullValueExpireTime, nullValueTimeUnit);
+                }
+            });
+        }
+
         /**
          * Get all cache according to the key values.
          *
@@ -0,0 +1,73 @@
+package cn.crane4j.extension.redis;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A channel to broadcast the invalidation of cache to all nodes.
+ *
+ * @author huangchengxing
+ * @see TwoLevelCacheManager
+ * @see RedisCacheInvalidationChannel
+ * @see InMemoryCacheInvalidationChannel
+ * @since 2.6.0
+ */
+public interface CacheInvalidationChannel {
+
+    /**
+     * Publish message to all subscribers, including the subscribers of current node.
+     *
+     * @param message message
+     */
+    void publish(Message message);
+
+    /**
+     * Subscribe messages.
+     *
+     * @param listener listener
+     */
+    void subscribe(Consumer<Message> listener);
+
+    /**
+     * Message of cache invalidation.
+     *
+     * @author huangchengxing
+     * @since 2.6.0
+     */
+    @ToString
+    @Getter
+    @RequiredArgsConstructor
+    class Message {
+
+        /**
+         * id of the node which published the message
+         */
+        private final String source;
+
+        /**
+         * name of the invalidated cache
+         */
+        private final String cacheName;
+
+        /**
+         * string form of the invalidated keys, null means all keys of the cache are invalidated
+         */
+        @Nullable
+        private final Collection<String> keys;
+
+        /**
+         * Whether all keys of the cache are invalidated.
+         *
+         * @return true if all keys are invalidated
+         */
+        public boolean isInvalidateAll() {
+            return Objects.isNull(keys);
+        }
+    }
+}
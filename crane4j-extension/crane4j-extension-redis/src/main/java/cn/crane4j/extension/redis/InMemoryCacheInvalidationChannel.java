@@ -0,0 +1,37 @@
+package cn.crane4j.extension.redis;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * <p>A {@link CacheInvalidationChannel} implementation which delivers messages in current JVM synchronously.<br />
+ * It can be shared by multiple {@link TwoLevelCacheManager} to simulate multiple nodes in tests.
+ *
+ * @author huangchengxing
+ * @since 2.6.0
+ */
+public class InMemoryCacheInvalidationChannel implements CacheInvalidationChannel {
+
+    private final List<Consumer<Message>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Publish message to all subscribers.
+     *
+     * @param message message
+     */
+    @Override
+    public void publish(Message message) {
+        listeners.forEach(listener -> listener.accept(message));
+    }
+
+    /**
+     * Subscribe messages.
+     *
+     * @param listener listener
+     */
+    @Override
+    public void subscribe(Consumer<Message> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,143 @@
+package cn.crane4j.extension.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * <p>A {@link CacheInvalidationChannel} implementation based on redis pub/sub.<br />
+ * The messages are encoded as UTF-8 strings whose fields are separated by {@code '\0'},
+ * so they are independent of the serializers of {@link org.springframework.data.redis.core.RedisTemplate}.
+ *
+ * <p>Redis pub/sub does not guarantee delivery,
+ * so the local cache should have an expire time to limit the staleness when messages are lost.
+ *
+ * @author huangchengxing
+ * @see TwoLevelCacheManager
+ * @since 2.6.0
+ */
+@Slf4j
+public class RedisCacheInvalidationChannel implements CacheInvalidationChannel {
+
+    /**
+     * default topic of invalidation messages
+     */
+    public static final String DEFAULT_TOPIC = "crane4j:cache:invalidation";
+    private static final String SEPARATOR = "\0";
+    private static final String ALL_KEYS = "A";
+    private static final String SPECIFIED_KEYS = "K";
+
+    private final RedisConnectionFactory connectionFactory;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String topic;
+
+    /**
+     * Create a channel.
+     *
+     * @param connectionFactory connection factory used to publish messages
+     * @param listenerContainer listener container used to subscribe messages, it should be started by caller
+     * @param topic topic of messages
+     */
+    public RedisCacheInvalidationChannel(
+        @NonNull RedisConnectionFactory connectionFactory,
+        @NonNull RedisMessageListenerContainer listenerContainer, @NonNull String topic) {
+        this.connectionFactory = connectionFactory;
+        this.listenerContainer = listenerContainer;
+        this.topic = topic;
+    }
+
+    /**
+     * Create a channel with {@link #DEFAULT_TOPIC}.
+     *
+     * @param connectionFactory connection factory used to publish messages
+     * @param listenerContainer listener container used to subscribe messages, it should be started by caller
+     */
+    public RedisCacheInvalidationChannel(
+        @NonNull RedisConnectionFactory connectionFactory, @NonNull RedisMessageListenerContainer listenerContainer) {
+        this(connectionFactory, listenerContainer, DEFAULT_TOPIC);
+    }
+
+    /**
+     * Publish message to all subscribers.
+     *
+     * @param message message
+     */
+    @Override
+    public void publish(Message message) {
+        byte[] channel = topic.getBytes(StandardCharsets.UTF_8);
+        byte[] body = encode(message).getBytes(StandardCharsets.UTF_8);
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.publish(channel, body);
+        }
+    }
+
+    /**
+     * Subscribe messages.
+     *
+     * @param listener listener
+     */
+    @Override
+    public void subscribe(Consumer<Message> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            Message decoded = decode(new String(message.getBody(), StandardCharsets.UTF_8));
+            if (Objects.isNull(decoded)) {
+                log.warn("ignore invalid cache invalidation message from topic [{}]", topic);
+                return;
+            }
+            listener.accept(decoded);
+        }, new ChannelTopic(topic));
+    }
+
+    /**
+     * Encode message to string.
+     *
+     * @param message message
+     * @return encoded message
+     */
+    static String encode(Message message) {
+        StringBuilder builder = new StringBuilder()
+            .append(message.getSource()).append(SEPARATOR)
+            .append(message.getCacheName()).append(SEPARATOR);
+        Collection<String> keys = message.getKeys();
+        if (Objects.isNull(keys)) {
+            return builder.append(ALL_KEYS).toString();
+        }
+        builder.append(SPECIFIED_KEYS);
+        keys.forEach(key -> builder.append(SEPARATOR).append(key));
+        return builder.toString();
+    }
+
+    /**
+     * Decode message from string.
+     *
+     * @param encoded encoded message
+     * @return message, null if the string is not a valid message
+     */
+    @Nullable
+    static Message decode(String encoded) {
+        String[] fields = encoded.split(SEPARATOR, -1);
+        if (fields.length < 3) {
+            return null;
+        }
+        if (ALL_KEYS.equals(fields[2])) {
+            return new Message(fields[0], fields[1], null);
+        }
+        if (!SPECIFIED_KEYS.equals(fields[2])) {
+            return null;
+        }
+        List<String> keys = new ArrayList<>(Arrays.asList(fields).subList(3, fields.length));
+        return new Message(fields[0], fields[1], keys);
+    }
+}
@@ -0,0 +1,390 @@
+package cn.crane4j.extension.redis;
+
+import cn.crane4j.core.cache.AbstractCacheManager;
+import cn.crane4j.core.cache.CacheManager;
+import cn.crane4j.core.cache.CacheObject;
+import cn.crane4j.core.util.CollectionUtils;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>A two-level cache manager which layers a bounded local cache (L1)
+ * in front of a remote cache manager (L2), such as {@link StringKeyRedisCacheManager}.<br />
+ * The values are read through and written through both levels,
+ * and {@link CacheObject#getAll} only queries the remote cache for the keys which are missed in local cache.
+ *
+ * <p>When the values are updated or removed in current node,
+ * such as {@link CacheObject#put}, {@link TwoLevelCacheObject#updateAll}, {@link CacheObject#remove}
+ * and {@link CacheObject#clear}, the string form of keys will be broadcast by {@link CacheInvalidationChannel},
+ * and the other nodes will remove them from their local caches.
+ * The values filled after loading from data source, which are put by {@link CacheObject#putAll}
+ * and {@link CacheObject#putNullValues}, will not be broadcast,
+ * so a cache miss in one node will not evict the local caches of other nodes.
+ * The keys in local cache are also identified by their string form,
+ * which is same as {@link StringKeyRedisCacheManager}.
+ *
+ * <p>The manager subscribes the invalidation messages in {@link #init()},
+ * which is called when the first cache is created if it has not been called.
+ *
+ * <p>The local cache will expire after the expiry time of cache or {@link #localExpireTime},
+ * whichever is shorter, and it will evict the least recently used entries
+ * when the number of entries exceeds {@link #localMaximumSize}.
+ *
+ * @author huangchengxing
+ * @see CacheInvalidationChannel
+ * @see RedisCacheInvalidationChannel
+ * @since 2.6.0
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractCacheManager {
+
+    /**
+     * id of current node
+     */
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+    private final CacheManager remoteCacheManager;
+    private final CacheInvalidationChannel invalidationChannel;
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    /**
+     * maximum number of entries in the local cache of each cache object
+     */
+    @Setter
+    private long localMaximumSize = 10000L;
+
+    /**
+     * expire time of local cache, non-positive value means same as the cache
+     */
+    @Setter
+    private long localExpireTime = -1L;
+
+    /**
+     * time unit of {@link #localExpireTime}
+     */
+    @NonNull
+    @Setter
+    private TimeUnit localTimeUnit = TimeUnit.MILLISECONDS;
+
+    /**
+     * Create a two-level cache manager.
+     *
+     * @param remoteCacheManager remote cache manager
+     * @param invalidationChannel channel to broadcast invalidation of local cache
+     */
+    public TwoLevelCacheManager(
+        @NonNull CacheManager remoteCacheManager, @NonNull CacheInvalidationChannel invalidationChannel) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.invalidationChannel = invalidationChannel;
+    }
+
+    /**
+     * Subscribe the invalidation messages from other nodes,
+     * it takes effect only when it's called for the first time.
+     */
+    public void init() {
+        if (subscribed.compareAndSet(false, true)) {
+            invalidationChannel.subscribe(this::onInvalidation);
+        }
+    }
+
+    /**
+     * Create cache instance.
+     *
+     * @param name       cache name
+     * @param expireTime expire time
+     * @param timeUnit   time unit
+     * @return cache instance
+     */
+    @NonNull
+    @Override
+    protected <K> TwoLevelCacheObject<K> doCreateCache(String name, Long expireTime, TimeUnit timeUnit) {
+        init();
+        CacheObject<K> remote = remoteCacheManager.createCache(name, expireTime, timeUnit);
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(localMaximumSize);
+        long localExpireNanos = localExpireTime > 0 ? localTimeUnit.toNanos(localExpireTime) : Long.MAX_VALUE;
+        if (Objects.nonNull(expireTime) && expireTime > 0) {
+            localExpireNanos = Math.min(localExpireNanos, timeUnit.toNanos(expireTime));
+        }
+        if (localExpireNanos < Long.MAX_VALUE) {
+            builder.expireAfterWrite(localExpireNanos, TimeUnit.NANOSECONDS);
+        }
+        return new TwoLevelCacheObject<>(name, builder.build(), remote);
+    }
+
+    /**
+     * Remove cache from both levels.
+     *
+     * @param name cache name
+     */
+    @Override
+    public void removeCache(String name) {
+        super.removeCache(name);
+        remoteCacheManager.removeCache(name);
+    }
+
+    /**
+     * Clear all cache of both levels.
+     */
+    @Override
+    public void clearAll() {
+        super.clearAll();
+        remoteCacheManager.clearAll();
+    }
+
+    /**
+     * Remove the invalidated keys from local cache,
+     * the messages published by current node will be ignored.
+     *
+     * @param message message
+     */
+    protected void onInvalidation(CacheInvalidationChannel.Message message) {
+        if (Objects.equals(nodeId, message.getSource())) {
+            return;
+        }
+        CacheObject<?> cacheObject = getCache(message.getCacheName());
+        if (!(cacheObject instanceof TwoLevelCacheObject)) {
+            return;
+        }
+        TwoLevelCacheObject<?> cache = (TwoLevelCacheObject<?>)cacheObject;
+        if (message.isInvalidateAll()) {
+            cache.local.invalidateAll();
+        } else {
+            cache.local.invalidateAll(message.getKeys());
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("invalidate local cache [{}] by message from node [{}]", message.getCacheName(), message.getSource());
+        }
+    }
+
+    private static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    /**
+     * Two-level cache object.
+     *
+     * @author huangchengxing
+     * @since 2.6.0
+     */
+    protected class TwoLevelCacheObject<K> extends AbstractCacheObject<K> {
+
+        private final Cache<String, Object> local;
+        private final CacheObject<K> remote;
+
+        protected TwoLevelCacheObject(String name, Cache<String, Object> local, CacheObject<K> remote) {
+            super(name);
+            this.local = local;
+            this.remote = remote;
+        }
+
+        /**
+         * Get the cache according to the key value,
+         * if it's not found in local cache, get it from remote cache.
+         *
+         * @param key key
+         * @return cache value
+         */
+        @Nullable
+        @Override
+        public Object get(K key) {
+            String localKey = toLocalKey(key);
+            Object value = getLocal(localKey);
+            if (Objects.nonNull(value)) {
+                return value;
+            }
+            value = remote.get(key);
+            if (Objects.nonNull(value)) {
+                local.put(localKey, value);
+            }
+            return value;
+        }
+
+        /**
+         * Get all cache according to the key values,
+         * only the keys which are missed in local cache will be queried from remote cache.
+         *
+         * @param keys keys
+         * @return cache value
+         */
+        @Override
+        public Map<K, Object> getAll(Iterable<K> keys) {
+            if (CollectionUtils.isEmpty(keys)) {
+                return Collections.emptyMap();
+            }
+            Map<K, Object> results = new HashMap<>(16);
+            List<K> residualKeys = new ArrayList<>();
+            for (K key : keys) {
+                Object value = getLocal(toLocalKey(key));
+                if (Objects.nonNull(value)) {
+                    results.put(key, value);
+                } else {
+                    residualKeys.add(key);
+                }
+            }
+            if (residualKeys.isEmpty()) {
+                return results;
+            }
+            Map<K, Object> remoteValues = remote.getAll(residualKeys);
+            remoteValues.forEach((key, value) -> {
+                if (Objects.nonNull(value)) {
+                    local.put(toLocalKey(key), value);
+                    results.put(key, value);
+                }
+            });
+            return results;
+        }
+
+        /**
+         * Add cache value.
+         *
+         * @param key   key
+         * @param value value
+         */
+        @Override
+        public void put(K key, Object value) {
+            remote.put(key, value);
+            local.put(toLocalKey(key), value);
+            broadcast(Collections.singletonList(key));
+        }
+
+        /**
+         * Add all cache value,
+         * it's used to fill the values loaded from data source, so the keys will not be broadcast.
+         *
+         * @param caches caches
+         * @see #updateAll
+         */
+        @Override
+        public void putAll(Map<K, Object> caches) {
+            if (CollectionUtils.isEmpty(caches)) {
+                return;
+            }
+            remote.putAll(caches);
+            caches.forEach((key, value) -> local.put(toLocalKey(key), value));
+        }
+
+        /**
+         * Update all cache value,
+         * and the keys will be broadcast to remove them from the local caches of other nodes.
+         *
+         * @param caches caches
+         */
+        public void updateAll(Map<K, Object> caches) {
+            if (CollectionUtils.isEmpty(caches)) {
+                return;
+            }
+            putAll(caches);
+            broadcast(caches.keySet());
+        }
+
+        /**
+         * Add cache value if it does not exist,
+         * the value in local cache will be reloaded from remote cache when it's accessed next time.
+         *
+         * @param key   key
+         * @param value cache value
+         */
+        @Override
+        public void putIfAbsent(K key, Object value) {
+            remote.putIfAbsent(key, value);
+            local.invalidate(toLocalKey(key));
+            broadcast(Collections.singletonList(key));
+        }
+
+        /**
+         * Cache {@link #NULL_VALUE} for the keys that have no data in both levels,
+         * the keys will not be broadcast.
+         *
+         * @param keys       keys
+         * @param expireTime expire time of null values, non-positive value means same as other values
+         * @param timeUnit   time unit
+         */
+        @Override
+        public void putNullValues(Collection<K> keys, long expireTime, TimeUnit timeUnit) {
+            if (CollectionUtils.isEmpty(keys)) {
+                return;
+            }
+            remote.putNullValues(keys, expireTime, timeUnit);
+            Object nullValue = createNullValue(expireTime, timeUnit);
+            keys.forEach(key -> local.put(toLocalKey(key), nullValue));
+        }
+
+        /**
+         * Remove cache value.
+         *
+         * @param key key
+         */
+        @Override
+        public void remove(K key) {
+            remote.remove(key);
+            local.invalidate(toLocalKey(key));
+            broadcast(Collections.singletonList(key));
+        }
+
+        /**
+         * Remove all cache value.
+         *
+         * @param keys keys
+         */
+        @Override
+        public void removeAll(Iterable<K> keys) {
+            if (CollectionUtils.isEmpty(keys)) {
+                return;
+            }
+            List<K> keyList = StreamSupport.stream(keys.spliterator(), false)
+                .collect(Collectors.toList());
+            remote.removeAll(keyList);
+            keyList.forEach(key -> local.invalidate(toLocalKey(key)));
+            broadcast(keyList);
+        }
+
+        /**
+         * Clear all cache value.
+         */
+        @Override
+        public void clear() {
+            remote.clear();
+            local.invalidateAll();
+            invalidationChannel.publish(new CacheInvalidationChannel.Message(nodeId, getName(), null));
+        }
+
+        @Nullable
+        private Object getLocal(String localKey) {
+            Object value = local.getIfPresent(localKey);
+            if (value instanceof ExpirableNullValue) {
+                if (((ExpirableNullValue)value).isExpired()) {
+                    local.asMap().remove(localKey, value);
+                    return null;
+                }
+                return NULL_VALUE;
+            }
+            return value;
+        }
+
+        private void broadcast(Collection<K> keys) {
+            List<String> localKeys = keys.stream()
+                .map(TwoLevelCacheManager::toLocalKey)
+                .collect(Collectors.toList());
+            invalidationChannel.publish(new CacheInvalidationChannel.Message(nodeId, getName(), localKeys));
+        }
+    }
+}
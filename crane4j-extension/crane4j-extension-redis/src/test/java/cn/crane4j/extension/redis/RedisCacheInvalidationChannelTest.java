@@ -0,0 +1,76 @@
+package cn.crane4j.extension.redis;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * test for {@link RedisCacheInvalidationChannel}
+ *
+ * @author huangchengxing
+ */
+public class RedisCacheInvalidationChannelTest {
+
+    @Test
+    public void encodeAndDecode() {
+        CacheInvalidationChannel.Message message = new CacheInvalidationChannel.Message(
+            "node", "cache", Arrays.asList("1", "", "a:b")
+        );
+        CacheInvalidationChannel.Message decoded = RedisCacheInvalidationChannel.decode(
+            RedisCacheInvalidationChannel.encode(message)
+        );
+        Assert.assertNotNull(decoded);
+        Assert.assertEquals("node", decoded.getSource());
+        Assert.assertEquals("cache", decoded.getCacheName());
+        Assert.assertEquals(message.getKeys(), decoded.getKeys());
+
+        decoded = RedisCacheInvalidationChannel.decode(
+            RedisCacheInvalidationChannel.encode(new CacheInvalidationChannel.Message("node", "cache", null))
+        );
+        Assert.assertNotNull(decoded);
+        Assert.assertTrue(decoded.isInvalidateAll());
+
+        Assert.assertNull(RedisCacheInvalidationChannel.decode("invalid"));
+        Assert.assertNull(RedisCacheInvalidationChannel.decode("node\0cache\0X"));
+    }
+
+    @Test
+    public void publishAndSubscribe() {
+        RedisConnectionFactory connectionFactory = Mockito.mock(RedisConnectionFactory.class);
+        RedisConnection connection = Mockito.mock(RedisConnection.class);
+        Mockito.when(connectionFactory.getConnection()).thenReturn(connection);
+        RedisMessageListenerContainer listenerContainer = Mockito.mock(RedisMessageListenerContainer.class);
+        RedisCacheInvalidationChannel channel = new RedisCacheInvalidationChannel(connectionFactory, listenerContainer);
+
+        List<CacheInvalidationChannel.Message> received = new ArrayList<>();
+        channel.subscribe(received::add);
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        Mockito.verify(listenerContainer).addMessageListener(
+            listener.capture(), Mockito.eq(new ChannelTopic(RedisCacheInvalidationChannel.DEFAULT_TOPIC))
+        );
+
+        channel.publish(new CacheInvalidationChannel.Message("node", "cache", null));
+        byte[] topic = RedisCacheInvalidationChannel.DEFAULT_TOPIC.getBytes(StandardCharsets.UTF_8);
+        ArgumentCaptor<byte[]> body = ArgumentCaptor.forClass(byte[].class);
+        Mockito.verify(connection).publish(Mockito.eq(topic), body.capture());
+        Mockito.verify(connection).close();
+
+        // deliver the published message to listener
+        listener.getValue().onMessage(new DefaultMessage(topic, body.getValue()), null);
+        Assert.assertEquals(1, received.size());
+        Assert.assertEquals("cache", received.get(0).getCacheName());
+        Assert.assertTrue(received.get(0).isInvalidateAll());
+    }
+}
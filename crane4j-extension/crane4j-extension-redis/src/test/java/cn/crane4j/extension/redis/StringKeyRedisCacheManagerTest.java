@@ -76,6 +76,17 @@ public class StringKeyRedisCacheManagerTest {
         redisTemplate.delete(resolveCacheKey("key2"));
     }
 
+    @Test
+    public void testPutNullValues() {
+        cache.putNullValues(Arrays.asList("key1", "key2"), 1L, TimeUnit.MINUTES);
+        Assert.assertTrue(CacheObject.isNullValue(cache.get("key1")));
+        Assert.assertTrue(CacheObject.isNullValue(cache.getAll(Arrays.asList("key1", "key2")).get("key2")));
+        Long ttl = redisTemplate.getExpire(resolveCacheKey("key1"), TimeUnit.MILLISECONDS);
+        Assert.assertTrue(ttl > EXPIRE_TIME);
+        redisTemplate.delete(resolveCacheKey("key1"));
+        redisTemplate.delete(resolveCacheKey("key2"));
+    }
+
     @Test
     public void testGet() {
         redisTemplate.opsForValue().set(resolveCacheKey("key"), "value");
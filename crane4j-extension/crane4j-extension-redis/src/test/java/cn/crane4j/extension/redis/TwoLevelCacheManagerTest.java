@@ -0,0 +1,170 @@
+package cn.crane4j.extension.redis;
+
+import cn.crane4j.core.cache.CacheObject;
+import cn.crane4j.core.cache.MapCacheManager;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * test for {@link TwoLevelCacheManager}
+ *
+ * @author huangchengxing
+ */
+public class TwoLevelCacheManagerTest {
+
+    private static final String CACHE_NAME = "test";
+
+    private CountingMap remoteStorage;
+    private TwoLevelCacheManager node1;
+    private TwoLevelCacheManager node2;
+    private CacheObject<Integer> cache1;
+    private CacheObject<Integer> cache2;
+
+    @Before
+    public void init() {
+        // two nodes share the same remote storage and invalidation channel
+        remoteStorage = new CountingMap();
+        InMemoryCacheInvalidationChannel channel = new InMemoryCacheInvalidationChannel();
+        node1 = new TwoLevelCacheManager(new SharedMapCacheManager(remoteStorage), channel);
+        node2 = new TwoLevelCacheManager(new SharedMapCacheManager(remoteStorage), channel);
+        cache1 = node1.createCache(CACHE_NAME, -1L, TimeUnit.MILLISECONDS);
+        cache2 = node2.createCache(CACHE_NAME, -1L, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void testReadThrough() {
+        cache1.put(1, "one");
+        Assert.assertEquals("one", remoteStorage.get(1));
+
+        // load from remote cache only once
+        remoteStorage.reads.set(0);
+        Assert.assertEquals("one", cache2.get(1));
+        Assert.assertEquals("one", cache2.get(1));
+        Assert.assertEquals(1, remoteStorage.reads.get());
+        Assert.assertNull(cache2.get(2));
+        Assert.assertEquals(2, remoteStorage.reads.get());
+    }
+
+    @Test
+    public void testGetAll() {
+        Map<Integer, Object> values = new HashMap<>();
+        values.put(1, "one");
+        values.put(2, "two");
+        cache1.putAll(values);
+        Assert.assertEquals("one", cache2.get(1));
+
+        // only residual keys are queried from remote cache
+        remoteStorage.reads.set(0);
+        Map<Integer, Object> results = cache2.getAll(Arrays.asList(1, 2, 3));
+        Assert.assertEquals(values, results);
+        Assert.assertEquals(2, remoteStorage.reads.get());
+
+        remoteStorage.reads.set(0);
+        Assert.assertEquals(values, cache2.getAll(Arrays.asList(1, 2)));
+        Assert.assertEquals(0, remoteStorage.reads.get());
+        Assert.assertTrue(cache2.getAll(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void testInvalidation() {
+        cache1.put(1, "one");
+        Assert.assertEquals("one", cache2.get(1));
+
+        // write in node1, invalidate local cache of node2
+        cache1.put(1, "new one");
+        Assert.assertEquals("new one", cache2.get(1));
+
+        // remove in node2, invalidate local cache of node1
+        Assert.assertEquals("new one", cache1.get(1));
+        cache2.remove(1);
+        Assert.assertNull(cache1.get(1));
+
+        // clear in node1, invalidate local cache of node2
+        cache2.put(2, "two");
+        Assert.assertEquals("two", cache1.get(2));
+        cache1.clear();
+        Assert.assertNull(cache2.get(2));
+    }
+
+    @Test
+    public void testLoadWithoutInvalidation() {
+        cache1.put(1, "one");
+        Assert.assertEquals("one", cache2.get(1));
+
+        // the values filled after loading are not broadcast
+        cache1.putAll(Collections.singletonMap(1, "new one"));
+        cache1.putNullValues(Collections.singletonList(2), -1L, TimeUnit.MILLISECONDS);
+        Assert.assertEquals("one", cache2.get(1));
+
+        // the updated values are broadcast
+        TwoLevelCacheManager.TwoLevelCacheObject<Integer> cache = (TwoLevelCacheManager.TwoLevelCacheObject<Integer>)cache1;
+        cache.updateAll(Collections.singletonMap(1, "newer one"));
+        Assert.assertEquals("newer one", cache2.get(1));
+    }
+
+    @Test
+    public void testInit() {
+        AtomicInteger subscriptions = new AtomicInteger(0);
+        InMemoryCacheInvalidationChannel channel = new InMemoryCacheInvalidationChannel() {
+            @Override
+            public void subscribe(Consumer<Message> listener) {
+                subscriptions.incrementAndGet();
+                super.subscribe(listener);
+            }
+        };
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(new SharedMapCacheManager(remoteStorage), channel);
+        Assert.assertEquals(0, subscriptions.get());
+        manager.createCache(CACHE_NAME, -1L, TimeUnit.MILLISECONDS);
+        manager.init();
+        Assert.assertEquals(1, subscriptions.get());
+    }
+
+    @Test
+    public void testPutNullValues() {
+        cache1.putNullValues(Collections.singletonList(1), -1L, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(CacheObject.isNullValue(cache1.get(1)));
+        Assert.assertTrue(CacheObject.isNullValue(cache2.get(1)));
+        cache1.put(1, "one");
+        Assert.assertEquals("one", cache2.get(1));
+    }
+
+    @Test
+    public void testRemoveCache() {
+        cache1.put(1, "one");
+        node1.removeCache(CACHE_NAME);
+        Assert.assertTrue(cache1.isInvalid());
+        Assert.assertNull(node1.getCache(CACHE_NAME));
+        Assert.assertTrue(remoteStorage.isEmpty());
+    }
+
+    private static class SharedMapCacheManager extends MapCacheManager {
+        private final Map<?, Object> storage;
+        SharedMapCacheManager(Map<?, Object> storage) {
+            this.storage = storage;
+        }
+        @SuppressWarnings("unchecked")
+        @Override
+        protected <K> Map<K, Object> createMap() {
+            return (Map<K, Object>)storage;
+        }
+    }
+
+    private static class CountingMap extends ConcurrentHashMap<Object, Object> {
+        private final AtomicInteger reads = new AtomicInteger(0);
+        @Override
+        public Object get(Object key) {
+            reads.incrementAndGet();
+            return super.get(key);
+        }
+    }
+}
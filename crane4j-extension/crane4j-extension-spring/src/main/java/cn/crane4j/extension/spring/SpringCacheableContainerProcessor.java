@@ -38,7 +38,8 @@ public class SpringCacheableContainerProcessor extends CacheableContainerProcess
         ContainerCache annotation = findAnnotation(container);
         return Objects.isNull(annotation) ? null : new CacheDefinition.Impl(
             container.getNamespace(), annotation.cacheManager(),
-            annotation.expirationTime(), annotation.timeUnit()
+            annotation.expirationTime(), annotation.timeUnit(),
+            annotation.cacheNullValue(), annotation.nullValueExpirationTime(), annotation.refreshAfterWriteTime()
         );
     }
 
@@ -21,6 +21,7 @@ import cn.crane4j.core.container.lifecycle.ContainerRegisterLogger;
 import cn.crane4j.core.executor.BeanOperationExecutor;
 import cn.crane4j.core.executor.DisorderedBeanOperationExecutor;
 import cn.crane4j.core.executor.OrderedBeanOperationExecutor;
+import cn.crane4j.core.executor.VirtualThreadBeanOperationExecutor;
 import cn.crane4j.core.executor.handler.ManyToManyAssembleOperationHandler;
 import cn.crane4j.core.executor.handler.OneToManyAssembleOperationHandler;
 import cn.crane4j.core.executor.handler.OneToOneAssembleOperationHandler;
@@ -488,6 +489,17 @@ public class Crane4jAutoConfiguration {
         return new OrderedBeanOperationExecutor(containerManager, Comparator.comparing(AssembleOperation::getSort));
     }
 
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(
+        prefix = CRANE_PREFIX,
+        name = "enable-virtual-thread-executor",
+        havingValue = "true"
+    )
+    @Bean(destroyMethod = "close")
+    public VirtualThreadBeanOperationExecutor virtualThreadBeanOperationExecutor(ContainerManager containerManager) {
+        return new VirtualThreadBeanOperationExecutor(containerManager);
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public MethodInvokerContainerCreator methodInvokerContainerCreator(PropertyOperator propertyOperator, ConverterManager converterManager) {
@@ -766,6 +778,15 @@ public class Crane4jAutoConfiguration {
          */
         private boolean enableMethodContainer = true;
 
+        /**
+         * <p>Whether to register the {@link VirtualThreadBeanOperationExecutor}.<br />
+         * It requires JDK 21 or later, otherwise an exception will be thrown when the application starts.
+         *
+         * @see VirtualThreadBeanOperationExecutor
+         * @since 2.6.0
+         */
+        private boolean enableVirtualThreadExecutor = false;
+
         /**
          * Container cache configuration.
          */